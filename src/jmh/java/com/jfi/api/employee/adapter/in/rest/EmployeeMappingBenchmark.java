@@ -0,0 +1,182 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EmployeeMappingBenchmark {
+
+    private Employee employee;
+    private EmployeeRequest request;
+    private EmployeeDTO dto;
+    private ObjectMapper objectMapper;
+    private DataBufferFactory bufferFactory;
+    private Jackson2JsonEncoder encoder;
+    private ResolvableType dtoType;
+    private EmployeeProjection<DataBuffer> ndjsonLines;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private EmployeeProtobufEncoder protobufEncoder;
+    private EmployeeProtobufDecoder protobufDecoder;
+    private ResolvableType requestType;
+    private byte[] requestJson;
+    private byte[] requestCbor;
+    private byte[] requestSmile;
+    private byte[] requestProtobuf;
+
+    @Setup
+    public void setup() {
+        employee = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Juan")
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+        request = new EmployeeRequest(
+            "Juan",
+            "dela Cruz",
+            EmployeeType.WORKER
+        );
+        dto = EmployeeDTO.from(employee);
+        // Same defaults Spring Boot applies to the WebFlux codecs
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        encoder = new Jackson2JsonEncoder(objectMapper);
+        dtoType = ResolvableType.forClass(EmployeeDTO.class);
+        ndjsonLines = new EmployeeNdjsonWriter(objectMapper).lines(
+            bufferFactory
+        );
+        cborMapper = objectMapper.copyWith(new CBORFactory());
+        smileMapper = objectMapper.copyWith(new SmileFactory());
+        protobufEncoder = new EmployeeProtobufEncoder();
+        protobufDecoder = new EmployeeProtobufDecoder();
+        requestType = ResolvableType.forClass(EmployeeRequest.class);
+        try {
+            requestJson = objectMapper.writeValueAsBytes(request);
+            requestCbor = cborMapper.writeValueAsBytes(request);
+            requestSmile = smileMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        requestProtobuf = new byte[] {
+            0x0a, 4, 'J', 'u', 'a', 'n',
+            0x12, 9, 'd', 'e', 'l', 'a', ' ', 'C', 'r', 'u', 'z',
+            0x18, 1,
+        };
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeDtoFrom() {
+        return EmployeeDTO.from(employee);
+    }
+
+    @Benchmark
+    public Employee employeeRequestToEmployee() {
+        return request.toEmployee();
+    }
+
+    @Benchmark
+    public byte[] employeeDtoToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    // An export row through the codec path versus the direct NDJSON path
+    @Benchmark
+    public DataBuffer employeeToNdjsonThroughCodec() {
+        return encoder.encodeValue(
+            EmployeeDTO.from(employee),
+            bufferFactory,
+            dtoType,
+            MediaType.APPLICATION_NDJSON,
+            null
+        );
+    }
+
+    @Benchmark
+    public DataBuffer employeeFieldsToNdjsonLine() {
+        return ndjsonLines.project(
+            employee.getUuid(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType(),
+            employee.getVersion()
+        );
+    }
+
+    // The same employee in each wire format, written and read
+    @Benchmark
+    public byte[] employeeDtoToCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] employeeDtoToSmile() throws JsonProcessingException {
+        return smileMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public DataBuffer employeeDtoToProtobuf() {
+        return protobufEncoder.encodeValue(
+            dto,
+            bufferFactory,
+            dtoType,
+            EmployeeProtobuf.APPLICATION_PROTOBUF,
+            null
+        );
+    }
+
+    @Benchmark
+    public EmployeeRequest employeeRequestFromJson() throws IOException {
+        return objectMapper.readValue(requestJson, EmployeeRequest.class);
+    }
+
+    @Benchmark
+    public EmployeeRequest employeeRequestFromCbor() throws IOException {
+        return cborMapper.readValue(requestCbor, EmployeeRequest.class);
+    }
+
+    @Benchmark
+    public EmployeeRequest employeeRequestFromSmile() throws IOException {
+        return smileMapper.readValue(requestSmile, EmployeeRequest.class);
+    }
+
+    @Benchmark
+    public Object employeeRequestFromProtobuf() {
+        return protobufDecoder.decode(
+            bufferFactory.wrap(requestProtobuf),
+            requestType,
+            EmployeeProtobuf.APPLICATION_PROTOBUF,
+            null
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+// Per-row cost of turning a result row into an Employee, over one result of
+// ROWS rows as in a page or export scan. Rows are pre-decoded, so only the
+// mapping is measured, not the driver. readingConverter is the repository path,
+// which finds the columns for every row; resultMapper is the adapter's, which
+// finds them once per result.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EmployeeRowMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private FakeRow[] rows;
+    private MappingR2dbcConverter reflectiveConverter;
+    private MappingR2dbcConverter customConverter;
+
+    @Setup
+    public void setup() {
+        FakeRow.Metadata metadata = FakeRow.columns(
+            "uuid",
+            "first_name",
+            "last_name",
+            "employee_type",
+            "version"
+        );
+        EmployeeType[] types = EmployeeType.values();
+        rows = new FakeRow[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = metadata.row(
+                UUID.randomUUID(),
+                "Juan",
+                "dela Cruz",
+                types[i % types.length].name(),
+                (long) i
+            );
+        }
+        reflectiveConverter = new MappingR2dbcConverter(
+            new R2dbcMappingContext(),
+            R2dbcCustomConversions.of(PostgresDialect.INSTANCE, List.of())
+        );
+        customConverter = new MappingR2dbcConverter(
+            new R2dbcMappingContext(),
+            R2dbcCustomConversions.of(
+                PostgresDialect.INSTANCE,
+                List.of(new EmployeeReadingConverter())
+            )
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reflectiveMapping(Blackhole blackhole) {
+        for (FakeRow row : rows) {
+            blackhole.consume(
+                reflectiveConverter.read(Employee.class, row, row.getMetadata())
+            );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void readingConverter(Blackhole blackhole) {
+        for (FakeRow row : rows) {
+            blackhole.consume(
+                customConverter.read(Employee.class, row, row.getMetadata())
+            );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void resultMapper(Blackhole blackhole) {
+        BiFunction<Row, RowMetadata, Employee> mapper =
+            EmployeeReadingConverter.rows(Employee::new);
+        for (FakeRow row : rows) {
+            blackhole.consume(mapper.apply(row, row.getMetadata()));
+        }
+    }
+}
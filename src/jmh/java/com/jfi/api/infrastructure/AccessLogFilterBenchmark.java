@@ -0,0 +1,58 @@
+package com.jfi.api.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// Each invocation builds a fresh exchange; newExchange measures that cost alone
+// so it can be subtracted from the filter benchmark.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AccessLogFilterBenchmark {
+
+    private AccessLogFilter accessLogFilter;
+    private WebFilterChain emptyChain;
+
+    @Setup
+    public void setup() {
+        accessLogFilter = new AccessLogFilter(
+            new TimeOrderedRequestIdGenerator()
+        );
+        emptyChain = exchange -> Mono.empty();
+    }
+
+    @Benchmark
+    public MockServerWebExchange newExchange() {
+        return exchange();
+    }
+
+    @Benchmark
+    public Void accessLogFilter() {
+        return accessLogFilter.filter(exchange(), emptyChain).block();
+    }
+
+    private MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/employees").build()
+        );
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange;
+    }
+}
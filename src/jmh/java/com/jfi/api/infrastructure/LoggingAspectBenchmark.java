@@ -0,0 +1,83 @@
+package com.jfi.api.infrastructure;
+
+import com.jfi.api.infrastructure.LoggingAspectProperties.Layer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class LoggingAspectBenchmark {
+
+    @Param({ "FULL", "SAMPLED", "OFF" })
+    private LoggingAspectProperties.Mode mode;
+
+    private LoggingAspect loggingAspect;
+    private ProceedingJoinPoint monoJoinPoint;
+    private ProceedingJoinPoint fluxJoinPoint;
+    private Context context;
+
+    @Setup
+    public void setup() {
+        Layer layer = new Layer(mode, 0.01);
+        loggingAspect = new LoggingAspect(
+            new LoggingAspectProperties(layer, layer, layer)
+        );
+        monoJoinPoint = new LoggingAspectTest.FakeJoinPoint(
+            "getEmployeeById",
+            "EmployeeRESTController",
+            new Object[] { UUID.randomUUID() },
+            Mono.just("employee")
+        );
+        fluxJoinPoint = new LoggingAspectTest.FakeJoinPoint(
+            "getAllEmployees",
+            "EmployeeRESTController",
+            new Object[] {},
+            Flux.just("a", "b", "c")
+        );
+        context = Context.of(
+            AccessLogFilter.REQUEST_ID_KEY,
+            UUID.randomUUID().toString()
+        );
+    }
+
+    @Benchmark
+    public void unwrappedMono(Blackhole blackhole) {
+        Mono.just("employee")
+            .contextWrite(context)
+            .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void loggedMono(Blackhole blackhole) throws Throwable {
+        ((Mono<?>) loggingAspect.logRestLayer(monoJoinPoint))
+            .contextWrite(context)
+            .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void loggedFlux(Blackhole blackhole) throws Throwable {
+        ((Flux<?>) loggingAspect.logRestLayer(fluxJoinPoint))
+            .contextWrite(context)
+            .subscribe(blackhole::consume);
+    }
+}
@@ -0,0 +1,183 @@
+package com.jfi.api.employee.adapter.in.grpc;
+
+import com.jfi.api.employee.adapter.in.grpc.proto.EmployeeServiceGrpc;
+import com.jfi.api.employee.adapter.in.grpc.proto.EmployeeServiceProto;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeePage;
+import com.jfi.api.employee.port.in.EmployeeService;
+import io.grpc.stub.StreamObserver;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// The EmployeeService port over gRPC, per src/main/proto/employee_service.proto.
+// Requests are parsed inside the Mono or Flux so a bad one fails the call with
+// a status instead of throwing on the transport thread.
+@Component
+public class EmployeeGrpcService
+    extends EmployeeServiceGrpc.EmployeeServiceImplBase {
+
+    // As in GET /employees
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final EmployeeService employeeService;
+
+    public EmployeeGrpcService(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public void getEmployee(
+        EmployeeServiceProto.GetEmployeeRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.unary(
+            Mono.defer(() -> {
+                UUID uuid = EmployeeMessages.uuid(request.getUuid());
+                return employeeService
+                    .findEmployeeById(uuid)
+                    .switchIfEmpty(
+                        Mono.error(new EmployeeNotFoundException(uuid))
+                    );
+            }).map(EmployeeMessages::toMessage),
+            observer
+        );
+    }
+
+    @Override
+    public void listEmployees(
+        EmployeeServiceProto.ListEmployeesRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.serverStreaming(
+            Flux.defer(() -> listEmployees(request)),
+            observer
+        );
+    }
+
+    @Override
+    public void batchGetEmployees(
+        EmployeeServiceProto.BatchGetEmployeesRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.serverStreaming(
+            Flux.defer(() ->
+                employeeService.findEmployeesByIds(
+                    EmployeeMessages.uuids(request.getUuidsList())
+                )
+            ).map(EmployeeMessages::toMessage),
+            observer
+        );
+    }
+
+    @Override
+    public void createEmployee(
+        EmployeeProto.EmployeeRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.unary(
+            Mono.defer(() ->
+                employeeService.createEmployee(
+                    EmployeeMessages.toEmployee(request)
+                )
+            ).map(EmployeeMessages::toMessage),
+            observer
+        );
+    }
+
+    @Override
+    public void updateEmployee(
+        EmployeeServiceProto.UpdateEmployeeRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.unary(
+            Mono.defer(() ->
+                employeeService.updateEmployee(
+                    EmployeeMessages.uuid(request.getUuid()),
+                    toEmployee(request)
+                )
+            ).map(EmployeeMessages::toMessage),
+            observer
+        );
+    }
+
+    @Override
+    public void patchEmployee(
+        EmployeeServiceProto.UpdateEmployeeRequest request,
+        StreamObserver<EmployeeProto.Employee> observer
+    ) {
+        ReactorServerCalls.unary(
+            Mono.defer(() ->
+                employeeService.patchEmployee(
+                    EmployeeMessages.uuid(request.getUuid()),
+                    toEmployee(request)
+                )
+            ).map(EmployeeMessages::toMessage),
+            observer
+        );
+    }
+
+    @Override
+    public void deleteEmployee(
+        EmployeeServiceProto.DeleteEmployeeRequest request,
+        StreamObserver<EmployeeServiceProto.DeleteEmployeeResponse> observer
+    ) {
+        ReactorServerCalls.unary(
+            Mono.defer(() ->
+                employeeService.deleteEmployee(
+                    EmployeeMessages.uuid(request.getUuid())
+                )
+            ).thenReturn(
+                EmployeeServiceProto.DeleteEmployeeResponse.getDefaultInstance()
+            ),
+            observer
+        );
+    }
+
+    private Flux<EmployeeProto.Employee> listEmployees(
+        EmployeeServiceProto.ListEmployeesRequest request
+    ) {
+        EmployeeFilter filter = EmployeeMessages.toFilter(request);
+        if (request.hasAfter() || request.hasLimit()) {
+            return findPage(request, filter);
+        }
+        // Without criteria the plain scan, which needs no WHERE clause
+        return EmployeeFilter.NONE.equals(filter)
+            ? employeeService.findAllEmployees(EmployeeMessages.PROJECTION)
+            : employeeService.findAllEmployees(
+                filter,
+                EmployeeMessages.PROJECTION
+            );
+    }
+
+    private Flux<EmployeeProto.Employee> findPage(
+        EmployeeServiceProto.ListEmployeesRequest request,
+        EmployeeFilter filter
+    ) {
+        return employeeService
+            .findEmployees(
+                filter,
+                request.hasAfter()
+                    ? EmployeeMessages.uuid(request.getAfter())
+                    : null,
+                request.hasLimit() ? request.getLimit() : DEFAULT_PAGE_SIZE
+            )
+            .flatMapIterable(EmployeePage::employees)
+            .map(EmployeeMessages::toMessage);
+    }
+
+    // expected_version plays the part of If-Match
+    private static Employee toEmployee(
+        EmployeeServiceProto.UpdateEmployeeRequest request
+    ) {
+        Employee employee = EmployeeMessages.toEmployee(request.getEmployee());
+        if (request.hasExpectedVersion()) {
+            employee.setVersion(request.getExpectedVersion());
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,53 @@
+package com.jfi.api.employee.adapter.in.grpc;
+
+import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
+import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.log4j.Log4j2;
+
+// The gRPC counterpart of EmployeeExceptionHandler. Anything unexpected is
+// INTERNAL without its message, which may describe the database.
+@Log4j2
+final class EmployeeGrpcStatus {
+
+    static final String INTERNAL_DESCRIPTION = "Internal error";
+
+    private EmployeeGrpcStatus() {}
+
+    static StatusRuntimeException of(Throwable error) {
+        if (error instanceof StatusRuntimeException e) {
+            return e;
+        }
+        if (error instanceof StatusException e) {
+            return e.getStatus().asRuntimeException(e.getTrailers());
+        }
+        Status status = status(error);
+        if (status == null) {
+            log.error("gRPC call failed", error);
+            return Status.INTERNAL.withDescription(
+                INTERNAL_DESCRIPTION
+            ).asRuntimeException();
+        }
+        return status.withDescription(error.getMessage()).asRuntimeException();
+    }
+
+    private static Status status(Throwable error) {
+        if (error instanceof EmployeeNotFoundException) {
+            return Status.NOT_FOUND;
+        }
+        if (error instanceof EmployeeVersionMismatchException) {
+            return Status.FAILED_PRECONDITION;
+        }
+        if (
+            error instanceof InvalidEmployeeException ||
+            error instanceof InvalidPageRequestException
+        ) {
+            return Status.INVALID_ARGUMENT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.jfi.api.employee.adapter.in.grpc;
+
+import com.jfi.api.employee.adapter.in.grpc.proto.EmployeeServiceProto;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.employee.domain.InvalidEmployeeException;
+import io.grpc.Status;
+import java.util.List;
+import java.util.UUID;
+
+// Maps between the generated messages in employee.proto and the domain
+final class EmployeeMessages {
+
+    // Streamed reads project rows straight into messages
+    static final EmployeeProjection<EmployeeProto.Employee> PROJECTION =
+        EmployeeMessages::toMessage;
+
+    private EmployeeMessages() {}
+
+    static EmployeeProto.Employee toMessage(Employee employee) {
+        return toMessage(
+            employee.getUuid(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType(),
+            employee.getVersion()
+        );
+    }
+
+    static EmployeeProto.Employee toMessage(
+        UUID uuid,
+        String firstName,
+        String lastName,
+        EmployeeType employeeType,
+        Long version
+    ) {
+        // proto3 fields cannot be null; a missing value is left unset
+        EmployeeProto.Employee.Builder message =
+            EmployeeProto.Employee.newBuilder().setUuid(uuid.toString());
+        if (firstName != null) {
+            message.setFirstName(firstName);
+        }
+        if (lastName != null) {
+            message.setLastName(lastName);
+        }
+        if (employeeType != null) {
+            message.setEmployeeType(toMessage(employeeType));
+        }
+        if (version != null) {
+            message.setVersion(version);
+        }
+        return message.build();
+    }
+
+    // Fields left out are null, so they fail validation on create and update
+    // and are left unchanged by patch, as in REST
+    static Employee toEmployee(EmployeeProto.EmployeeRequest request) {
+        return Employee.builder()
+            .firstName(request.hasFirstName() ? request.getFirstName() : null)
+            .lastName(request.hasLastName() ? request.getLastName() : null)
+            .employeeType(
+                request.hasEmployeeType()
+                    ? toEmployeeType(request.getEmployeeType())
+                    : null
+            )
+            .build();
+    }
+
+    static EmployeeFilter toFilter(
+        EmployeeServiceProto.ListEmployeesRequest request
+    ) {
+        return new EmployeeFilter(
+            request.hasEmployeeType()
+                ? toEmployeeType(request.getEmployeeType())
+                : null,
+            request.hasLastName() ? request.getLastName() : null,
+            request.hasQ() ? request.getQ() : null
+        );
+    }
+
+    static UUID uuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw Status.INVALID_ARGUMENT.withDescription(
+                "Invalid employee id: " + value
+            ).asRuntimeException();
+        }
+    }
+
+    static List<UUID> uuids(List<String> values) {
+        return values.stream().map(EmployeeMessages::uuid).toList();
+    }
+
+    private static EmployeeProto.EmployeeType toMessage(
+        EmployeeType employeeType
+    ) {
+        return switch (employeeType) {
+            case WORKER -> EmployeeProto.EmployeeType.WORKER;
+            case MANAGER -> EmployeeProto.EmployeeType.MANAGER;
+            case FINANCE_MANAGER -> EmployeeProto.EmployeeType.FINANCE_MANAGER;
+        };
+    }
+
+    private static EmployeeType toEmployeeType(
+        EmployeeProto.EmployeeType employeeType
+    ) {
+        return switch (employeeType) {
+            case EMPLOYEE_TYPE_UNSPECIFIED -> null;
+            case WORKER -> EmployeeType.WORKER;
+            case MANAGER -> EmployeeType.MANAGER;
+            case FINANCE_MANAGER -> EmployeeType.FINANCE_MANAGER;
+            case UNRECOGNIZED -> throw new InvalidEmployeeException(
+                "Unknown employee type"
+            );
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.jfi.api.employee.adapter.in.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Completes gRPC calls from the port's Mono and Flux. A cancelled call cancels
+// the subscription, and with it the query behind it.
+final class ReactorServerCalls {
+
+    private ReactorServerCalls() {}
+
+    static <T> void unary(Mono<T> response, StreamObserver<T> observer) {
+        ServerCallStreamObserver<T> call = (ServerCallStreamObserver<T>) observer;
+        Disposable.Swap subscription = Disposables.swap();
+        call.setOnCancelHandler(subscription::dispose);
+        subscription.update(
+            response
+                .switchIfEmpty(
+                    Mono.error(() ->
+                        Status.INTERNAL.withDescription(
+                            EmployeeGrpcStatus.INTERNAL_DESCRIPTION
+                        ).asRuntimeException()
+                    )
+                )
+                .subscribe(
+                    value -> {
+                        call.onNext(value);
+                        call.onCompleted();
+                    },
+                    error -> call.onError(EmployeeGrpcStatus.of(error))
+                )
+        );
+    }
+
+    // Maps gRPC flow control onto the Flux: the next element is requested only
+    // while the transport is ready for more, so a slow client holds back the
+    // read instead of filling the server's buffers.
+    static <T> void serverStreaming(
+        Flux<T> responses,
+        StreamObserver<T> observer
+    ) {
+        ServerCallStreamObserver<T> call = (ServerCallStreamObserver<T>) observer;
+        ReadySubscriber<T> subscriber = new ReadySubscriber<>(call);
+        // Both handlers must be set before the method returns
+        call.setOnReadyHandler(subscriber::requestIfReady);
+        call.setOnCancelHandler(subscriber::dispose);
+        responses.subscribe(subscriber);
+    }
+
+    private static final class ReadySubscriber<T> extends BaseSubscriber<T> {
+
+        private final ServerCallStreamObserver<T> call;
+        // At most one element is asked for at a time
+        private final AtomicBoolean requested = new AtomicBoolean();
+
+        private ReadySubscriber(ServerCallStreamObserver<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            requestIfReady();
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            call.onNext(value);
+            requested.set(false);
+            requestIfReady();
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            call.onCompleted();
+        }
+
+        @Override
+        protected void hookOnError(Throwable error) {
+            call.onError(EmployeeGrpcStatus.of(error));
+        }
+
+        // Runs on the subscriber's thread after each element and on the
+        // transport's when it drains; whichever sees it ready first asks.
+        private void requestIfReady() {
+            if (
+                upstream() != null &&
+                !isDisposed() &&
+                call.isReady() &&
+                requested.compareAndSet(false, true)
+            ) {
+                request(1);
+            }
+        }
+    }
+}
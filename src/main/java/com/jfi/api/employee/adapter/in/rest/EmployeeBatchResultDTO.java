@@ -0,0 +1,30 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import org.springframework.http.HttpStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeBatchResultDTO(
+    int index,
+    int status,
+    EmployeeDTO employee,
+    String error
+) {
+    public static EmployeeBatchResultDTO from(EmployeeBatchResult result) {
+        if (!result.isCreated()) {
+            return new EmployeeBatchResultDTO(
+                result.index(),
+                HttpStatus.BAD_REQUEST.value(),
+                null,
+                result.error()
+            );
+        }
+        return new EmployeeBatchResultDTO(
+            result.index(),
+            HttpStatus.CREATED.value(),
+            EmployeeDTO.from(result.employee()),
+            null
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.time.Instant;
+import java.util.UUID;
+
+public record EmployeeChangeDTO(
+    long position,
+    EmployeeChangeType type,
+    UUID uuid,
+    String firstName,
+    String lastName,
+    EmployeeType employeeType,
+    long version,
+    Instant changedAt
+) {
+    public static EmployeeChangeDTO from(EmployeeChange change) {
+        Employee employee = change.employee();
+        return new EmployeeChangeDTO(
+            change.position(),
+            change.type(),
+            employee.getUuid(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType(),
+            employee.getVersion(),
+            change.changedAt()
+        );
+    }
+}
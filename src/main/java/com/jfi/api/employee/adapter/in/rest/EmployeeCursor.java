@@ -0,0 +1,41 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.jfi.api.employee.domain.InvalidPageRequestException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+final class EmployeeCursor {
+
+    static final String INVALID_CURSOR_MESSAGE = "Invalid cursor: ";
+
+    private static final int UUID_BYTES = 16;
+
+    private EmployeeCursor() {}
+
+    static String encode(UUID uuid) {
+        ByteBuffer bytes = ByteBuffer.allocate(UUID_BYTES)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+            bytes.array()
+        );
+    }
+
+    static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(INVALID_CURSOR_MESSAGE + cursor);
+        }
+        if (bytes.length != UUID_BYTES) {
+            throw new InvalidPageRequestException(INVALID_CURSOR_MESSAGE + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
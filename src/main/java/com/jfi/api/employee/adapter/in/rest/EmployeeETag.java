@@ -0,0 +1,59 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.ETag;
+
+final class EmployeeETag {
+
+    private EmployeeETag() {}
+
+    static String of(Employee employee) {
+        return "\"" + employee.getVersion() + "\"";
+    }
+
+    // A dot rather than the dash of the old max(version) and count tags, so a
+    // tag cached before the switch never matches by chance
+    static String of(EmployeeCollectionVersion version) {
+        return "\"" + version.position() + "." + version.pending() + "\"";
+    }
+
+    // If-None-Match uses the weak comparison (RFC 9110, 13.1.2), so a W/ prefix
+    // added by an intermediary still matches.
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The version an If-Match header requires, or null when any version will do.
+    // If-Match uses the strong comparison, and we only ever hand out one strong
+    // numeric tag per employee, so anything else can never match.
+    static Long requiredVersion(UUID uuid, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> etags = ETag.parse(ifMatch);
+        if (etags.size() == 1 && etags.getFirst().isWildcard()) {
+            return null;
+        }
+        if (etags.size() != 1 || etags.getFirst().weak()) {
+            throw new EmployeeVersionMismatchException(uuid);
+        }
+        try {
+            return Long.valueOf(etags.getFirst().tag());
+        } catch (NumberFormatException e) {
+            throw new EmployeeVersionMismatchException(uuid);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.jfi.api.employee.adapter.in.rest;
 
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
 import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
 import java.net.URI;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -13,6 +15,9 @@ public class EmployeeExceptionHandler {
 
     static final String EMPLOYEE_NOT_FOUND_TITLE = "Employee Not Found";
     static final String INVALID_EMPLOYEE_TITLE = "Invalid Employee";
+    static final String INVALID_PAGE_REQUEST_TITLE = "Invalid Page Request";
+    static final String EMPLOYEE_VERSION_MISMATCH_TITLE =
+        "Employee Version Mismatch";
     static final URI PROBLEM_DEFAULT_TYPE = URI.create("about:blank");
 
     @ExceptionHandler(EmployeeNotFoundException.class)
@@ -36,4 +41,30 @@ public class EmployeeExceptionHandler {
         problem.setType(PROBLEM_DEFAULT_TYPE);
         return problem;
     }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ProblemDetail handleInvalidPageRequest(
+        InvalidPageRequestException ex
+    ) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.BAD_REQUEST,
+            ex.getMessage()
+        );
+        problem.setTitle(INVALID_PAGE_REQUEST_TITLE);
+        problem.setType(PROBLEM_DEFAULT_TYPE);
+        return problem;
+    }
+
+    @ExceptionHandler(EmployeeVersionMismatchException.class)
+    public ProblemDetail handleEmployeeVersionMismatch(
+        EmployeeVersionMismatchException ex
+    ) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.PRECONDITION_FAILED,
+            ex.getMessage()
+        );
+        problem.setTitle(EMPLOYEE_VERSION_MISMATCH_TITLE);
+        problem.setType(PROBLEM_DEFAULT_TYPE);
+        return problem;
+    }
 }
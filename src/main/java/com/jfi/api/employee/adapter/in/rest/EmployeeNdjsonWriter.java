@@ -0,0 +1,58 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import java.io.IOException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+// Writes each employee as one NDJSON line straight from its column values, into
+// a buffer from the response's (pooled) factory. The bytes are those Jackson
+// writes for an EmployeeDTO, minus the Employee and EmployeeDTO in between.
+public class EmployeeNdjsonWriter {
+
+    // Fits a typical line, so the buffer rarely has to grow
+    private static final int LINE_CAPACITY = 128;
+    private static final byte NEWLINE = '\n';
+
+    private final JsonFactory jsonFactory;
+
+    public EmployeeNdjsonWriter(ObjectMapper objectMapper) {
+        // The generator is closed per line; the buffer must outlive it
+        this.jsonFactory = objectMapper
+            .getFactory()
+            .rebuild()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    }
+
+    public EmployeeProjection<DataBuffer> lines(DataBufferFactory bufferFactory) {
+        return (uuid, firstName, lastName, employeeType, version) -> {
+            DataBuffer buffer = bufferFactory.allocateBuffer(LINE_CAPACITY);
+            try (
+                JsonGenerator generator = jsonFactory.createGenerator(
+                    buffer.asOutputStream()
+                )
+            ) {
+                generator.writeStartObject();
+                generator.writeStringField("uuid", uuid.toString());
+                generator.writeStringField("firstName", firstName);
+                generator.writeStringField("lastName", lastName);
+                generator.writeStringField(
+                    "employeeType",
+                    employeeType != null ? employeeType.name() : null
+                );
+                generator.writeEndObject();
+            } catch (IOException | RuntimeException ex) {
+                DataBufferUtils.release(buffer);
+                throw new EncodingException("Could not write employee " + uuid, ex);
+            }
+            return buffer.write(NEWLINE);
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.EmployeeType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
+
+// Maps between the REST DTOs and the messages generated from
+// src/main/proto/employee.proto, for the protobuf encoder and decoder
+final class EmployeeProtobuf {
+
+    static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(
+        APPLICATION_PROTOBUF_VALUE
+    );
+
+    private EmployeeProtobuf() {}
+
+    // proto3 strings cannot be null; a missing value is left unset
+    static EmployeeProto.Employee toMessage(EmployeeDTO employee) {
+        EmployeeProto.Employee.Builder message =
+            EmployeeProto.Employee.newBuilder();
+        if (employee.uuid() != null) {
+            message.setUuid(employee.uuid().toString());
+        }
+        if (employee.firstName() != null) {
+            message.setFirstName(employee.firstName());
+        }
+        if (employee.lastName() != null) {
+            message.setLastName(employee.lastName());
+        }
+        if (employee.employeeType() != null) {
+            message.setEmployeeType(toMessage(employee.employeeType()));
+        }
+        return message.build();
+    }
+
+    private static EmployeeProto.EmployeeType toMessage(
+        EmployeeType employeeType
+    ) {
+        return switch (employeeType) {
+            case WORKER -> EmployeeProto.EmployeeType.WORKER;
+            case MANAGER -> EmployeeProto.EmployeeType.MANAGER;
+            case FINANCE_MANAGER -> EmployeeProto.EmployeeType.FINANCE_MANAGER;
+        };
+    }
+
+    // Like an unknown name in JSON, an unknown value is a malformed body
+    static EmployeeType toEmployeeType(EmployeeProto.EmployeeType employeeType) {
+        return switch (employeeType) {
+            case EMPLOYEE_TYPE_UNSPECIFIED -> null;
+            case WORKER -> EmployeeType.WORKER;
+            case MANAGER -> EmployeeType.MANAGER;
+            case FINANCE_MANAGER -> EmployeeType.FINANCE_MANAGER;
+            case UNRECOGNIZED -> throw new DecodingException(
+                "Unknown employee type"
+            );
+        };
+    }
+}
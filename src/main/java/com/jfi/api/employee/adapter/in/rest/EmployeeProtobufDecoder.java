@@ -0,0 +1,63 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.protobuf.ProtobufDecoder;
+import org.springframework.util.MimeType;
+
+// Reads an EmployeeRequest message, parsed by Spring's ProtobufDecoder, into an
+// EmployeeRequest or an EmployeePatchRequest. Fields that are left out stay
+// null, so validation and patching treat a protobuf body exactly like a JSON one.
+public class EmployeeProtobufDecoder extends AbstractDataBufferDecoder<Object> {
+
+    private static final ResolvableType REQUEST_MESSAGE =
+        ResolvableType.forClass(EmployeeProto.EmployeeRequest.class);
+
+    private final ProtobufDecoder messages = new ProtobufDecoder();
+
+    public EmployeeProtobufDecoder() {
+        super(EmployeeProtobuf.APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        Class<?> type = elementType.toClass();
+        return (
+            (EmployeeRequest.class.equals(type) ||
+                EmployeePatchRequest.class.equals(type)) &&
+            super.canDecode(elementType, mimeType)
+        );
+    }
+
+    @Override
+    public Object decode(
+        DataBuffer buffer,
+        ResolvableType targetType,
+        MimeType mimeType,
+        Map<String, Object> hints
+    ) {
+        EmployeeProto.EmployeeRequest request =
+            (EmployeeProto.EmployeeRequest) messages.decode(
+                buffer,
+                REQUEST_MESSAGE,
+                mimeType,
+                hints
+            );
+        String firstName = request.hasFirstName()
+            ? request.getFirstName()
+            : null;
+        String lastName = request.hasLastName() ? request.getLastName() : null;
+        EmployeeType employeeType = request.hasEmployeeType()
+            ? EmployeeProtobuf.toEmployeeType(request.getEmployeeType())
+            : null;
+
+        if (EmployeePatchRequest.class.equals(targetType.toClass())) {
+            return new EmployeePatchRequest(firstName, lastName, employeeType);
+        }
+        return new EmployeeRequest(firstName, lastName, employeeType);
+    }
+}
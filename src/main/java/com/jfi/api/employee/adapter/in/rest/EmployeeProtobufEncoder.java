@@ -0,0 +1,105 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import com.google.protobuf.Message;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.protobuf.ProtobufEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Writes an EmployeeDTO as an Employee message and a list of them as an
+// EmployeeList, serialized by Spring's ProtobufEncoder. A repeated field is just
+// its entries one after another, so a Flux is written as one single-entry
+// EmployeeList per employee and the client still reads one EmployeeList.
+public class EmployeeProtobufEncoder extends AbstractEncoder<Object> {
+
+    private final ProtobufEncoder messages = new ProtobufEncoder();
+
+    public EmployeeProtobufEncoder() {
+        super(EmployeeProtobuf.APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        if (!super.canEncode(elementType, mimeType)) {
+            return false;
+        }
+        if (List.class.isAssignableFrom(elementType.toClass())) {
+            return EmployeeDTO.class.equals(elementType.getGeneric(0).toClass());
+        }
+        return EmployeeDTO.class.equals(elementType.toClass());
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(
+        Publisher<?> inputStream,
+        DataBufferFactory bufferFactory,
+        ResolvableType elementType,
+        MimeType mimeType,
+        Map<String, Object> hints
+    ) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono
+                .map(value ->
+                    encodeValue(value, bufferFactory, elementType, mimeType, hints)
+                )
+                .flux();
+        }
+        return Flux.from(inputStream).map(value ->
+            write(
+                toMessage(List.of((EmployeeDTO) value)),
+                bufferFactory,
+                mimeType,
+                hints
+            )
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataBuffer encodeValue(
+        Object value,
+        DataBufferFactory bufferFactory,
+        ResolvableType valueType,
+        MimeType mimeType,
+        Map<String, Object> hints
+    ) {
+        Message message = value instanceof EmployeeDTO employee
+            ? EmployeeProtobuf.toMessage(employee)
+            : toMessage((List<EmployeeDTO>) value);
+        return write(message, bufferFactory, mimeType, hints);
+    }
+
+    private DataBuffer write(
+        Message message,
+        DataBufferFactory bufferFactory,
+        MimeType mimeType,
+        Map<String, Object> hints
+    ) {
+        return messages.encodeValue(
+            message,
+            bufferFactory,
+            ResolvableType.forInstance(message),
+            mimeType,
+            hints
+        );
+    }
+
+    private static EmployeeProto.EmployeeList toMessage(
+        List<EmployeeDTO> employees
+    ) {
+        EmployeeProto.EmployeeList.Builder list =
+            EmployeeProto.EmployeeList.newBuilder();
+        employees.forEach(employee ->
+            list.addEmployees(EmployeeProtobuf.toMessage(employee))
+        );
+        return list.build();
+    }
+}
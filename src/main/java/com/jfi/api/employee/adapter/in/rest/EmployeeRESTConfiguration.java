@@ -0,0 +1,69 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfi.api.employee.port.in.EmployeeService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class EmployeeRESTConfiguration {
+
+    // application/x-protobuf for employees, per src/main/proto/employee.proto
+    @Bean
+    CodecCustomizer employeeProtobufCodecs() {
+        return configurer -> {
+            configurer.customCodecs().register(new EmployeeProtobufDecoder());
+            configurer.customCodecs().register(new EmployeeProtobufEncoder());
+        };
+    }
+
+    // Opt-in fast path for NDJSON exports: rows are written to the response as
+    // they are read, skipping the entity, the DTO and the codec. Router functions
+    // are matched before controllers; server-sent events still go to the
+    // controller, as does everything while this is off.
+    @Bean
+    @ConditionalOnProperty(
+        name = "employee.export.direct-encoding",
+        havingValue = "true"
+    )
+    RouterFunction<ServerResponse> directEmployeeExport(
+        EmployeeService employeeService,
+        ObjectMapper objectMapper
+    ) {
+        EmployeeNdjsonWriter writer = new EmployeeNdjsonWriter(objectMapper);
+        return RouterFunctions.route(
+            GET("/employees/export").and(accept(MediaType.APPLICATION_NDJSON)),
+            request -> {
+                DataBufferFactory bufferFactory = request
+                    .exchange()
+                    .getResponse()
+                    .bufferFactory();
+                return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(
+                        BodyInserters.fromDataBuffers(
+                            employeeService
+                                .findAllEmployees(writer.lines(bufferFactory))
+                                .doOnDiscard(
+                                    DataBuffer.class,
+                                    DataBufferUtils::release
+                                )
+                        )
+                    );
+            }
+        );
+    }
+}
@@ -1,11 +1,23 @@
 package com.jfi.api.employee.adapter.in.rest;
 
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeFilter;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeePage;
+import com.jfi.api.employee.domain.EmployeeType;
 import com.jfi.api.employee.port.in.EmployeeService;
+import com.jfi.api.infrastructure.BinaryCodecConfiguration;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,31 +25,140 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+// JSON comes first, so it is what a client that accepts anything gets. CBOR, Smile
+// and protobuf are for service-to-service callers; errors stay problem+json.
 @RestController
-@RequestMapping("/employees")
+@RequestMapping(
+    value = "/employees",
+    produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        BinaryCodecConfiguration.APPLICATION_SMILE_VALUE,
+        EmployeeProtobuf.APPLICATION_PROTOBUF_VALUE,
+    }
+)
 public class EmployeeRESTController {
 
+    static final String DEFAULT_PAGE_SIZE = "50";
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+    static final Duration LONG_POLL_TIMEOUT = Duration.ofSeconds(25);
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     private final EmployeeService employeeService;
 
     public EmployeeRESTController(EmployeeService employeeService) {
         this.employeeService = employeeService;
     }
 
+    // The collection version is read before the page, so a write in between can
+    // only make the ETag older than the body. The next poll then gets a 200 with
+    // the same data, never a 304 over data it has not seen.
     @GetMapping
-    public Flux<EmployeeDTO> getAllEmployees() {
+    public Mono<ResponseEntity<List<EmployeeDTO>>> getAllEmployees(
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) EmployeeType employeeType,
+        @RequestParam(required = false) String lastName,
+        @RequestParam(required = false) String q,
+        @RequestHeader(
+            name = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        EmployeeFilter filter = new EmployeeFilter(employeeType, lastName, q);
+        return employeeService
+            .findCollectionVersion()
+            .map(EmployeeETag::of)
+            .flatMap(etag -> {
+                if (EmployeeETag.matches(ifNoneMatch, etag)) {
+                    return Mono.just(notModified(etag));
+                }
+                return Mono.defer(() ->
+                    employeeService.findEmployees(
+                        filter,
+                        EmployeeCursor.decode(after),
+                        limit
+                    )
+                ).map(page -> toPageResponse(page, filter, limit, etag));
+            });
+    }
+
+    // Resolves a set of references in one round trip; unknown ids are left out
+    @GetMapping(params = "ids")
+    public Mono<List<EmployeeDTO>> getEmployeesByIds(
+        @RequestParam List<UUID> ids
+    ) {
+        return employeeService
+            .findEmployeesByIds(ids)
+            .map(EmployeeDTO::from)
+            .collectList();
+    }
+
+    @GetMapping(
+        value = "/export",
+        produces = {
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE,
+        }
+    )
+    public Flux<EmployeeDTO> exportEmployees() {
         return employeeService.findAllEmployees().map(EmployeeDTO::from);
     }
 
+    // Each event's id is its feed position, so an EventSource that reconnects with
+    // Last-Event-ID resumes where it stopped instead of where it started.
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EmployeeChangeDTO>> streamChanges(
+        @RequestParam(defaultValue = "0") long after,
+        @RequestHeader(name = LAST_EVENT_ID, required = false) Long lastEventId
+    ) {
+        Flux<ServerSentEvent<EmployeeChangeDTO>> changes = employeeService
+            .streamChanges(lastEventId != null ? lastEventId : after)
+            .map(change ->
+                ServerSentEvent.builder(EmployeeChangeDTO.from(change))
+                    .id(Long.toString(change.position()))
+                    .build()
+            );
+        // Comment lines keep an idle stream from being cut by proxies
+        Flux<ServerSentEvent<EmployeeChangeDTO>> heartbeats = Flux.interval(
+            HEARTBEAT_INTERVAL
+        ).map(tick ->
+            ServerSentEvent.<EmployeeChangeDTO>builder().comment("").build()
+        );
+        return Flux.merge(changes, heartbeats);
+    }
+
+    // Long poll: answers as soon as there is a change after the given position, or
+    // with an empty list once LONG_POLL_TIMEOUT passes without one.
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<EmployeeChangeDTO>> getChanges(
+        @RequestParam(defaultValue = "0") long after,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit
+    ) {
+        return employeeService
+            .findChanges(after, limit, LONG_POLL_TIMEOUT)
+            .map(changes -> changes.stream().map(EmployeeChangeDTO::from).toList());
+    }
+
     @GetMapping("/{uuid}")
-    public Mono<EmployeeDTO> getEmployeeById(@PathVariable UUID uuid) {
+    public Mono<ResponseEntity<EmployeeDTO>> getEmployeeById(
+        @PathVariable UUID uuid,
+        @RequestHeader(
+            name = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
         return employeeService
             .findEmployeeById(uuid)
-            .map(EmployeeDTO::from)
+            .map(employee -> toEmployeeResponse(employee, ifNoneMatch))
             .switchIfEmpty(Mono.error(new EmployeeNotFoundException(uuid)));
     }
 
@@ -55,24 +176,61 @@ public class EmployeeRESTController {
             );
     }
 
+    // One result per employee, in order. Chunks commit one by one, so a batch
+    // is not atomic, and employees past the size limit come back rejected.
+    @PostMapping(
+        value = "/batch",
+        consumes = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+        },
+        produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            BinaryCodecConfiguration.APPLICATION_SMILE_VALUE,
+        }
+    )
+    public Flux<EmployeeBatchResultDTO> createEmployees(
+        @RequestBody Flux<EmployeeRequest> requests
+    ) {
+        return employeeService
+            .createEmployees(requests.map(EmployeeRequest::toEmployee))
+            .map(EmployeeBatchResultDTO::from);
+    }
+
+    // If-Match is optional: without it the last write wins, with it a write based
+    // on a stale read fails with 412 instead of overwriting the newer row.
     @PutMapping("/{uuid}")
-    public Mono<EmployeeDTO> updateEmployee(
+    public Mono<ResponseEntity<EmployeeDTO>> updateEmployee(
         @PathVariable UUID uuid,
-        @Valid @RequestBody EmployeeRequest request
+        @Valid @RequestBody EmployeeRequest request,
+        @RequestHeader(
+            name = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
     ) {
-        return employeeService
-            .updateEmployee(uuid, request.toEmployee())
-            .map(EmployeeDTO::from);
+        return Mono.defer(() -> {
+            Employee employee = request.toEmployee();
+            employee.setVersion(EmployeeETag.requiredVersion(uuid, ifMatch));
+            return employeeService.updateEmployee(uuid, employee);
+        }).map(this::toWriteResponse);
     }
 
     @PatchMapping("/{uuid}")
-    public Mono<EmployeeDTO> patchEmployee(
+    public Mono<ResponseEntity<EmployeeDTO>> patchEmployee(
         @PathVariable UUID uuid,
-        @RequestBody EmployeePatchRequest request
+        @RequestBody EmployeePatchRequest request,
+        @RequestHeader(
+            name = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
     ) {
-        return employeeService
-            .patchEmployee(uuid, request.toEmployee())
-            .map(EmployeeDTO::from);
+        return Mono.defer(() -> {
+            Employee patch = request.toEmployee();
+            patch.setVersion(EmployeeETag.requiredVersion(uuid, ifMatch));
+            return employeeService.patchEmployee(uuid, patch);
+        }).map(this::toWriteResponse);
     }
 
     @DeleteMapping("/{uuid}")
@@ -81,4 +239,60 @@ public class EmployeeRESTController {
             .deleteEmployee(uuid)
             .then(Mono.just(ResponseEntity.noContent().<Void>build()));
     }
+
+    private ResponseEntity<EmployeeDTO> toEmployeeResponse(
+        Employee employee,
+        String ifNoneMatch
+    ) {
+        String etag = EmployeeETag.of(employee);
+        if (EmployeeETag.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(EmployeeDTO.from(employee));
+    }
+
+    // Carries the new ETag so the client can chain its next conditional write
+    private ResponseEntity<EmployeeDTO> toWriteResponse(Employee employee) {
+        return ResponseEntity.ok()
+            .eTag(EmployeeETag.of(employee))
+            .body(EmployeeDTO.from(employee));
+    }
+
+    private ResponseEntity<List<EmployeeDTO>> toPageResponse(
+        EmployeePage page,
+        EmployeeFilter filter,
+        int limit,
+        String etag
+    ) {
+        List<EmployeeDTO> body = page
+            .employees()
+            .stream()
+            .map(EmployeeDTO::from)
+            .toList();
+        if (!page.hasNext()) {
+            return ResponseEntity.ok().eTag(etag).body(body);
+        }
+        String next = UriComponentsBuilder.fromPath("/employees")
+            .queryParam("limit", limit)
+            .queryParam("after", EmployeeCursor.encode(page.nextCursor()))
+            .queryParamIfPresent(
+                "employeeType",
+                Optional.ofNullable(filter.employeeType())
+            )
+            .queryParamIfPresent(
+                "lastName",
+                Optional.ofNullable(filter.lastNamePrefix())
+            )
+            .queryParamIfPresent("q", Optional.ofNullable(filter.query()))
+            .encode()
+            .toUriString();
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+            .body(body);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
 }
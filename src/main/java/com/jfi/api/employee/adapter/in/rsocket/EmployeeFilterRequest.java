@@ -0,0 +1,15 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeType;
+
+// Same criteria as the employeeType, lastName and q parameters of GET /employees
+public record EmployeeFilterRequest(
+    EmployeeType employeeType,
+    String lastName,
+    String q
+) {
+    public EmployeeFilter toFilter() {
+        return new EmployeeFilter(employeeType, lastName, q);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.port.in.EmployeeService;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// The EmployeeService port over RSocket, for clients that keep one connection
+// open and read long streams. Routes are fixed names, with any id in the
+// payload, because the route is a tag on every request metric.
+@Log4j2
+@Controller
+@MessageMapping("employees")
+public class EmployeeRSocketController {
+
+    private final EmployeeService employeeService;
+
+    public EmployeeRSocketController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    // Request-response
+    @MessageMapping("get")
+    public Mono<EmployeeRSocketDTO> getEmployee(@Payload UUID uuid) {
+        return employeeService
+            .findEmployeeById(uuid)
+            .switchIfEmpty(Mono.error(new EmployeeNotFoundException(uuid)))
+            .map(EmployeeRSocketDTO::from);
+    }
+
+    // Request-stream. The requester's request(n) reaches the database cursor,
+    // so a slow reader holds rows back instead of having them buffered here.
+    @MessageMapping("stream")
+    public Flux<EmployeeRSocketDTO> streamEmployees(
+        @Payload(required = false) EmployeeFilterRequest filter
+    ) {
+        return employeeService.findAllEmployees(
+            filter == null ? EmployeeFilter.NONE : filter.toFilter(),
+            EmployeeRSocketDTO::new
+        );
+    }
+
+    // Fire-and-forget, with the batch as one JSON array: a Flux argument
+    // would make this a request-channel. The requester gets no answer, so
+    // rejected employees are only logged.
+    @MessageMapping("upsert")
+    public Mono<Void> upsertEmployees(
+        @Payload List<EmployeeUpsertRequest> requests
+    ) {
+        return employeeService
+            .upsertEmployees(
+                Flux.fromIterable(requests).map(EmployeeUpsertRequest::toEmployee)
+            )
+            .filter(result -> !result.isCreated())
+            .doOnNext(EmployeeRSocketController::logRejected)
+            .then();
+    }
+
+    @MessageExceptionHandler
+    public Mono<Void> handleError(Throwable error) {
+        return Mono.error(EmployeeRSocketErrors.of(error));
+    }
+
+    private static void logRejected(EmployeeBatchResult result) {
+        log.warn(
+            "Rejected upserted employee {}: {}",
+            result.index(),
+            result.error()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.util.UUID;
+
+// The components match EmployeeProjection, so streamed rows become DTOs
+// without an Employee in between. The version replaces REST's ETag.
+public record EmployeeRSocketDTO(
+    UUID uuid,
+    String firstName,
+    String lastName,
+    EmployeeType employeeType,
+    Long version
+) {
+    public static EmployeeRSocketDTO from(Employee employee) {
+        return new EmployeeRSocketDTO(
+            employee.getUuid(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType(),
+            employee.getVersion()
+        );
+    }
+}
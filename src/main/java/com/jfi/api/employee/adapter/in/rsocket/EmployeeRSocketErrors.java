@@ -0,0 +1,47 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import com.jfi.api.employee.domain.EmployeeException;
+import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
+import io.rsocket.RSocketErrorException;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.InvalidException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.messaging.handler.invocation.MethodArgumentResolutionException;
+
+// The RSocket counterpart of EmployeeExceptionHandler. RSocket only has INVALID
+// and APPLICATION_ERROR for a single request, so not found and version mismatch
+// are application errors told apart by their message. Anything unexpected goes
+// out without its message, which may describe the database.
+@Log4j2
+final class EmployeeRSocketErrors {
+
+    static final String INVALID_REQUEST_MESSAGE = "Invalid request";
+    static final String INTERNAL_MESSAGE = "Internal error";
+
+    private EmployeeRSocketErrors() {}
+
+    static RSocketErrorException of(Throwable error) {
+        if (error instanceof RSocketErrorException e) {
+            return e;
+        }
+        if (
+            error instanceof InvalidEmployeeException ||
+            error instanceof InvalidPageRequestException
+        ) {
+            return new InvalidException(error.getMessage());
+        }
+        if (
+            error instanceof MethodArgumentResolutionException ||
+            error instanceof DecodingException
+        ) {
+            return new InvalidException(INVALID_REQUEST_MESSAGE);
+        }
+        if (error instanceof EmployeeException) {
+            return new ApplicationErrorException(error.getMessage());
+        }
+        log.error("RSocket request failed", error);
+        return new ApplicationErrorException(INTERNAL_MESSAGE);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.util.UUID;
+
+// Without a uuid the employee is created; with one it is created or replaced
+public record EmployeeUpsertRequest(
+    UUID uuid,
+    String firstName,
+    String lastName,
+    EmployeeType employeeType
+) {
+    public Employee toEmployee() {
+        return Employee.builder()
+            .uuid(uuid)
+            .firstName(firstName)
+            .lastName(lastName)
+            .employeeType(employeeType)
+            .build();
+    }
+}
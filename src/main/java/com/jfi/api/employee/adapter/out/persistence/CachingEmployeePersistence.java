@@ -0,0 +1,150 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.port.out.EmployeePersistence;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read-through cache in front of another EmployeePersistence. Concurrent misses for the
+// same uuid share one in-flight load, and every write evicts the affected entry.
+public class CachingEmployeePersistence implements EmployeePersistence {
+
+    private final EmployeePersistence delegate;
+    private final AsyncCache<UUID, Employee> cache;
+
+    public CachingEmployeePersistence(
+        EmployeePersistence delegate,
+        AsyncCache<UUID, Employee> cache
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Flux<Employee> getEmployees() {
+        return delegate.getEmployees();
+    }
+
+    @Override
+    public <T> Flux<T> getEmployees(EmployeeProjection<T> projection) {
+        return delegate.getEmployees(projection);
+    }
+
+    @Override
+    public <T> Flux<T> getEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return delegate.getEmployees(filter, projection);
+    }
+
+    @Override
+    public Flux<Employee> getEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        return delegate.getEmployees(filter, after, limit);
+    }
+
+    @Override
+    public Mono<EmployeeCollectionVersion> getCollectionVersion() {
+        return delegate.getCollectionVersion();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(UUID uuid) {
+        // Callers mutate the Employee they receive, so each one gets its own copy.
+        // Cancelling one subscriber must not cancel a load other subscribers share,
+        // and the shared load runs in its route's context, not in the caller's.
+        return Mono.deferContextual(context ->
+            Mono.fromFuture(
+                cache.get(uuid, (key, executor) ->
+                    delegate
+                        .getEmployeeById(key)
+                        .contextWrite(
+                            ReadReplicaConnectionFactory.readRoute(
+                                context
+                            ).context()
+                        )
+                        .toFuture()
+                ),
+                true
+            )
+        ).map(employee -> employee.toBuilder().build());
+    }
+
+    @Override
+    public Mono<Boolean> existsEmployee(UUID uuid) {
+        return delegate.existsEmployee(uuid);
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByIds(List<UUID> uuids) {
+        return delegate.getEmployeesByIds(uuids);
+    }
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return delegate
+            .saveEmployee(employee)
+            .doOnNext(saved -> evict(saved.getUuid()))
+            .doFinally(signal -> evict(employee.getUuid()));
+    }
+
+    @Override
+    public Flux<Employee> saveEmployees(Flux<Employee> employees) {
+        return delegate.saveEmployees(employees);
+    }
+
+    // Unlike saveEmployees, this may overwrite employees that are cached
+    @Override
+    public Flux<Employee> upsertEmployees(Flux<Employee> employees) {
+        return delegate
+            .upsertEmployees(employees)
+            .doOnNext(saved -> evict(saved.getUuid()));
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee employee) {
+        return delegate
+            .updateEmployee(employee)
+            .doFinally(signal -> evict(employee.getUuid()));
+    }
+
+    @Override
+    public Mono<Employee> patchEmployee(UUID uuid, Employee patch) {
+        return delegate
+            .patchEmployee(uuid, patch)
+            .doFinally(signal -> evict(uuid));
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(UUID uuid) {
+        return delegate.deleteEmployee(uuid).doFinally(signal -> evict(uuid));
+    }
+
+    @Override
+    public Flux<EmployeeChange> getChanges(long after, int limit) {
+        return delegate.getChanges(after, limit);
+    }
+
+    @Override
+    public Flux<Long> getChangePositions() {
+        return delegate.getChangePositions();
+    }
+
+    void evict(UUID uuid) {
+        if (uuid != null) {
+            cache.synchronous().invalidate(uuid);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.port.out.EmployeePersistence;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory.ReadRoute;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Single-flight in front of another EmployeePersistence: concurrent lookups of the
+// same uuid share one query, and identical page queries share one result for
+// listWindow after it arrives. Sits below the cache, so a burst of misses or a
+// deployment with the cache disabled still reaches the database once per key.
+//
+// Only callers whose reads would be routed alike share a query: a caller pinned
+// to the primary or to one replica never joins a read served elsewhere. The
+// shared query runs in the route's context, not in the first caller's.
+//
+// Every write forgets the affected lookup and all pages, so a caller never joins
+// a query that started before its own write.
+public class CoalescingEmployeePersistence implements EmployeePersistence {
+
+    static final String READS_METRIC = "employee.persistence.reads";
+
+    private final EmployeePersistence delegate;
+    private final Duration listWindow;
+    private final ConcurrentMap<
+        Routed<UUID>,
+        CompletableFuture<Employee>
+    > lookups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<
+        Routed<PageKey>,
+        CompletableFuture<List<Employee>>
+    > pages = new ConcurrentHashMap<>();
+    private final Counters lookupCounters;
+    private final Counters pageCounters;
+
+    public CoalescingEmployeePersistence(
+        EmployeePersistence delegate,
+        Duration listWindow,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.listWindow = listWindow;
+        this.lookupCounters = new Counters("getEmployeeById", meterRegistry);
+        this.pageCounters = new Counters("getEmployees", meterRegistry);
+    }
+
+    @Override
+    public Flux<Employee> getEmployees() {
+        return delegate.getEmployees();
+    }
+
+    @Override
+    public <T> Flux<T> getEmployees(EmployeeProjection<T> projection) {
+        return delegate.getEmployees(projection);
+    }
+
+    @Override
+    public <T> Flux<T> getEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return delegate.getEmployees(filter, projection);
+    }
+
+    @Override
+    public Flux<Employee> getEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        PageKey key = new PageKey(filter, after, limit);
+        return coalesce(
+            pages,
+            key,
+            () -> delegate.getEmployees(filter, after, limit).collectList(),
+            listWindow,
+            pageCounters
+        ).flatMapIterable(employees ->
+            employees.stream().map(CoalescingEmployeePersistence::copy).toList()
+        );
+    }
+
+    @Override
+    public Mono<EmployeeCollectionVersion> getCollectionVersion() {
+        return delegate.getCollectionVersion();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(UUID uuid) {
+        return coalesce(
+            lookups,
+            uuid,
+            () -> delegate.getEmployeeById(uuid),
+            Duration.ZERO,
+            lookupCounters
+        ).map(CoalescingEmployeePersistence::copy);
+    }
+
+    @Override
+    public Mono<Boolean> existsEmployee(UUID uuid) {
+        return delegate.existsEmployee(uuid);
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByIds(List<UUID> uuids) {
+        return delegate.getEmployeesByIds(uuids);
+    }
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return delegate
+            .saveEmployee(employee)
+            .doOnTerminate(() -> forget(employee.getUuid()))
+            .doOnCancel(() -> forget(employee.getUuid()));
+    }
+
+    @Override
+    public Flux<Employee> saveEmployees(Flux<Employee> employees) {
+        return delegate
+            .saveEmployees(employees)
+            .doOnNext(saved -> forgetLookups(saved.getUuid()))
+            .doOnTerminate(pages::clear)
+            .doOnCancel(pages::clear);
+    }
+
+    @Override
+    public Flux<Employee> upsertEmployees(Flux<Employee> employees) {
+        return delegate
+            .upsertEmployees(employees)
+            .doOnNext(saved -> forgetLookups(saved.getUuid()))
+            .doOnTerminate(pages::clear)
+            .doOnCancel(pages::clear);
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee employee) {
+        return delegate
+            .updateEmployee(employee)
+            .doOnTerminate(() -> forget(employee.getUuid()))
+            .doOnCancel(() -> forget(employee.getUuid()));
+    }
+
+    @Override
+    public Mono<Employee> patchEmployee(UUID uuid, Employee patch) {
+        return delegate
+            .patchEmployee(uuid, patch)
+            .doOnTerminate(() -> forget(uuid))
+            .doOnCancel(() -> forget(uuid));
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(UUID uuid) {
+        return delegate
+            .deleteEmployee(uuid)
+            .doOnTerminate(() -> forget(uuid))
+            .doOnCancel(() -> forget(uuid));
+    }
+
+    @Override
+    public Flux<EmployeeChange> getChanges(long after, int limit) {
+        return delegate.getChanges(after, limit);
+    }
+
+    @Override
+    public Flux<Long> getChangePositions() {
+        return delegate.getChangePositions();
+    }
+
+    // Cancelling one caller must not cancel the query the others wait for
+    private static <K, V> Mono<V> coalesce(
+        ConcurrentMap<Routed<K>, CompletableFuture<V>> inFlight,
+        K key,
+        Supplier<Mono<V>> query,
+        Duration window,
+        Counters counters
+    ) {
+        return Mono.deferContextual(context -> {
+            ReadRoute route = ReadReplicaConnectionFactory.readRoute(context);
+            Routed<K> routed = new Routed<>(route, key);
+            boolean[] started = { false };
+            CompletableFuture<V> result = inFlight.computeIfAbsent(routed, k -> {
+                started[0] = true;
+                return new CompletableFuture<>();
+            });
+            if (started[0]) {
+                counters.loaded.increment();
+                // Started outside computeIfAbsent, as a query that completes
+                // synchronously would be removed before it is added. The entry
+                // expires before callers see the result, so a caller that
+                // looks the key up again right away starts a new query.
+                query
+                    .get()
+                    .contextWrite(route.context())
+                    .toFuture()
+                    .whenComplete((value, error) -> {
+                        expire(
+                            inFlight,
+                            routed,
+                            result,
+                            error == null ? window : Duration.ZERO
+                        );
+                        if (error == null) {
+                            result.complete(value);
+                        } else {
+                            result.completeExceptionally(error);
+                        }
+                    });
+            } else {
+                counters.coalesced.increment();
+            }
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    private static <K, V> void expire(
+        ConcurrentMap<K, CompletableFuture<V>> inFlight,
+        K key,
+        CompletableFuture<V> result,
+        Duration after
+    ) {
+        if (after.isZero()) {
+            inFlight.remove(key, result);
+        } else {
+            CompletableFuture.delayedExecutor(
+                after.toNanos(),
+                TimeUnit.NANOSECONDS
+            ).execute(() -> inFlight.remove(key, result));
+        }
+    }
+
+    private void forget(UUID uuid) {
+        if (uuid != null) {
+            forgetLookups(uuid);
+        }
+        pages.clear();
+    }
+
+    private void forgetLookups(UUID uuid) {
+        lookups.keySet().removeIf(routed -> routed.key().equals(uuid));
+    }
+
+    // Callers mutate the Employee they receive, so each one gets its own copy
+    private static Employee copy(Employee employee) {
+        return employee.toBuilder().build();
+    }
+
+    private record PageKey(EmployeeFilter filter, UUID after, int limit) {}
+
+    private record Routed<K>(ReadRoute route, K key) {}
+
+    private static final class Counters {
+
+        private final Counter loaded;
+        private final Counter coalesced;
+
+        private Counters(String operation, MeterRegistry meterRegistry) {
+            this.loaded = counter(operation, "loaded", meterRegistry);
+            this.coalesced = counter(operation, "coalesced", meterRegistry);
+        }
+
+        private static Counter counter(
+            String operation,
+            String result,
+            MeterRegistry meterRegistry
+        ) {
+            return Counter.builder(READS_METRIC)
+                .description("Reads that queried the database or joined a query")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+    }
+}
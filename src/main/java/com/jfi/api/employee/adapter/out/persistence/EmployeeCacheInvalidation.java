@@ -0,0 +1,79 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.infrastructure.DatabaseNotificationListener;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+// Keeps the cache coherent across instances: the employee triggers notify
+// employee_changed with the uuid of every row a committed update or delete
+// touched, and each instance evicts it. The whole cache is flushed whenever the listener
+// (re)connects, since changes made while it was not listening were never heard.
+//
+// With read replicas the entry is evicted a second time once replicaLag has
+// passed, in case a read in between reloaded it from a replica that had not
+// caught up yet.
+@Log4j2
+public class EmployeeCacheInvalidation implements SmartLifecycle {
+
+    static final String CHANNEL = "employee_changed";
+
+    private final DatabaseNotificationListener listener;
+    private final AsyncCache<UUID, Employee> cache;
+    private final Duration replicaLag;
+    private volatile Disposable subscription;
+
+    public EmployeeCacheInvalidation(
+        DatabaseNotificationListener listener,
+        AsyncCache<UUID, Employee> cache,
+        Duration replicaLag
+    ) {
+        this.listener = listener;
+        this.cache = cache;
+        this.replicaLag = replicaLag;
+    }
+
+    @Override
+    public void start() {
+        Flux<UUID> changed = listener
+            .listen(CHANNEL, this::flush)
+            .mapNotNull(EmployeeCacheInvalidation::toUuid)
+            .share();
+        Flux<UUID> evictions = replicaLag.isZero()
+            ? changed
+            : Flux.merge(changed, changed.delaySequence(replicaLag));
+        subscription = evictions.subscribe(this::evict);
+    }
+
+    @Override
+    public void stop() {
+        subscription.dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    private void evict(UUID uuid) {
+        cache.synchronous().invalidate(uuid);
+    }
+
+    private void flush() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private static UUID toUuid(String payload) {
+        try {
+            return UUID.fromString(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring {} notification: {}", CHANNEL, payload);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("employee.changes")
+public record EmployeeChangeProperties(
+    @DefaultValue("500ms") Duration relayInterval,
+    @DefaultValue("1000") int relayBatchSize
+) {}
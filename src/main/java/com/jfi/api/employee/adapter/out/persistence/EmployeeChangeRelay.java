@@ -0,0 +1,134 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// Moves committed outbox rows into the change feed. Only one instance relays at a
+// time, so feed positions follow the order in which rows became visible; ordering
+// by outbox id alone would let a transaction that commits late slip in behind a
+// position a consumer has already passed.
+//
+// Every instance then reads the newest position, so subscribers on instances that
+// did not relay are woken as well.
+@Log4j2
+@Component
+public class EmployeeChangeRelay implements SmartLifecycle {
+
+    // Held until the relaying transaction ends, so a crashed instance cannot keep it
+    static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(:lockKey)";
+    static final long LOCK_KEY = 0x656d706c6f796565L; // "employee"
+
+    static final String RELAY_SQL = """
+        WITH moved AS (
+            DELETE FROM employee_outbox
+            WHERE id IN (SELECT id FROM employee_outbox ORDER BY id LIMIT :batchSize)
+            RETURNING *
+        )
+        INSERT INTO employee_change
+            (employee_uuid, change_type, first_name, last_name, employee_type, version, changed_at)
+        SELECT employee_uuid, change_type, first_name, last_name, employee_type, version, changed_at
+        FROM moved
+        ORDER BY id
+        """;
+
+    static final String LATEST_POSITION_SQL =
+        "SELECT coalesce(max(position), 0) AS position FROM employee_change";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final EmployeeChangeProperties properties;
+    private final Sinks.Many<Long> positions = Sinks.many().replay().latest();
+    private volatile Disposable subscription;
+    private long latestPosition = -1;
+
+    public EmployeeChangeRelay(
+        DatabaseClient databaseClient,
+        TransactionalOperator transactionalOperator,
+        EmployeeChangeProperties properties
+    ) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.properties = properties;
+    }
+
+    public Flux<Long> positions() {
+        return positions.asFlux();
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.interval(properties.relayInterval())
+            .onBackpressureDrop()
+            .concatMap(tick -> relay().onErrorResume(this::skipRun), 1)
+            .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        subscription.dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    // Runs on the primary without opening the read-your-writes window: the relay
+    // writes every interval and would otherwise keep all reads off the replicas.
+    Mono<Long> relay() {
+        return moveBatch()
+            .expand(moved ->
+                moved < properties.relayBatchSize() ? Mono.empty() : moveBatch()
+            )
+            .then(latestPosition())
+            .doOnNext(this::publish)
+            .as(ReadReplicaConnectionFactory::onPrimary);
+    }
+
+    // Empty when another instance holds the lock
+    private Mono<Long> moveBatch() {
+        return databaseClient
+            .sql(LOCK_SQL)
+            .bind("lockKey", LOCK_KEY)
+            .map(row -> row.get(0, Boolean.class))
+            .one()
+            .filter(Boolean::booleanValue)
+            .flatMap(locked ->
+                databaseClient
+                    .sql(RELAY_SQL)
+                    .bind("batchSize", properties.relayBatchSize())
+                    .fetch()
+                    .rowsUpdated()
+            )
+            .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Long> latestPosition() {
+        return databaseClient
+            .sql(LATEST_POSITION_SQL)
+            .map(row -> row.get("position", Long.class))
+            .one();
+    }
+
+    // The outbox keeps the rows, so the next tick picks them up again
+    private Mono<Long> skipRun(Throwable error) {
+        log.warn("Employee change relay failed: {}", error.getMessage());
+        return Mono.empty();
+    }
+
+    // Only called from the relay loop, which runs one tick at a time
+    private void publish(long position) {
+        if (position > latestPosition) {
+            latestPosition = position;
+            positions.tryEmitNext(position);
+        }
+    }
+}
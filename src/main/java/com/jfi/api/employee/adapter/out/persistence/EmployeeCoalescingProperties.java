@@ -0,0 +1,11 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("employee.coalescing")
+public record EmployeeCoalescingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100ms") Duration listWindow
+) {}
@@ -0,0 +1,7 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("employee.export")
+public record EmployeeExportProperties(@DefaultValue("500") int fetchSize) {}
@@ -0,0 +1,12 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("employee.lookup-batch")
+public record EmployeeLookupBatchProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1ms") Duration window,
+    @DefaultValue("100") int maxSize
+) {}
@@ -0,0 +1,114 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory.ReadRoute;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Collects lookups by uuid for up to window, or until maxSize distinct uuids are
+// waiting, and resolves them all with one query. Under concurrent load N lookups
+// cost one round trip instead of N; an idle lookup waits at most window.
+//
+// Lookups are batched per read route, so a caller pinned to the primary or to
+// one replica is never answered from elsewhere. The query runs in the route's
+// context, not in the context of the lookup that opened the batch.
+public class EmployeeLookupBatcher {
+
+    static final String BATCH_SIZE_METRIC = "employee.persistence.lookup.batch";
+
+    private final Function<List<UUID>, Flux<Employee>> query;
+    private final Duration window;
+    private final int maxSize;
+    private final DistributionSummary batchSizes;
+    private final ConcurrentMap<ReadRoute, Batch> pending =
+        new ConcurrentHashMap<>();
+
+    public EmployeeLookupBatcher(
+        Function<List<UUID>, Flux<Employee>> query,
+        Duration window,
+        int maxSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.query = query;
+        this.window = window;
+        this.maxSize = maxSize;
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .description("Distinct uuids resolved by one batched lookup")
+            .register(meterRegistry);
+    }
+
+    public Mono<Employee> load(UUID uuid) {
+        return Mono.deferContextual(context -> {
+            ReadRoute route = ReadReplicaConnectionFactory.readRoute(context);
+            Join join = new Join();
+            // The uuid is added under the map's lock for the route, and a full
+            // batch leaves the map in the same step, so nothing joins it later
+            pending.compute(route, (key, current) -> {
+                join.batch = current != null ? current : new Batch(route);
+                join.opened = current == null;
+                join.batch.uuids.add(uuid);
+                join.full = join.batch.uuids.size() >= maxSize;
+                return join.full ? null : join.batch;
+            });
+            Batch batch = join.batch;
+            if (join.full) {
+                run(batch);
+            } else if (join.opened) {
+                Mono.delay(window).subscribe(tick -> flush(batch));
+            }
+            // Each caller gets its own copy, even when a uuid was asked for twice
+            return Mono.fromFuture(batch.result, true).mapNotNull(found -> {
+                Employee employee = found.get(uuid);
+                return employee != null ? employee.toBuilder().build() : null;
+            });
+        });
+    }
+
+    private void flush(Batch batch) {
+        // Otherwise already run because it filled up
+        if (pending.remove(batch.route, batch)) {
+            run(batch);
+        }
+    }
+
+    private void run(Batch batch) {
+        batchSizes.record(batch.uuids.size());
+        query
+            .apply(List.copyOf(batch.uuids))
+            .contextWrite(batch.route.context())
+            .collectMap(Employee::getUuid)
+            .subscribe(batch.result::complete, batch.result::completeExceptionally);
+    }
+
+    private static final class Join {
+
+        private Batch batch;
+        private boolean opened;
+        private boolean full;
+    }
+
+    private static final class Batch {
+
+        private final ReadRoute route;
+        private final Set<UUID> uuids = new LinkedHashSet<>();
+        private final CompletableFuture<Map<UUID, Employee>> result =
+            new CompletableFuture<>();
+
+        private Batch(ReadRoute route) {
+            this.route = route;
+        }
+    }
+}
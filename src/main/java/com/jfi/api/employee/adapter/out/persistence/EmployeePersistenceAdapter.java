@@ -1,10 +1,27 @@
 package com.jfi.api.employee.adapter.out.persistence;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
 import com.jfi.api.employee.port.out.EmployeePersistence;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.annotation.Observed;
+import io.r2dbc.spi.Readable;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,29 +29,385 @@ import reactor.core.publisher.Mono;
 @Component
 public class EmployeePersistenceAdapter implements EmployeePersistence {
 
+    static final String STREAM_EMPLOYEES_SQL =
+        "SELECT * FROM employee ORDER BY uuid";
+
+    // One statement per chunk regardless of its size: the rows travel as four array
+    // parameters, so Postgres can reuse the prepared plan for every chunk.
+    static final String INSERT_EMPLOYEES_SQL = """
+        INSERT INTO employee (uuid, first_name, last_name, employee_type)
+        SELECT * FROM unnest(
+            CAST(:uuids AS uuid[]),
+            CAST(:firstNames AS varchar[]),
+            CAST(:lastNames AS varchar[]),
+            CAST(:employeeTypes AS varchar[])
+        )
+        """;
+    static final int INSERT_CHUNK_SIZE = 1000;
+
+    // Same chunks as INSERT_EMPLOYEES_SQL. Postgres fires the insert triggers
+    // for the new rows and the update triggers for the replaced ones, so both
+    // reach the change feed.
+    static final String UPSERT_EMPLOYEES_SQL = INSERT_EMPLOYEES_SQL + """
+        ON CONFLICT (uuid) DO UPDATE
+        SET first_name = EXCLUDED.first_name,
+            last_name = EXCLUDED.last_name,
+            employee_type = EXCLUDED.employee_type,
+            version = nextval('employee_version_seq')
+        """;
+
+    static final String EMPLOYEES_BY_IDS_SQL =
+        "SELECT * FROM employee WHERE uuid = ANY(:uuids)";
+
+    // One statement, so both values come from the same snapshot. The position
+    // is a primary key probe, and the outbox only holds what committed since
+    // the last relay run.
+    static final String COLLECTION_VERSION_SQL = """
+        SELECT
+            (SELECT coalesce(max(position), 0) FROM employee_change) AS position,
+            (SELECT count(*) FROM employee_outbox) AS pending
+        """;
+
+    static final String CHANGES_SQL =
+        "SELECT * FROM employee_change WHERE position > :after ORDER BY position LIMIT :limit";
+
+    // Must match the expression of employee_full_name_trgm_idx exactly
+    static final String FULL_NAME_EXPRESSION =
+        "lower(coalesce(first_name, '') || ' ' || coalesce(last_name, ''))";
+
     private final EmployeeR2dbcRepository r2dbcRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final EmployeeChangeRelay changeRelay;
+    private final EmployeeLookupBatcher lookupBatcher;
+    private final int fetchSize;
 
-    public EmployeePersistenceAdapter(EmployeeR2dbcRepository r2dbcRepository) {
+    public EmployeePersistenceAdapter(
+        EmployeeR2dbcRepository r2dbcRepository,
+        R2dbcEntityTemplate entityTemplate,
+        TransactionalOperator transactionalOperator,
+        EmployeeChangeRelay changeRelay,
+        EmployeeLookupBatchProperties lookupBatchProperties,
+        EmployeeExportProperties exportProperties,
+        MeterRegistry meterRegistry
+    ) {
         this.r2dbcRepository = r2dbcRepository;
+        this.entityTemplate = entityTemplate;
+        this.transactionalOperator = transactionalOperator;
+        this.changeRelay = changeRelay;
+        this.lookupBatcher = lookupBatchProperties.enabled()
+            ? new EmployeeLookupBatcher(
+                this::getEmployeesByIds,
+                lookupBatchProperties.window(),
+                lookupBatchProperties.maxSize(),
+                meterRegistry
+            )
+            : null;
+        this.fetchSize = exportProperties.fetchSize();
     }
 
+    // Reads through a server-side cursor: rows are fetched `fetchSize` at a time as the
+    // subscriber requests them, so a slow client pauses the query instead of buffering it.
     @Override
     public Flux<Employee> getEmployees() {
-        return r2dbcRepository.findAll();
+        return getEmployees(Employee::new);
+    }
+
+    // The export scan without the entity: each row goes straight to the projection.
+    // Deferred, like every query below, so each result gets its own row mapper.
+    @Override
+    public <T> Flux<T> getEmployees(EmployeeProjection<T> projection) {
+        return Flux.defer(() ->
+            entityTemplate
+                .getDatabaseClient()
+                .sql(STREAM_EMPLOYEES_SQL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(EmployeeReadingConverter.rows(projection))
+                .all()
+                .limitRate(fetchSize)
+        ).as(ReadReplicaConnectionFactory::readOnly);
+    }
+
+    // The same cursor over the rows matching the filter
+    @Override
+    public <T> Flux<T> getEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return Flux.defer(() -> {
+            Map<String, Object> bindings = new LinkedHashMap<>();
+            String sql =
+                "SELECT * FROM employee WHERE TRUE" +
+                criteria(filter, bindings) +
+                " ORDER BY uuid";
+            return bind(entityTemplate.getDatabaseClient().sql(sql), bindings)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(EmployeeReadingConverter.rows(projection))
+                .all()
+                .limitRate(fetchSize);
+        }).as(ReadReplicaConnectionFactory::readOnly);
+    }
+
+    @Override
+    public Flux<Employee> getEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(
+            "SELECT * FROM employee WHERE TRUE"
+        ).append(criteria(filter, bindings));
+        if (after != null) {
+            sql.append(" AND uuid > :after");
+            bindings.put("after", after);
+        }
+        sql.append(" ORDER BY uuid LIMIT :limit");
+        bindings.put("limit", limit);
+
+        return Flux.defer(() ->
+            bind(
+                entityTemplate.getDatabaseClient().sql(sql.toString()),
+                bindings
+            )
+                .map(EmployeeReadingConverter.rows(Employee::new))
+                .all()
+        ).as(ReadReplicaConnectionFactory::readOnly);
+    }
+
+    @Override
+    public Mono<EmployeeCollectionVersion> getCollectionVersion() {
+        return entityTemplate
+            .getDatabaseClient()
+            .sql(COLLECTION_VERSION_SQL)
+            .map(row ->
+                new EmployeeCollectionVersion(
+                    row.get("position", Long.class),
+                    row.get("pending", Long.class)
+                )
+            )
+            .one()
+            .as(ReadReplicaConnectionFactory::readOnly);
     }
 
     @Override
     public Mono<Employee> getEmployeeById(UUID uuid) {
-        return r2dbcRepository.findById(uuid);
+        if (lookupBatcher != null) {
+            return lookupBatcher.load(uuid);
+        }
+        return r2dbcRepository
+            .findById(uuid)
+            .as(ReadReplicaConnectionFactory::readOnly);
+    }
+
+    @Override
+    public Mono<Boolean> existsEmployee(UUID uuid) {
+        return r2dbcRepository
+            .existsById(uuid)
+            .as(ReadReplicaConnectionFactory::onPrimary);
+    }
+
+    // One array parameter whatever the number of uuids, so every batch size
+    // shares a single prepared plan
+    @Override
+    public Flux<Employee> getEmployeesByIds(List<UUID> uuids) {
+        return Flux.defer(() ->
+            entityTemplate
+                .getDatabaseClient()
+                .sql(EMPLOYEES_BY_IDS_SQL)
+                .bind("uuids", uuids.toArray(UUID[]::new))
+                .map(EmployeeReadingConverter.rows(Employee::new))
+                .all()
+        ).as(ReadReplicaConnectionFactory::readOnly);
     }
 
     @Override
     public Mono<Employee> saveEmployee(Employee employee) {
-        return r2dbcRepository.save(employee);
+        return r2dbcRepository.insertEmployee(
+            employee.getUuid(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType().name()
+        );
+    }
+
+    @Override
+    public Flux<Employee> saveEmployees(Flux<Employee> employees) {
+        return employees
+            .map(employee -> employee.toBuilder().uuid(UUID.randomUUID()).build())
+            .buffer(INSERT_CHUNK_SIZE)
+            .concatMap(chunk ->
+                writeEmployees(INSERT_EMPLOYEES_SQL, chunk).thenMany(
+                    Flux.fromIterable(chunk)
+                )
+            )
+            .as(transactionalOperator::transactional);
+    }
+
+    // A statement may write each row only once, so within a chunk the last
+    // employee with a given uuid wins.
+    @Override
+    public Flux<Employee> upsertEmployees(Flux<Employee> employees) {
+        return employees
+            .map(employee ->
+                employee.getUuid() != null
+                    ? employee
+                    : employee.toBuilder().uuid(UUID.randomUUID()).build()
+            )
+            .buffer(INSERT_CHUNK_SIZE)
+            .concatMap(chunk ->
+                writeEmployees(UPSERT_EMPLOYEES_SQL, lastPerUuid(chunk)).thenMany(
+                    Flux.fromIterable(chunk)
+                )
+            )
+            .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee employee) {
+        return r2dbcRepository.updateEmployee(
+            employee.getUuid(),
+            employee.getVersion(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmployeeType().name()
+        );
+    }
+
+    @Override
+    public Mono<Employee> patchEmployee(UUID uuid, Employee patch) {
+        return r2dbcRepository.patchEmployee(
+            uuid,
+            patch.getVersion(),
+            patch.getFirstName(),
+            patch.getLastName(),
+            patch.getEmployeeType() != null
+                ? patch.getEmployeeType().name()
+                : null
+        );
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(UUID uuid) {
+        return r2dbcRepository.deleteEmployee(uuid).map(deleted -> deleted > 0);
+    }
+
+    // On the primary: a position the relay has announced must be readable at once,
+    // or a consumer woken by it would find nothing and wait for the next change.
+    @Override
+    public Flux<EmployeeChange> getChanges(long after, int limit) {
+        return entityTemplate
+            .getDatabaseClient()
+            .sql(CHANGES_SQL)
+            .bind("after", after)
+            .bind("limit", limit)
+            .map(EmployeePersistenceAdapter::toChange)
+            .all()
+            .as(ReadReplicaConnectionFactory::onPrimary);
     }
 
     @Override
-    public Mono<Void> deleteEmployee(UUID uuid) {
-        return r2dbcRepository.deleteById(uuid);
+    public Flux<Long> getChangePositions() {
+        return changeRelay.positions();
+    }
+
+    // Only the criteria that are present end up in the WHERE clause, so each
+    // combination gets its own plan and can use the matching index.
+    private static String criteria(
+        EmployeeFilter filter,
+        Map<String, Object> bindings
+    ) {
+        StringBuilder sql = new StringBuilder();
+        if (filter.employeeType() != null) {
+            sql.append(" AND employee_type = :employeeType");
+            bindings.put("employeeType", filter.employeeType().name());
+        }
+        if (filter.lastNamePrefix() != null) {
+            sql.append(" AND lower(last_name) LIKE :lastNamePrefix");
+            bindings.put(
+                "lastNamePrefix",
+                escapeLike(filter.lastNamePrefix()) + "%"
+            );
+        }
+        if (filter.query() != null) {
+            sql
+                .append(" AND ")
+                .append(FULL_NAME_EXPRESSION)
+                .append(" LIKE :query");
+            bindings.put("query", "%" + escapeLike(filter.query()) + "%");
+        }
+        return sql.toString();
+    }
+
+    private static GenericExecuteSpec bind(
+        GenericExecuteSpec spec,
+        Map<String, Object> bindings
+    ) {
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec;
+    }
+
+    // Lower-cased to match the indexed expressions; LIKE wildcards in user input
+    // are escaped so they match literally.
+    private static String escapeLike(String value) {
+        return value
+            .toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
+    private static EmployeeChange toChange(Readable row) {
+        String employeeType = row.get("employee_type", String.class);
+        Employee employee = Employee.builder()
+            .uuid(row.get("employee_uuid", UUID.class))
+            .firstName(row.get("first_name", String.class))
+            .lastName(row.get("last_name", String.class))
+            .employeeType(
+                employeeType != null ? EmployeeType.valueOf(employeeType) : null
+            )
+            .version(row.get("version", Long.class))
+            .build();
+        return new EmployeeChange(
+            row.get("position", Long.class),
+            EmployeeChangeType.valueOf(row.get("change_type", String.class)),
+            employee,
+            row.get("changed_at", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    private static List<Employee> lastPerUuid(List<Employee> employees) {
+        Map<UUID, Employee> byUuid = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            byUuid.remove(employee.getUuid());
+            byUuid.put(employee.getUuid(), employee);
+        }
+        return List.copyOf(byUuid.values());
+    }
+
+    private Mono<Long> writeEmployees(String sql, List<Employee> employees) {
+        int size = employees.size();
+        UUID[] uuids = new UUID[size];
+        String[] firstNames = new String[size];
+        String[] lastNames = new String[size];
+        String[] employeeTypes = new String[size];
+        for (int i = 0; i < size; i++) {
+            Employee employee = employees.get(i);
+            uuids[i] = employee.getUuid();
+            firstNames[i] = employee.getFirstName();
+            lastNames[i] = employee.getLastName();
+            employeeTypes[i] = employee.getEmployeeType().name();
+        }
+        return entityTemplate
+            .getDatabaseClient()
+            .sql(sql)
+            .bind("uuids", uuids)
+            .bind("firstNames", firstNames)
+            .bind("lastNames", lastNames)
+            .bind("employeeTypes", employeeTypes)
+            .fetch()
+            .rowsUpdated();
     }
 }
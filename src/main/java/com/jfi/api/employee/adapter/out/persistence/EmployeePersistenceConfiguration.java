@@ -0,0 +1,106 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.port.out.EmployeePersistence;
+import com.jfi.api.infrastructure.DatabaseNotificationListener;
+import com.jfi.api.infrastructure.ReadReplicaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+@Configuration
+public class EmployeePersistenceConfiguration {
+
+    static final String EMPLOYEE_CACHE_NAME = "employees";
+
+    // Takes the place of Boot's conversions, keeping the dialect's converters
+    @Bean
+    R2dbcCustomConversions r2dbcCustomConversions(
+        ConnectionFactory connectionFactory
+    ) {
+        return R2dbcCustomConversions.of(
+            DialectResolver.getDialect(connectionFactory),
+            List.of(new EmployeeReadingConverter())
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+        name = "employee.cache.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    AsyncCache<UUID, Employee> employeeCache(
+        EmployeeCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        AsyncCache<UUID, Employee> cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.timeToLive())
+            .recordStats()
+            .buildAsync();
+        return CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            cache,
+            EMPLOYEE_CACHE_NAME
+        );
+    }
+
+    // Adapter, then single-flight, then the cache when each is enabled
+    @Bean
+    @Primary
+    EmployeePersistence employeePersistence(
+        EmployeePersistenceAdapter employeePersistenceAdapter,
+        EmployeeCoalescingProperties coalescingProperties,
+        ObjectProvider<AsyncCache<UUID, Employee>> employeeCache,
+        MeterRegistry meterRegistry
+    ) {
+        EmployeePersistence persistence = employeePersistenceAdapter;
+        if (coalescingProperties.enabled()) {
+            persistence = new CoalescingEmployeePersistence(
+                persistence,
+                coalescingProperties.listWindow(),
+                meterRegistry
+            );
+        }
+        AsyncCache<UUID, Employee> cache = employeeCache.getIfAvailable();
+        if (cache != null) {
+            persistence = new CachingEmployeePersistence(persistence, cache);
+        }
+        return persistence;
+    }
+
+    // Replicas may lag a write by up to the read-your-writes window, which is
+    // how long the entry stays liable to be reloaded stale
+    @Bean
+    @ConditionalOnProperty(
+        name = "employee.cache.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    EmployeeCacheInvalidation employeeCacheInvalidation(
+        DatabaseNotificationListener databaseNotificationListener,
+        AsyncCache<UUID, Employee> employeeCache,
+        ReadReplicaProperties replicaProperties
+    ) {
+        return new EmployeeCacheInvalidation(
+            databaseNotificationListener,
+            employeeCache,
+            replicaProperties.urls().isEmpty()
+                ? Duration.ZERO
+                : replicaProperties.readYourWritesWindow()
+        );
+    }
+}
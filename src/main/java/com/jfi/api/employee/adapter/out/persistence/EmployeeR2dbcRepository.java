@@ -2,6 +2,65 @@ package com.jfi.api.employee.adapter.out.persistence;
 
 import com.jfi.api.employee.domain.Employee;
 import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
 
-public interface EmployeeR2dbcRepository extends ReactiveCrudRepository<Employee, UUID> {}
+public interface EmployeeR2dbcRepository extends ReactiveCrudRepository<Employee, UUID> {
+    // Written by hand rather than through save(): Spring Data would send its own
+    // @Version value instead of letting the column default draw from the sequence.
+    @Query(
+        """
+        INSERT INTO employee (uuid, first_name, last_name, employee_type)
+        VALUES (COALESCE(:uuid, gen_random_uuid()), :firstName, :lastName, :employeeType)
+        RETURNING *
+        """
+    )
+    Mono<Employee> insertEmployee(
+        UUID uuid,
+        String firstName,
+        String lastName,
+        String employeeType
+    );
+
+    @Query(
+        """
+        UPDATE employee
+        SET first_name = :firstName, last_name = :lastName, employee_type = :employeeType,
+            version = nextval('employee_version_seq')
+        WHERE uuid = :uuid AND (:version IS NULL OR version = :version)
+        RETURNING *
+        """
+    )
+    Mono<Employee> updateEmployee(
+        UUID uuid,
+        Long version,
+        String firstName,
+        String lastName,
+        String employeeType
+    );
+
+    @Query(
+        """
+        UPDATE employee
+        SET first_name = COALESCE(:firstName, first_name),
+            last_name = COALESCE(:lastName, last_name),
+            employee_type = COALESCE(:employeeType, employee_type),
+            version = nextval('employee_version_seq')
+        WHERE uuid = :uuid AND (:version IS NULL OR version = :version)
+        RETURNING *
+        """
+    )
+    Mono<Employee> patchEmployee(
+        UUID uuid,
+        Long version,
+        String firstName,
+        String lastName,
+        String employeeType
+    );
+
+    @Modifying
+    @Query("DELETE FROM employee WHERE uuid = :uuid")
+    Mono<Long> deleteEmployee(UUID uuid);
+}
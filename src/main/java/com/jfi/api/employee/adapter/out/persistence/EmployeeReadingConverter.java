@@ -0,0 +1,120 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+// Replaces the reflective entity mapping for every employee row, whether it comes
+// from the adapter's own queries or from the repository. Values are read by
+// column position, and a column the query did not select reads as null.
+//
+// The adapter maps each result with its own rows(...) mapper, which looks the
+// positions up in the first row's metadata and reuses them for the rest. The
+// repository's single-row results come through convert, which looks them up for
+// that row. Nothing is shared between results, so concurrent queries with
+// different columns cannot mix up each other's positions.
+@ReadingConverter
+public class EmployeeReadingConverter implements Converter<Row, Employee> {
+
+    @Override
+    public Employee convert(Row row) {
+        return new Columns(row.getMetadata()).read(row, Employee::new);
+    }
+
+    // Create one per subscription: the mapper keeps the positions of the first
+    // result it sees
+    static <T> BiFunction<Row, RowMetadata, T> rows(
+        EmployeeProjection<T> projection
+    ) {
+        return new ResultMapper<>(projection);
+    }
+
+    // A switch instead of valueOf, which goes through a name map per row
+    static EmployeeType employeeType(String name) {
+        if (name == null) {
+            return null;
+        }
+        return switch (name) {
+            case "WORKER" -> EmployeeType.WORKER;
+            case "MANAGER" -> EmployeeType.MANAGER;
+            case "FINANCE_MANAGER" -> EmployeeType.FINANCE_MANAGER;
+            default -> throw new IllegalArgumentException(
+                "Unknown employee type: " + name
+            );
+        };
+    }
+
+    // Rows of a result are delivered one at a time, so the field needs no
+    // synchronization
+    private static final class ResultMapper<T>
+        implements BiFunction<Row, RowMetadata, T> {
+
+        private final EmployeeProjection<T> projection;
+        private Columns columns;
+
+        private ResultMapper(EmployeeProjection<T> projection) {
+            this.projection = projection;
+        }
+
+        @Override
+        public T apply(Row row, RowMetadata metadata) {
+            if (columns == null) {
+                columns = new Columns(metadata);
+            }
+            return columns.read(row, projection);
+        }
+    }
+
+    private static final class Columns {
+
+        private final int uuid;
+        private final int firstName;
+        private final int lastName;
+        private final int employeeType;
+        private final int version;
+
+        private Columns(RowMetadata metadata) {
+            List<? extends ColumnMetadata> columns = metadata.getColumnMetadatas();
+            this.uuid = indexOf(columns, "uuid");
+            this.firstName = indexOf(columns, "first_name");
+            this.lastName = indexOf(columns, "last_name");
+            this.employeeType = indexOf(columns, "employee_type");
+            this.version = indexOf(columns, "version");
+        }
+
+        private <T> T read(Row row, EmployeeProjection<T> projection) {
+            return projection.project(
+                read(row, uuid, UUID.class),
+                read(row, firstName, String.class),
+                read(row, lastName, String.class),
+                employeeType(read(row, employeeType, String.class)),
+                read(row, version, Long.class)
+            );
+        }
+
+        private static <T> T read(Row row, int index, Class<T> type) {
+            return index < 0 ? null : row.get(index, type);
+        }
+
+        // -1 for a column the query did not select
+        private static int indexOf(
+            List<? extends ColumnMetadata> columns,
+            String name
+        ) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getName().equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -7,9 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -25,4 +26,8 @@ public class Employee {
 
     @Builder.Default
     private EmployeeType employeeType = EmployeeType.WORKER;
+
+    // Assigned by the database from employee_version_seq on every write
+    @Version
+    private Long version;
 }
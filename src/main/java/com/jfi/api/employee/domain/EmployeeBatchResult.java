@@ -0,0 +1,15 @@
+package com.jfi.api.employee.domain;
+
+public record EmployeeBatchResult(int index, Employee employee, String error) {
+    public static EmployeeBatchResult created(int index, Employee employee) {
+        return new EmployeeBatchResult(index, employee, null);
+    }
+
+    public static EmployeeBatchResult rejected(int index, String error) {
+        return new EmployeeBatchResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.jfi.api.employee.domain;
+
+import java.time.Instant;
+
+// The employee as the change left it; a deletion only carries the uuid and the
+// last version.
+public record EmployeeChange(
+    long position,
+    EmployeeChangeType type,
+    Employee employee,
+    Instant changedAt
+) {}
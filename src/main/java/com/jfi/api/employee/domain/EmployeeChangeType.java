@@ -0,0 +1,7 @@
+package com.jfi.api.employee.domain;
+
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+}
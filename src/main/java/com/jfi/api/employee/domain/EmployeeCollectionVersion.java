@@ -0,0 +1,7 @@
+package com.jfi.api.employee.domain;
+
+// The newest change feed position and the number of changes committed since the
+// relay last ran. A committed write adds to pending until the relay moves it into
+// the feed, which raises position, so any change to the collection changes this
+// pair. Both follow commit order, unlike the versions writers take.
+public record EmployeeCollectionVersion(long position, long pending) {}
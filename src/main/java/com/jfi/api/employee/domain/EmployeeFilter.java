@@ -0,0 +1,26 @@
+package com.jfi.api.employee.domain;
+
+// Every criterion is optional; blank text counts as absent. Text matching is
+// case-insensitive: lastNamePrefix anchors at the start of the last name, query
+// matches anywhere in "firstName lastName". The persistence adapter applies it
+// in SQL.
+public record EmployeeFilter(
+    EmployeeType employeeType,
+    String lastNamePrefix,
+    String query
+) {
+    public static final EmployeeFilter NONE = new EmployeeFilter(
+        null,
+        null,
+        null
+    );
+
+    public EmployeeFilter {
+        lastNamePrefix = blankToNull(lastNamePrefix);
+        query = blankToNull(query);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,10 @@
+package com.jfi.api.employee.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public record EmployeePage(List<Employee> employees, UUID nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
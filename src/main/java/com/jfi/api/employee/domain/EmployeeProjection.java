@@ -0,0 +1,16 @@
+package com.jfi.api.employee.domain;
+
+import java.util.UUID;
+
+// Turns one stored employee's fields straight into T, for reads that would
+// otherwise build an Employee only to copy it into something else.
+@FunctionalInterface
+public interface EmployeeProjection<T> {
+    T project(
+        UUID uuid,
+        String firstName,
+        String lastName,
+        EmployeeType employeeType,
+        Long version
+    );
+}
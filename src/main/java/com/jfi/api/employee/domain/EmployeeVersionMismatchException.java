@@ -0,0 +1,13 @@
+package com.jfi.api.employee.domain;
+
+import java.util.UUID;
+
+public class EmployeeVersionMismatchException extends EmployeeException {
+
+    public static final String MESSAGE_PREFIX =
+        "Employee was changed by another request: ";
+
+    public EmployeeVersionMismatchException(UUID uuid) {
+        super(MESSAGE_PREFIX + uuid);
+    }
+}
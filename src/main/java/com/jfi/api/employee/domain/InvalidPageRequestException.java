@@ -0,0 +1,8 @@
+package com.jfi.api.employee.domain;
+
+public class InvalidPageRequestException extends EmployeeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
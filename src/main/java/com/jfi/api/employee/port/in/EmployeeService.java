@@ -1,6 +1,14 @@
 package com.jfi.api.employee.port.in;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeePage;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -8,13 +16,45 @@ import reactor.core.publisher.Mono;
 public interface EmployeeService {
     Flux<Employee> findAllEmployees();
 
+    <T> Flux<T> findAllEmployees(EmployeeProjection<T> projection);
+
+    // Every matching employee, read through a cursor as the subscriber asks
+    <T> Flux<T> findAllEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    );
+
+    Mono<EmployeePage> findEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    );
+
+    Mono<EmployeeCollectionVersion> findCollectionVersion();
+
     Mono<Employee> findEmployeeById(UUID uuid);
 
+    // The employees that exist, in the order asked for; duplicates appear once
+    Flux<Employee> findEmployeesByIds(List<UUID> uuids);
+
     Mono<Employee> createEmployee(Employee employee);
 
+    Flux<EmployeeBatchResult> createEmployees(Flux<Employee> employees);
+
+    // Like createEmployees, but an employee whose uuid is already stored
+    // replaces it instead of failing the batch
+    Flux<EmployeeBatchResult> upsertEmployees(Flux<Employee> employees);
+
     Mono<Employee> updateEmployee(UUID uuid, Employee employee);
 
     Mono<Employee> patchEmployee(UUID uuid, Employee employee);
 
     Mono<Void> deleteEmployee(UUID uuid);
+
+    // Every change after the given position, then new changes as they happen
+    Flux<EmployeeChange> streamChanges(long after);
+
+    // Up to limit changes after the given position, waiting up to wait for the
+    // first one; an empty list means nothing changed in time.
+    Mono<List<EmployeeChange>> findChanges(long after, int limit, Duration wait);
 }
@@ -1,6 +1,11 @@
 package com.jfi.api.employee.port.out;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import java.util.List;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -8,9 +13,46 @@ import reactor.core.publisher.Mono;
 public interface EmployeePersistence {
     Flux<Employee> getEmployees();
 
+    // Same rows as getEmployees(), each projected without building an Employee
+    <T> Flux<T> getEmployees(EmployeeProjection<T> projection);
+
+    // As above, limited to the employees matching the filter
+    <T> Flux<T> getEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    );
+
+    Flux<Employee> getEmployees(EmployeeFilter filter, UUID after, int limit);
+
+    Mono<EmployeeCollectionVersion> getCollectionVersion();
+
     Mono<Employee> getEmployeeById(UUID uuid);
 
+    // Asks the primary, past any cache: for deciding the outcome of a write
+    Mono<Boolean> existsEmployee(UUID uuid);
+
+    // Those of the given employees that exist, in no particular order
+    Flux<Employee> getEmployeesByIds(List<UUID> uuids);
+
     Mono<Employee> saveEmployee(Employee employee);
 
-    Mono<Void> deleteEmployee(UUID uuid);
+    Flux<Employee> saveEmployees(Flux<Employee> employees);
+
+    // Inserts each employee, or overwrites the stored one with its uuid; emits
+    // them in the order given
+    Flux<Employee> upsertEmployees(Flux<Employee> employees);
+
+    // A non-null version makes the write conditional: it only applies while the
+    // stored row still has that version, and emits empty otherwise.
+    Mono<Employee> updateEmployee(Employee employee);
+
+    Mono<Employee> patchEmployee(UUID uuid, Employee patch);
+
+    Mono<Boolean> deleteEmployee(UUID uuid);
+
+    Flux<EmployeeChange> getChanges(long after, int limit);
+
+    // Hot: emits the newest change position whenever the feed grows, and replays
+    // the latest one to each new subscriber.
+    Flux<Long> getChangePositions();
 }
@@ -1,12 +1,27 @@
 package com.jfi.api.employee.usecase;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeePage;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
 import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
 import com.jfi.api.employee.port.in.EmployeeService;
 import com.jfi.api.employee.port.out.EmployeePersistence;
 import io.micrometer.observation.annotation.Observed;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,6 +30,13 @@ import reactor.core.publisher.Mono;
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MIN_QUERY_LENGTH = 3;
+    static final int BATCH_CHUNK_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 50_000;
+    static final String BATCH_LIMIT_MESSAGE =
+        "At most " + MAX_BATCH_SIZE + " employees can be written at once";
+
     private final EmployeePersistence employeePersistence;
 
     public EmployeeServiceImpl(EmployeePersistence employeePersistence) {
@@ -26,11 +48,63 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeePersistence.getEmployees();
     }
 
+    @Override
+    public <T> Flux<T> findAllEmployees(EmployeeProjection<T> projection) {
+        return employeePersistence.getEmployees(projection);
+    }
+
+    @Override
+    public <T> Flux<T> findAllEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return Flux.defer(() -> {
+            validateFilter(filter);
+            return employeePersistence.getEmployees(filter, projection);
+        });
+    }
+
+    @Override
+    public Mono<EmployeePage> findEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        return Mono.defer(() -> {
+            validatePageSize(limit);
+            validateFilter(filter);
+            // One extra row tells us whether another page follows without a COUNT query.
+            return employeePersistence
+                .getEmployees(filter, after, limit + 1)
+                .collectList()
+                .map(employees -> toPage(employees, limit));
+        });
+    }
+
+    @Override
+    public Mono<EmployeeCollectionVersion> findCollectionVersion() {
+        return employeePersistence.getCollectionVersion();
+    }
+
     @Override
     public Mono<Employee> findEmployeeById(UUID uuid) {
         return employeePersistence.getEmployeeById(uuid);
     }
 
+    @Override
+    public Flux<Employee> findEmployeesByIds(List<UUID> uuids) {
+        return Flux.defer(() -> {
+            List<UUID> distinct = uuids.stream().distinct().toList();
+            validateLookupSize(distinct.size());
+            return employeePersistence
+                .getEmployeesByIds(distinct)
+                .collectMap(Employee::getUuid)
+                .flatMapIterable(found ->
+                    distinct.stream().map(found::get).filter(Objects::nonNull).toList()
+                );
+        });
+    }
+
     @Override
     public Mono<Employee> createEmployee(Employee employee) {
         return Mono.defer(() -> {
@@ -39,51 +113,243 @@ public class EmployeeServiceImpl implements EmployeeService {
         });
     }
 
+    @Override
+    public Flux<EmployeeBatchResult> createEmployees(Flux<Employee> employees) {
+        return writeBatch(employees, employeePersistence::saveEmployees);
+    }
+
+    @Override
+    public Flux<EmployeeBatchResult> upsertEmployees(Flux<Employee> employees) {
+        return writeBatch(employees, employeePersistence::upsertEmployees);
+    }
+
     @Override
     public Mono<Employee> updateEmployee(UUID uuid, Employee employee) {
-        return employeePersistence
-            .getEmployeeById(uuid)
-            .switchIfEmpty(Mono.error(new EmployeeNotFoundException(uuid)))
-            .flatMap(existing ->
-                Mono.defer(() -> {
-                    validateEmployee(employee);
-                    employee.setUuid(uuid);
-                    return employeePersistence.saveEmployee(employee);
-                })
-            );
+        return Mono.defer(() -> {
+            validateEmployee(employee);
+            employee.setUuid(uuid);
+            return employeePersistence.updateEmployee(employee);
+        }).switchIfEmpty(rejectedWrite(uuid, employee.getVersion()));
     }
 
     @Override
     public Mono<Employee> patchEmployee(UUID uuid, Employee employee) {
+        return Mono.defer(() -> {
+            validatePatch(employee);
+            return employeePersistence.patchEmployee(uuid, employee);
+        }).switchIfEmpty(rejectedWrite(uuid, employee.getVersion()));
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(UUID uuid) {
         return employeePersistence
-            .getEmployeeById(uuid)
-            .switchIfEmpty(Mono.error(new EmployeeNotFoundException(uuid)))
-            .flatMap(existing ->
-                Mono.defer(() -> {
-                    applyPatch(existing, employee);
-                    validateEmployee(existing);
-                    return employeePersistence.saveEmployee(existing);
-                })
+            .deleteEmployee(uuid)
+            .filter(deleted -> deleted)
+            .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(uuid)))
+            .then();
+    }
+
+    @Override
+    public Flux<EmployeeChange> streamChanges(long after) {
+        return Flux.defer(() -> {
+            validateChangePosition(after);
+            AtomicLong last = new AtomicLong(after);
+            // Positions replay the latest one on subscribe, so a change relayed
+            // between the backlog query and the subscription is not missed.
+            return Flux.concat(
+                changesAfter(last),
+                employeePersistence
+                    .getChangePositions()
+                    .onBackpressureLatest()
+                    .concatMap(
+                        position ->
+                            position > last.get()
+                                ? changesAfter(last)
+                                : Flux.empty(),
+                        1
+                    )
             );
+        });
     }
 
     @Override
-    public Mono<Void> deleteEmployee(UUID uuid) {
+    public Mono<List<EmployeeChange>> findChanges(
+        long after,
+        int limit,
+        Duration wait
+    ) {
+        return Mono.defer(() -> {
+            validatePageSize(limit);
+            validateChangePosition(after);
+            Mono<List<EmployeeChange>> changes = employeePersistence
+                .getChanges(after, limit)
+                .collectList();
+            return changes.flatMap(found -> {
+                if (!found.isEmpty()) {
+                    return Mono.just(found);
+                }
+                return employeePersistence
+                    .getChangePositions()
+                    .filter(position -> position > after)
+                    .next()
+                    .timeout(wait, Mono.empty())
+                    .flatMap(position -> changes)
+                    .defaultIfEmpty(List.of());
+            });
+        });
+    }
+
+    // A conditional write that matched no row either lost the race or targeted a
+    // missing employee. Only the failed write pays for the lookup that tells which,
+    // and it asks the primary: a cached or replicated copy may predate the write.
+    private Mono<Employee> rejectedWrite(UUID uuid, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(() -> new EmployeeNotFoundException(uuid));
+        }
         return employeePersistence
-            .getEmployeeById(uuid)
-            .switchIfEmpty(Mono.error(new EmployeeNotFoundException(uuid)))
-            .flatMap(existing -> employeePersistence.deleteEmployee(uuid));
+            .existsEmployee(uuid)
+            .flatMap(exists ->
+                Mono.<Employee>error(
+                    exists
+                        ? new EmployeeVersionMismatchException(uuid)
+                        : new EmployeeNotFoundException(uuid)
+                )
+            );
     }
 
-    private void applyPatch(Employee existing, Employee patch) {
-        if (patch.getFirstName() != null) {
-            existing.setFirstName(patch.getFirstName());
+    // Pages through the feed until it is caught up, advancing last as it goes
+    private Flux<EmployeeChange> changesAfter(AtomicLong last) {
+        Mono<List<EmployeeChange>> nextPage = Mono.defer(() ->
+            employeePersistence.getChanges(last.get(), MAX_PAGE_SIZE).collectList()
+        ).doOnNext(page -> {
+            if (!page.isEmpty()) {
+                last.set(page.getLast().position());
+            }
+        });
+        return nextPage
+            .expand(page -> page.size() < MAX_PAGE_SIZE ? Mono.empty() : nextPage)
+            .flatMapIterable(page -> page);
+    }
+
+    // Validates and writes the batch a chunk at a time, so only one chunk is held
+    // in memory and each chunk's results are emitted once it is stored. A chunk
+    // is written atomically; a failure leaves the chunks before it stored.
+    //
+    // Results are already on the wire when the limit is reached, so employees
+    // past it are rejected one by one instead of failing the response.
+    private Flux<EmployeeBatchResult> writeBatch(
+        Flux<Employee> employees,
+        Function<Flux<Employee>, Flux<Employee>> write
+    ) {
+        return employees
+            .index((index, employee) ->
+                index < MAX_BATCH_SIZE
+                    ? validateForBatch(index.intValue(), employee)
+                    : EmployeeBatchResult.rejected(
+                        index.intValue(),
+                        BATCH_LIMIT_MESSAGE
+                    )
+            )
+            .buffer(BATCH_CHUNK_SIZE)
+            .concatMap(chunk -> writeChunk(chunk, write));
+    }
+
+    private Flux<EmployeeBatchResult> writeChunk(
+        List<EmployeeBatchResult> chunk,
+        Function<Flux<Employee>, Flux<Employee>> write
+    ) {
+        List<Employee> valid = chunk
+            .stream()
+            .filter(EmployeeBatchResult::isCreated)
+            .map(EmployeeBatchResult::employee)
+            .toList();
+        if (valid.isEmpty()) {
+            return Flux.fromIterable(chunk);
         }
-        if (patch.getLastName() != null) {
-            existing.setLastName(patch.getLastName());
+        return write
+            .apply(Flux.fromIterable(valid))
+            .collectList()
+            .flatMapIterable(saved -> withSavedEmployees(chunk, saved));
+    }
+
+    private EmployeeBatchResult validateForBatch(int index, Employee employee) {
+        try {
+            validateEmployee(employee);
+            return EmployeeBatchResult.created(index, employee);
+        } catch (InvalidEmployeeException e) {
+            return EmployeeBatchResult.rejected(index, e.getMessage());
+        }
+    }
+
+    // Batch writes emit the stored employees in the order they were given.
+    private List<EmployeeBatchResult> withSavedEmployees(
+        List<EmployeeBatchResult> results,
+        List<Employee> saved
+    ) {
+        Iterator<Employee> stored = saved.iterator();
+        List<EmployeeBatchResult> merged = new ArrayList<>(results.size());
+        for (EmployeeBatchResult result : results) {
+            merged.add(
+                result.isCreated()
+                    ? EmployeeBatchResult.created(result.index(), stored.next())
+                    : result
+            );
         }
-        if (patch.getEmployeeType() != null) {
-            existing.setEmployeeType(patch.getEmployeeType());
+        return merged;
+    }
+
+    private EmployeePage toPage(List<Employee> employees, int limit) {
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+        List<Employee> page = employees.subList(0, limit);
+        return new EmployeePage(page, page.getLast().getUuid());
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException(
+                "Limit must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+    }
+
+    private void validateLookupSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException(
+                "Between 1 and " + MAX_PAGE_SIZE + " ids can be looked up at once"
+            );
+        }
+    }
+
+    private void validateChangePosition(long after) {
+        if (after < 0) {
+            throw new InvalidPageRequestException(
+                "Change position must not be negative"
+            );
+        }
+    }
+
+    // Trigrams need at least three characters; a shorter term cannot use the index
+    // and would scan the whole table.
+    private void validateFilter(EmployeeFilter filter) {
+        if (filter.query() != null && filter.query().length() < MIN_QUERY_LENGTH) {
+            throw new InvalidPageRequestException(
+                "Search term must be at least " +
+                    MIN_QUERY_LENGTH +
+                    " characters"
+            );
+        }
+    }
+
+    // A patch only carries the fields to change; the stored row already satisfies
+    // validateEmployee, so checking the provided fields keeps the merged row valid.
+    private void validatePatch(Employee patch) {
+        if (patch.getFirstName() != null && patch.getFirstName().isBlank()) {
+            throw new InvalidEmployeeException("First name must not be blank");
+        }
+        if (patch.getLastName() != null && patch.getLastName().isBlank()) {
+            throw new InvalidEmployeeException("Last name must not be blank");
         }
     }
 
@@ -0,0 +1,138 @@
+package com.jfi.api.infrastructure;
+
+import static org.apache.logging.log4j.util.Unbox.box;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+// HTTP-level logging lives here, not in the LoggingAspect, because the aspect only
+// intercepts our own methods. Requests rejected by the framework (405, unmapped paths)
+// never reach a controller, so only a WebFilter sees every request/response.
+//
+// Logs through the Log4j2 API rather than SLF4J: fixed-arity parameters and
+// Unbox keep the event garbage-free on the async logger path.
+@Log4j2
+@Component
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    static final String REQUEST_ID_KEY = "requestId";
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    // Just inside the HTTP server observation filter (HIGHEST_PRECEDENCE + 1), so
+    // the trace is open when we log, and ahead of every other filter we time.
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+    private static final String UNKNOWN_STATUS = "unknown";
+
+    private final RequestIdGenerator requestIdGenerator;
+
+    public AccessLogFilter(RequestIdGenerator requestIdGenerator) {
+        this.requestIdGenerator = requestIdGenerator;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String requestId = requestId(exchange.getRequest());
+        exchange.getResponse().getHeaders().add(REQUEST_ID_HEADER, requestId);
+        long start = System.nanoTime();
+        return chain
+            .filter(exchange)
+            .doOnEach(signal -> {
+                if (signal.isOnComplete() || signal.isOnError()) {
+                    log(exchange, requestId, start, signal.getThrowable());
+                }
+            })
+            .doOnCancel(() -> log(exchange, requestId, start, null))
+            .contextWrite(Context.of(REQUEST_ID_KEY, requestId));
+    }
+
+    private void log(
+        ServerWebExchange exchange,
+        String requestId,
+        long start,
+        Throwable cause
+    ) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        boolean serverError =
+            cause != null && status != null && status.is5xxServerError();
+        Level level = serverError ? Level.ERROR : Level.INFO;
+        if (!log.isEnabled(level)) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        Object statusValue =
+            status != null ? box(status.value()) : UNKNOWN_STATUS;
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        ThreadContext.put(REQUEST_ID_KEY, requestId);
+        if (cause != null) {
+            log.log(
+                level,
+                "{} {} {} in {}ms - {}",
+                request.getMethod(),
+                request.getPath(),
+                statusValue,
+                box(durationMs),
+                cause.getMessage()
+            );
+        } else {
+            log.log(
+                level,
+                "{} {} {} in {}ms",
+                request.getMethod(),
+                request.getPath(),
+                statusValue,
+                box(durationMs)
+            );
+        }
+        ThreadContext.remove(REQUEST_ID_KEY);
+    }
+
+    // An upstream gateway's ID is kept so it can be traced end to end, but only if
+    // it is safe to echo into headers and log lines.
+    private String requestId(ServerHttpRequest request) {
+        String incoming = request.getHeaders().getFirst(REQUEST_ID_HEADER);
+        return isValidRequestId(incoming)
+            ? incoming
+            : requestIdGenerator.generate();
+    }
+
+    static boolean isValidRequestId(String requestId) {
+        if (
+            requestId == null ||
+            requestId.isEmpty() ||
+            requestId.length() > MAX_REQUEST_ID_LENGTH
+        ) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed =
+                (c >= 'a' && c <= 'z') ||
+                (c >= 'A' && c <= 'Z') ||
+                (c >= '0' && c <= '9') ||
+                c == '-' ||
+                c == '_' ||
+                c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
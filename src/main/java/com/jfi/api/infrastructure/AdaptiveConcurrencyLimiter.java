@@ -0,0 +1,108 @@
+package com.jfi.api.infrastructure;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Caps the requests in flight. When adaptive, the cap follows latency (AIMD): a
+// response slower than the threshold, or a failed one, cuts it by the backoff
+// ratio, and a fast one raises it by one while at least half of it is in use.
+// It starts at initialLimit and stays between minLimit and maxLimit; when not
+// adaptive it stays at initialLimit.
+//
+// One slow period makes every request in flight slow, so the cut is made at most
+// once per backoffInterval; otherwise a burst of slow responses would take the
+// limit straight to minLimit.
+class AdaptiveConcurrencyLimiter {
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThreshold;
+    private final double backoffRatio;
+    private final long backoffInterval;
+    private final LongSupplier nanoTime;
+    private final AtomicLong nextBackoff;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    AdaptiveConcurrencyLimiter(
+        AdmissionControlProperties.Concurrency properties
+    ) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(
+        AdmissionControlProperties.Concurrency properties,
+        LongSupplier nanoTime
+    ) {
+        this.adaptive = properties.adaptive();
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.latencyThreshold = properties.latencyThreshold().toNanos();
+        this.backoffRatio = properties.backoffRatio();
+        this.backoffInterval = properties.backoffInterval().toNanos();
+        this.nanoTime = nanoTime;
+        this.nextBackoff = new AtomicLong(nanoTime.getAsLong());
+        this.limit = new AtomicInteger(properties.initialLimit());
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void onSuccess(long latencyNanos) {
+        int used = inFlight.getAndDecrement();
+        if (!adaptive) {
+            return;
+        }
+        if (latencyNanos > latencyThreshold) {
+            decrease();
+        } else if (used * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    void onFailure() {
+        inFlight.decrementAndGet();
+        if (adaptive) {
+            decrease();
+        }
+    }
+
+    // Released without a sample: cancelled, or a stream whose duration is the
+    // client's reading speed rather than ours
+    void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void decrease() {
+        long now = nanoTime.getAsLong();
+        long next = nextBackoff.get();
+        if (
+            now - next < 0 ||
+            !nextBackoff.compareAndSet(next, now + backoffInterval)
+        ) {
+            return;
+        }
+        limit.updateAndGet(current ->
+            Math.max(minLimit, (int) (current * backoffRatio))
+        );
+    }
+}
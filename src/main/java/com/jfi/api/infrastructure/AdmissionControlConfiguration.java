@@ -0,0 +1,75 @@
+package com.jfi.api.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// One rate limiter and one concurrency limit for every transport: HTTP, gRPC
+// and RSocket calls all draw on the same database pool
+@Configuration
+@ConditionalOnProperty(
+    name = "http.admission-control.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class AdmissionControlConfiguration {
+
+    @Bean
+    ClientRateLimiter admissionRateLimiter(
+        AdmissionControlProperties properties
+    ) {
+        return new ClientRateLimiter(properties.rateLimit());
+    }
+
+    @Bean
+    AdaptiveConcurrencyLimiter admissionConcurrencyLimiter(
+        AdmissionControlProperties properties
+    ) {
+        return new AdaptiveConcurrencyLimiter(properties.concurrency());
+    }
+
+    @Bean
+    AdmissionControlFilter admissionControlFilter(
+        AdmissionControlProperties properties,
+        ClientRateLimiter rateLimiter,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        return new AdmissionControlFilter(
+            properties,
+            rateLimiter,
+            concurrencyLimiter,
+            objectMapper,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    AdmissionControlGrpcInterceptor admissionControlGrpcInterceptor(
+        AdmissionControlProperties properties,
+        ClientRateLimiter rateLimiter,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        MeterRegistry meterRegistry
+    ) {
+        return new AdmissionControlGrpcInterceptor(
+            properties,
+            rateLimiter,
+            concurrencyLimiter,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    AdmissionControlRSocketInterceptor admissionControlRSocketInterceptor(
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        MeterRegistry meterRegistry
+    ) {
+        return new AdmissionControlRSocketInterceptor(
+            concurrencyLimiter,
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,260 @@
+package com.jfi.api.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// Turns requests away before they reach the service, so one client hammering
+// the API, or more work than the database pool can serve, gets 429s instead of
+// queueing until everyone times out. First, when rate limiting is on, each
+// client (the configured key header, else the remote address) spends a token
+// from its own bucket; then requests to the routes that hold a connection
+// longest must get an in-flight slot. Rejections answer problem+json with
+// Retry-After, counted by reason. The limiters are shared with the gRPC and
+// RSocket servers, which draw on the same database pool.
+public class AdmissionControlFilter implements WebFilter, Ordered {
+
+    // Inside the access log, so rejected requests are logged and timed too
+    static final int ORDER = AccessLogFilter.ORDER + 1;
+
+    static final String REJECTED_METRIC = "http.server.admission.rejected";
+    static final String LIMIT_METRIC =
+        "http.server.admission.concurrency.limit";
+    static final String IN_FLIGHT_METRIC =
+        "http.server.admission.concurrency.in-flight";
+    static final String TOO_MANY_REQUESTS_TITLE = "Too Many Requests";
+    static final String RATE_LIMITED_DETAIL =
+        "Request rate limit exceeded for this client";
+    static final String OVERLOADED_DETAIL =
+        "Too many requests in progress, try again shortly";
+    static final long OVERLOADED_RETRY_AFTER_SECONDS = 1;
+
+    private static final String TRANSPORT = "http";
+    private static final String UNKNOWN_CLIENT = "unknown";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_CLIENT_KEY_LENGTH = 128;
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+        MediaType.APPLICATION_NDJSON,
+        MediaType.TEXT_EVENT_STREAM
+    );
+
+    private final List<PathPattern> paths;
+    private final List<PathPattern> concurrencyPaths;
+    private final String clientKeyHeader;
+    private final boolean rateLimited;
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final Counter rateLimitRejections;
+    private final Counter concurrencyRejections;
+
+    AdmissionControlFilter(
+        AdmissionControlProperties properties,
+        ClientRateLimiter rateLimiter,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.paths = parse(properties.paths());
+        this.concurrencyPaths = parse(properties.concurrency().paths());
+        this.clientKeyHeader = properties.clientKeyHeader();
+        this.rateLimited = properties.rateLimit().enabled();
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.rateLimitRejections = rejectedCounter(
+            "rate_limit",
+            TRANSPORT,
+            meterRegistry
+        );
+        this.concurrencyRejections = rejectedCounter(
+            "concurrency",
+            TRANSPORT,
+            meterRegistry
+        );
+        Gauge.builder(LIMIT_METRIC, concurrencyLimiter::limit)
+            .description("Requests allowed in flight on the limited routes")
+            .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, concurrencyLimiter::inFlight)
+            .description("Requests in flight on the limited routes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        PathContainer path = exchange
+            .getRequest()
+            .getPath()
+            .pathWithinApplication();
+        if (!matches(paths, path)) {
+            return chain.filter(exchange);
+        }
+        return Mono.defer(() -> {
+            long wait = rateLimited
+                ? rateLimiter.tryAcquire(clientKey(exchange.getRequest()))
+                : 0;
+            if (wait > 0) {
+                rateLimitRejections.increment();
+                return reject(exchange, RATE_LIMITED_DETAIL, seconds(wait));
+            }
+            if (!matches(concurrencyPaths, path)) {
+                return chain.filter(exchange);
+            }
+            if (!concurrencyLimiter.tryAcquire()) {
+                concurrencyRejections.increment();
+                return reject(
+                    exchange,
+                    OVERLOADED_DETAIL,
+                    OVERLOADED_RETRY_AFTER_SECONDS
+                );
+            }
+            long start = System.nanoTime();
+            return chain
+                .filter(exchange)
+                .doFinally(signal -> release(exchange, signal, start));
+        });
+    }
+
+    private void release(
+        ServerWebExchange exchange,
+        SignalType signal,
+        long start
+    ) {
+        if (signal == SignalType.ON_ERROR) {
+            concurrencyLimiter.onFailure();
+        } else if (signal == SignalType.ON_COMPLETE && !isStreaming(exchange)) {
+            concurrencyLimiter.onSuccess(System.nanoTime() - start);
+        } else {
+            concurrencyLimiter.onIgnore();
+        }
+    }
+
+    private Mono<Void> reject(
+        ServerWebExchange exchange,
+        String detail,
+        long retryAfterSeconds
+    ) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.TOO_MANY_REQUESTS,
+            detail
+        );
+        problem.setTitle(TOO_MANY_REQUESTS_TITLE);
+        problem.setType(URI.create("about:blank"));
+        problem.setInstance(
+            URI.create(exchange.getRequest().getPath().value())
+        );
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(problem);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return response.writeWith(
+            Mono.just(response.bufferFactory().wrap(body))
+        );
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        return clientKey(
+            clientKeyHeader != null
+                ? request.getHeaders().getFirst(clientKeyHeader)
+                : null,
+            request.getRemoteAddress()
+        );
+    }
+
+    // A key header is only worth trusting when a gateway in front sets it after
+    // authenticating the caller; anyone can send a fresh one per request
+    static String clientKey(String key, SocketAddress remoteAddress) {
+        if (
+            key != null &&
+            !key.isEmpty() &&
+            key.length() <= MAX_CLIENT_KEY_LENGTH
+        ) {
+            return key;
+        }
+        return remoteAddress instanceof InetSocketAddress remote &&
+            remote.getAddress() != null
+            ? remote.getAddress().getHostAddress()
+            : UNKNOWN_CLIENT;
+    }
+
+    private static boolean isStreaming(ServerWebExchange exchange) {
+        MediaType contentType = exchange
+            .getResponse()
+            .getHeaders()
+            .getContentType();
+        return (
+            contentType != null &&
+            STREAMING_TYPES.stream().anyMatch(contentType::isCompatibleWith)
+        );
+    }
+
+    // Rounded up, so a client that waits as told finds a token
+    static long seconds(long nanos) {
+        return Math.max(1, (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    private static boolean matches(
+        List<PathPattern> patterns,
+        PathContainer path
+    ) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns
+            .stream()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+    }
+
+    static Counter rejectedCounter(
+        String reason,
+        String transport,
+        MeterRegistry meterRegistry
+    ) {
+        return Counter.builder(REJECTED_METRIC)
+            .description("Requests turned away before reaching the service")
+            .tag("reason", reason)
+            .tag("transport", transport)
+            .register(meterRegistry);
+    }
+}
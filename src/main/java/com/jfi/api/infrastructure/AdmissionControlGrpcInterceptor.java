@@ -0,0 +1,179 @@
+package com.jfi.api.infrastructure;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// AdmissionControlFilter for gRPC calls, sharing its limiters. When rate
+// limiting is on, the client (the key header, else the remote address) spends a
+// token; then a unary call must get an in-flight slot. Streaming calls only
+// spend the token: their duration is the client's reading speed. A rejected
+// call fails with RESOURCE_EXHAUSTED and grpc-retry-pushback-ms, gRPC's
+// Retry-After.
+class AdmissionControlGrpcInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> RETRY_PUSHBACK_KEY = Metadata.Key.of(
+        "grpc-retry-pushback-ms",
+        Metadata.ASCII_STRING_MARSHALLER
+    );
+
+    private static final String TRANSPORT = "grpc";
+
+    // The call failed on our side; anything else answered the client
+    private static final Set<Status.Code> FAILURES = EnumSet.of(
+        Status.Code.UNKNOWN,
+        Status.Code.INTERNAL,
+        Status.Code.UNAVAILABLE,
+        Status.Code.DEADLINE_EXCEEDED
+    );
+
+    private final Metadata.Key<String> clientKeyHeader;
+    private final boolean rateLimited;
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter rateLimitRejections;
+    private final Counter concurrencyRejections;
+
+    AdmissionControlGrpcInterceptor(
+        AdmissionControlProperties properties,
+        ClientRateLimiter rateLimiter,
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        MeterRegistry meterRegistry
+    ) {
+        this.clientKeyHeader = properties.clientKeyHeader() != null
+            ? Metadata.Key.of(
+                properties.clientKeyHeader(),
+                Metadata.ASCII_STRING_MARSHALLER
+            )
+            : null;
+        this.rateLimited = properties.rateLimit().enabled();
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimitRejections = AdmissionControlFilter.rejectedCounter(
+            "rate_limit",
+            TRANSPORT,
+            meterRegistry
+        );
+        this.concurrencyRejections = AdmissionControlFilter.rejectedCounter(
+            "concurrency",
+            TRANSPORT,
+            meterRegistry
+        );
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+        ServerCall<ReqT, RespT> call,
+        Metadata headers,
+        ServerCallHandler<ReqT, RespT> next
+    ) {
+        long wait = rateLimited
+            ? rateLimiter.tryAcquire(clientKey(call, headers))
+            : 0;
+        if (wait > 0) {
+            rateLimitRejections.increment();
+            return reject(
+                call,
+                AdmissionControlFilter.RATE_LIMITED_DETAIL,
+                TimeUnit.SECONDS.toMillis(AdmissionControlFilter.seconds(wait))
+            );
+        }
+        if (
+            call.getMethodDescriptor().getType() !=
+            MethodDescriptor.MethodType.UNARY
+        ) {
+            return next.startCall(call, headers);
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejections.increment();
+            return reject(
+                call,
+                AdmissionControlFilter.OVERLOADED_DETAIL,
+                TimeUnit.SECONDS.toMillis(
+                    AdmissionControlFilter.OVERLOADED_RETRY_AFTER_SECONDS
+                )
+            );
+        }
+        return limited(call, headers, next);
+    }
+
+    // The slot is released once, by whichever of close and cancel comes first
+    private <ReqT, RespT> ServerCall.Listener<ReqT> limited(
+        ServerCall<ReqT, RespT> call,
+        Metadata headers,
+        ServerCallHandler<ReqT, RespT> next
+    ) {
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        ServerCall<ReqT, RespT> releasing =
+            new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                @Override
+                public void close(Status status, Metadata trailers) {
+                    if (released.compareAndSet(false, true)) {
+                        release(status, start);
+                    }
+                    super.close(status, trailers);
+                }
+            };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(releasing, headers);
+        } catch (RuntimeException e) {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.onFailure();
+            }
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(
+            listener
+        ) {
+            @Override
+            public void onCancel() {
+                if (released.compareAndSet(false, true)) {
+                    concurrencyLimiter.onIgnore();
+                }
+                super.onCancel();
+            }
+        };
+    }
+
+    private void release(Status status, long start) {
+        if (status.getCode() == Status.Code.CANCELLED) {
+            concurrencyLimiter.onIgnore();
+        } else if (FAILURES.contains(status.getCode())) {
+            concurrencyLimiter.onFailure();
+        } else {
+            concurrencyLimiter.onSuccess(System.nanoTime() - start);
+        }
+    }
+
+    private String clientKey(ServerCall<?, ?> call, Metadata headers) {
+        return AdmissionControlFilter.clientKey(
+            clientKeyHeader != null ? headers.get(clientKeyHeader) : null,
+            call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR)
+        );
+    }
+
+    private static <ReqT> ServerCall.Listener<ReqT> reject(
+        ServerCall<ReqT, ?> call,
+        String detail,
+        long retryAfterMillis
+    ) {
+        Metadata trailers = new Metadata();
+        trailers.put(RETRY_PUSHBACK_KEY, Long.toString(retryAfterMillis));
+        call.close(Status.RESOURCE_EXHAUSTED.withDescription(detail), trailers);
+        return new ServerCall.Listener<>() {};
+    }
+}
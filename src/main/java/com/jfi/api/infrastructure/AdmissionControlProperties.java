@@ -0,0 +1,38 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("http.admission-control")
+public record AdmissionControlProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("/employees/**") List<String> paths,
+    String clientKeyHeader,
+    @DefaultValue RateLimit rateLimit,
+    @DefaultValue Concurrency concurrency
+) {
+    // Off by default: buckets are keyed by remote address, which behind a load
+    // balancer is the balancer's, unless client-key-header or
+    // server.forward-headers-strategy says who the client is
+    public record RateLimit(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") double requestsPerSecond,
+        @DefaultValue("100") int burst,
+        @DefaultValue("100000") long maxClients
+    ) {}
+
+    // Streaming routes (/employees/export, /employees/changes) do not belong in
+    // paths: they hold a slot for as long as the client reads
+    public record Concurrency(
+        @DefaultValue({ "/employees", "/employees/batch" }) List<String> paths,
+        @DefaultValue("true") boolean adaptive,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("40") int maxLimit,
+        @DefaultValue("250ms") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration backoffInterval
+    ) {}
+}
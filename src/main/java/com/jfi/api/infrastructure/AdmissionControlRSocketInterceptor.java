@@ -0,0 +1,75 @@
+package com.jfi.api.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.plugins.RSocketInterceptor;
+import io.rsocket.util.RSocketProxy;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// AdmissionControlFilter for RSocket requests, sharing its concurrency limit: a
+// request-response or fire-and-forget must get an in-flight slot, and is
+// rejected with REJECTED otherwise. Streams are not limited, as their duration
+// is the requester's reading speed. There is no rate limit: the responder sees
+// neither a remote address nor headers to tell requesters apart by.
+//
+// An error is the handler's answer to the request, so it is sampled by latency
+// like a response; only a cancelled request is left out.
+class AdmissionControlRSocketInterceptor implements RSocketInterceptor {
+
+    private static final String TRANSPORT = "rsocket";
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter concurrencyRejections;
+
+    AdmissionControlRSocketInterceptor(
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        MeterRegistry meterRegistry
+    ) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.concurrencyRejections = AdmissionControlFilter.rejectedCounter(
+            "concurrency",
+            TRANSPORT,
+            meterRegistry
+        );
+    }
+
+    @Override
+    public RSocket apply(RSocket source) {
+        return new RSocketProxy(source) {
+            @Override
+            public Mono<Void> fireAndForget(Payload payload) {
+                return limited(payload, () -> super.fireAndForget(payload));
+            }
+
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                return limited(payload, () -> super.requestResponse(payload));
+            }
+        };
+    }
+
+    private <T> Mono<T> limited(Payload payload, Supplier<Mono<T>> call) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejections.increment();
+            payload.release();
+            return Mono.error(
+                new RejectedException(AdmissionControlFilter.OVERLOADED_DETAIL)
+            );
+        }
+        long start = System.nanoTime();
+        return Mono.defer(call).doFinally(signal -> release(signal, start));
+    }
+
+    private void release(SignalType signal, long start) {
+        if (signal == SignalType.CANCEL) {
+            concurrencyLimiter.onIgnore();
+        } else {
+            concurrencyLimiter.onSuccess(System.nanoTime() - start);
+        }
+    }
+}
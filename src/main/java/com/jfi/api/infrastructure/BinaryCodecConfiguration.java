@@ -0,0 +1,56 @@
+package com.jfi.api.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+
+@Configuration
+public class BinaryCodecConfiguration {
+
+    public static final String APPLICATION_SMILE_VALUE =
+        "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(
+        APPLICATION_SMILE_VALUE
+    );
+
+    // CBOR (application/cbor) and Smile (application/x-jackson-smile) for callers
+    // that would rather not parse JSON text. Both map through copies of Boot's
+    // ObjectMapper, so field names, enums and dates read and write as in JSON, and
+    // request bodies are validated the same way. The media types must be given:
+    // copies of the JSON mapper otherwise claim JSON. Spring registers Smile by
+    // itself, with a plain ObjectMapper, so that one is replaced.
+    @Bean
+    public CodecCustomizer binaryCodecs(ObjectMapper objectMapper) {
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        return configurer -> {
+            configurer
+                .defaultCodecs()
+                .jackson2SmileDecoder(
+                    new Jackson2SmileDecoder(
+                        smileMapper,
+                        APPLICATION_SMILE
+                    )
+                );
+            configurer
+                .defaultCodecs()
+                .jackson2SmileEncoder(
+                    new SingleDocumentEncoders.Smile(smileMapper)
+                );
+            configurer
+                .customCodecs()
+                .register(
+                    new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR)
+                );
+            configurer
+                .customCodecs()
+                .register(new SingleDocumentEncoders.Cbor(cborMapper));
+        };
+    }
+}
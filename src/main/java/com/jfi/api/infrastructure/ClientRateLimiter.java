@@ -0,0 +1,56 @@
+package com.jfi.api.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// One token bucket per client, kept as a single timestamp (GCRA): the time at
+// which the bucket would be full again. Taking a token is one compare-and-set,
+// so concurrent requests from a client never wait on a lock. A bucket left
+// alone for as long as it takes to refill is the same as a new one, so that is
+// when it is evicted.
+class ClientRateLimiter {
+
+    private final long interval;
+    private final long capacity;
+    private final LongSupplier nanoTime;
+    private final Cache<String, AtomicLong> buckets;
+
+    ClientRateLimiter(AdmissionControlProperties.RateLimit properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ClientRateLimiter(
+        AdmissionControlProperties.RateLimit properties,
+        LongSupplier nanoTime
+    ) {
+        this.interval = (long) (TimeUnit.SECONDS.toNanos(1) /
+            properties.requestsPerSecond());
+        this.capacity = interval * properties.burst();
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.maxClients())
+            .expireAfterAccess(Duration.ofNanos(capacity))
+            .build();
+    }
+
+    // 0 when the client has a token, otherwise how long until it has one
+    long tryAcquire(String client) {
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = buckets.get(client, key -> new AtomicLong(now));
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + interval;
+            long wait = next - now - capacity;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+}
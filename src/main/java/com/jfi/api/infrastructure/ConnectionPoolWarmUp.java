@@ -0,0 +1,36 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Duration;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Opens spring.r2dbc.pool.initial-size connections to the primary and to every
+// read replica before the application reports ready, so the first requests after a deploy do not pay for TCP, TLS and auth.
+// A database that is not reachable yet is not fatal: the pool then connects on
+// demand, as it would without the warm-up.
+@Log4j2
+@Component
+public class ConnectionPoolWarmUp implements ApplicationRunner {
+
+    static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReadReplicaConnectionFactory connectionFactory;
+
+    public ConnectionPoolWarmUp(
+        ReadReplicaConnectionFactory connectionFactory
+    ) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer created = connectionFactory.warmup().block(WARM_UP_TIMEOUT);
+            log.info("Connection pools warmed up with {} connections", created);
+        } catch (RuntimeException e) {
+            log.warn("Connection pool warm-up failed: {}", e.getMessage());
+        }
+    }
+}
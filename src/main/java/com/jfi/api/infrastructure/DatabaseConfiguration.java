@@ -0,0 +1,201 @@
+package com.jfi.api.infrastructure;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.r2dbc.ConnectionFactoryDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class DatabaseConfiguration {
+
+    // Matches the bean name, which Actuator uses to tag the r2dbc.pool.* gauges
+    static final String POOL_NAME = "connectionFactory";
+
+    // Takes the place of Boot's pool, which backs off once a ConnectionFactory bean
+    // exists. Sizing still comes from spring.r2dbc.pool.* and the connection from
+    // R2dbcConnectionDetails, so Docker Compose and Testcontainers keep working.
+    @Bean(destroyMethod = "dispose")
+    TimedConnectionPool connectionFactory(
+        R2dbcProperties properties,
+        R2dbcConnectionDetails connectionDetails,
+        ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+        ObjectProvider<ConnectionFactoryDecorator> decorators,
+        MeterRegistry meterRegistry
+    ) {
+        return connectionPool(
+            POOL_NAME,
+            connectionDetails.getConnectionFactoryOptions().mutate(),
+            properties.getPool(),
+            customizers,
+            decorators,
+            meterRegistry
+        );
+    }
+
+    // What repositories, DatabaseClient and transactions use. Replicas share the
+    // primary's pool settings and, unless their URL says otherwise, its
+    // credentials. Actuator only binds gauges to ConnectionPool beans, so the
+    // replica pools are bound here.
+    @Bean(destroyMethod = "dispose")
+    @Primary
+    ReadReplicaConnectionFactory readReplicaConnectionFactory(
+        TimedConnectionPool connectionFactory,
+        ReadReplicaProperties replicaProperties,
+        R2dbcProperties properties,
+        R2dbcConnectionDetails connectionDetails,
+        ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+        ObjectProvider<ConnectionFactoryDecorator> decorators,
+        MeterRegistry meterRegistry
+    ) {
+        ConnectionFactoryOptions primaryOptions =
+            connectionDetails.getConnectionFactoryOptions();
+        List<ConnectionPool> replicas = new ArrayList<>();
+        List<String> urls = replicaProperties.urls();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = ReadReplicaConnectionFactory.replicaName(i);
+            TimedConnectionPool replica = connectionPool(
+                name,
+                replicaOptions(urls.get(i), primaryOptions),
+                properties.getPool(),
+                customizers,
+                decorators,
+                meterRegistry
+            );
+            new ConnectionPoolMetrics(replica, name, Tags.empty()).bindTo(
+                meterRegistry
+            );
+            replicas.add(replica);
+        }
+        return new ReadReplicaConnectionFactory(
+            connectionFactory,
+            replicas,
+            replicaProperties,
+            Clock.systemUTC()
+        );
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(
+        ReadReplicaProperties replicaProperties
+    ) {
+        return new ReadYourWritesFilter(replicaProperties, Clock.systemUTC());
+    }
+
+    // Unpooled and undecorated, so LISTEN gets a plain PostgreSQL connection of
+    // its own on the primary
+    @Bean
+    DatabaseNotificationListener databaseNotificationListener(
+        R2dbcConnectionDetails connectionDetails,
+        ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+        DatabaseNotificationProperties properties
+    ) {
+        return new DatabaseNotificationListener(
+            connectionFactory(
+                connectionDetails.getConnectionFactoryOptions().mutate(),
+                customizers,
+                List.of()
+            ),
+            properties
+        );
+    }
+
+    private TimedConnectionPool connectionPool(
+        String name,
+        ConnectionFactoryOptions.Builder options,
+        R2dbcProperties.Pool pool,
+        ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+        ObjectProvider<ConnectionFactoryDecorator> decorators,
+        MeterRegistry meterRegistry
+    ) {
+        ConnectionFactory connectionFactory = connectionFactory(
+            options,
+            customizers,
+            decorators.orderedStream().toList()
+        );
+        return new TimedConnectionPool(
+            name,
+            poolConfiguration(name, connectionFactory, pool),
+            meterRegistry
+        );
+    }
+
+    private static ConnectionFactory connectionFactory(
+        ConnectionFactoryOptions.Builder options,
+        ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+        List<ConnectionFactoryDecorator> decorators
+    ) {
+        return ConnectionFactoryBuilder.withOptions(options)
+            .configure(builder ->
+                customizers
+                    .orderedStream()
+                    .forEach(customizer -> customizer.customize(builder))
+            )
+            .decorators(decorators)
+            .build();
+    }
+
+    private static ConnectionFactoryOptions.Builder replicaOptions(
+        String url,
+        ConnectionFactoryOptions primaryOptions
+    ) {
+        ConnectionFactoryOptions parsed = ConnectionFactoryOptions.parse(url);
+        ConnectionFactoryOptions.Builder options = parsed.mutate();
+        if (!parsed.hasOption(USER) && primaryOptions.hasOption(USER)) {
+            options.option(USER, (String) primaryOptions.getValue(USER));
+        }
+        if (!parsed.hasOption(PASSWORD) && primaryOptions.hasOption(PASSWORD)) {
+            options.option(
+                PASSWORD,
+                (CharSequence) primaryOptions.getValue(PASSWORD)
+            );
+        }
+        return options;
+    }
+
+    private ConnectionPoolConfiguration poolConfiguration(
+        String name,
+        ConnectionFactory connectionFactory,
+        R2dbcProperties.Pool pool
+    ) {
+        ConnectionPoolConfiguration.Builder builder =
+            ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(name)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .minIdle(pool.getMinIdle())
+                .acquireRetry(pool.getAcquireRetry())
+                .validationDepth(pool.getValidationDepth());
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map
+            .from(pool.getMaxCreateConnectionTime())
+            .to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map
+            .from(pool.getValidationQuery())
+            .whenHasText()
+            .to(builder::validationQuery);
+        return builder.build();
+    }
+}
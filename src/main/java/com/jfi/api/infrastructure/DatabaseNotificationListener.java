@@ -0,0 +1,108 @@
+package com.jfi.api.infrastructure;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+// LISTENs on the primary over a connection of its own: a pooled one would hold a
+// pool slot forever and be closed under the listener by max-life-time.
+//
+// Postgres drops notifications for sessions that are not listening, so whatever
+// was sent while the connection was down is lost. onListening runs every time
+// LISTEN takes effect, including after a reconnect, for subscribers to resync.
+// A heartbeat validates the connection, so a link that died silently is noticed
+// within heartbeat-interval rather than at the next TCP timeout.
+@Log4j2
+public class DatabaseNotificationListener {
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseNotificationProperties properties;
+
+    public DatabaseNotificationListener(
+        ConnectionFactory connectionFactory,
+        DatabaseNotificationProperties properties
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.properties = properties;
+    }
+
+    // Emits the payload of every notification on channel and reconnects with
+    // backoff until cancelled; the backoff starts over once a notification got
+    // through. Channel names are SQL identifiers, not user input.
+    public Flux<String> listen(String channel, Runnable onListening) {
+        return Flux.usingWhen(
+            connectionFactory.create(),
+            connection -> session(connection, channel, onListening),
+            Connection::close,
+            (connection, error) -> connection.close(),
+            Connection::close
+        ).retryWhen(
+            Retry.backoff(Long.MAX_VALUE, properties.minReconnectDelay())
+                .maxBackoff(properties.maxReconnectDelay())
+                .transientErrors(true)
+                .doBeforeRetry(signal ->
+                    log.warn(
+                        "Listening on {} failed, reconnecting: {}",
+                        channel,
+                        signal.failure().getMessage()
+                    )
+                )
+        );
+    }
+
+    private Flux<String> session(
+        Connection connection,
+        String channel,
+        Runnable onListening
+    ) {
+        if (!(connection instanceof PostgresqlConnection postgres)) {
+            return Flux.error(
+                new IllegalStateException(
+                    "LISTEN needs a PostgreSQL connection, got " + connection
+                )
+            );
+        }
+        // Subscribed before LISTEN is sent, so the first notification is not missed
+        Flux<String> notifications = postgres
+            .getNotifications()
+            .map(Notification::getParameter)
+            .concatWith(
+                Mono.error(() ->
+                    new IllegalStateException("Notification connection closed")
+                )
+            );
+        Flux<String> listening = postgres
+            .createStatement("LISTEN " + channel)
+            .execute()
+            .flatMap(PostgresqlResult::getRowsUpdated)
+            .then(Mono.fromRunnable(onListening))
+            .doOnSuccess(ignored -> log.info("Listening on {}", channel))
+            .thenMany(heartbeat(postgres));
+        return Flux.merge(notifications, listening);
+    }
+
+    // Never emits; fails when the connection stops answering
+    private Flux<String> heartbeat(PostgresqlConnection connection) {
+        return Flux.interval(properties.heartbeatInterval()).concatMap(tick ->
+            connection
+                .validate(ValidationDepth.REMOTE)
+                .timeout(properties.heartbeatInterval())
+                .flatMap(valid ->
+                    valid
+                        ? Mono.<String>empty()
+                        : Mono.error(
+                            new IllegalStateException(
+                                "Notification connection is no longer valid"
+                            )
+                        )
+                )
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("database.notifications")
+public record DatabaseNotificationProperties(
+    @DefaultValue("1s") Duration minReconnectDelay,
+    @DefaultValue("30s") Duration maxReconnectDelay,
+    @DefaultValue("30s") Duration heartbeatInterval
+) {}
@@ -0,0 +1,51 @@
+package com.jfi.api.infrastructure;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ServerBuilder;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(
+    name = "grpc.server.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class GrpcServerConfiguration {
+
+    // Serves every BindableService bean on its own port, next to the HTTP
+    // server. Handlers only subscribe to the port's publishers and never block,
+    // so they run on the transport threads, as WebFlux handlers run on the event
+    // loop. Each call is observed like an HTTP request: grpc.server metrics and
+    // a span joined to the caller's trace. Admission control, when on, runs
+    // inside the observation (the last interceptor added runs first), so
+    // rejected calls are observed too.
+    @Bean
+    GrpcServerLifecycle grpcServer(
+        GrpcServerProperties properties,
+        List<BindableService> services,
+        ObservationRegistry observationRegistry,
+        ObjectProvider<AdmissionControlGrpcInterceptor> admissionControl
+    ) {
+        ServerBuilder<?> builder = Grpc.newServerBuilderForPort(
+            properties.port(),
+            InsecureServerCredentials.create()
+        ).directExecutor();
+        admissionControl.ifAvailable(builder::intercept);
+        builder.intercept(
+            new ObservationGrpcServerInterceptor(observationRegistry)
+        );
+        services.forEach(builder::addService);
+        return new GrpcServerLifecycle(
+            builder.build(),
+            properties.shutdownGracePeriod()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.jfi.api.infrastructure;
+
+import io.grpc.Server;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+
+// Starts the gRPC server with the context and, on shutdown, stops taking calls
+// and waits up to the grace period for the ones in flight, as server.shutdown
+// does for HTTP.
+@Log4j2
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final Server server;
+    private final Duration shutdownGracePeriod;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(Server server, Duration shutdownGracePeriod) {
+        this.server = server;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("gRPC server failed to start", e);
+        }
+        running = true;
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (
+                !server.awaitTermination(
+                    shutdownGracePeriod.toMillis(),
+                    TimeUnit.MILLISECONDS
+                )
+            ) {
+                log.warn("gRPC calls still running after grace period");
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Bound port, useful when configured as 0
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,12 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("grpc.server")
+public record GrpcServerProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("9090") int port,
+    @DefaultValue("20s") Duration shutdownGracePeriod
+) {}
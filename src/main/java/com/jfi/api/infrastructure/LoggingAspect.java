@@ -1,16 +1,23 @@
 package com.jfi.api.infrastructure;
 
 import com.jfi.api.employee.domain.EmployeeException;
+import com.jfi.api.infrastructure.LoggingAspectProperties.Layer;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
 import reactor.util.context.ContextView;
 
 @Slf4j
@@ -18,70 +25,145 @@ import reactor.util.context.ContextView;
 @Component
 public class LoggingAspect {
 
-    @Pointcut(
-        "within(com.jfi.api.employee.adapter.in.rest..*) || within(com.jfi.api.employee.usecase..*) || within(com.jfi.api.employee.adapter.out.persistence..*)"
-    )
-    public void applicationLayer() {}
+    // Keyed by Method; join points without a MethodSignature fall back to their
+    // short string, which is what the name would be anyway.
+    private final Map<Object, String> methodNames = new ConcurrentHashMap<>();
+    private final LoggingAspectProperties properties;
+
+    public LoggingAspect(LoggingAspectProperties properties) {
+        this.properties = properties;
+    }
 
+    @Pointcut("within(com.jfi.api.employee.adapter.in.rest..*)")
+    public void restLayer() {}
+
+    @Pointcut("within(com.jfi.api.employee.usecase..*)")
+    public void useCaseLayer() {}
+
+    @Pointcut("within(com.jfi.api.employee.adapter.out.persistence..*)")
+    public void persistenceLayer() {}
+
+    // Configuration properties records are final, so matching them would make
+    // Spring try to subclass them and fail the context at startup.
     @Pointcut(
-        "within(com.jfi.api.employee.adapter.in.rest.EmployeeExceptionHandler)"
+        "within(com.jfi.api.employee.adapter.in.rest.EmployeeExceptionHandler) || " +
+            "@within(org.springframework.boot.context.properties.ConfigurationProperties)"
     )
     public void infrastructure() {}
 
-    @Pointcut("applicationLayer() && !infrastructure()")
-    public void applicationMethods() {}
+    @Around("restLayer() && !infrastructure()")
+    public Object logRestLayer(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logAround(joinPoint, properties.rest());
+    }
 
-    @Around("applicationMethods()")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        String method = joinPoint.getSignature().toShortString();
-        String args = Arrays.toString(joinPoint.getArgs());
+    @Around("useCaseLayer()")
+    public Object logUseCaseLayer(ProceedingJoinPoint joinPoint)
+        throws Throwable {
+        return logAround(joinPoint, properties.usecase());
+    }
+
+    @Around("persistenceLayer() && !infrastructure()")
+    public Object logPersistenceLayer(ProceedingJoinPoint joinPoint)
+        throws Throwable {
+        return logAround(joinPoint, properties.persistence());
+    }
 
+    private Object logAround(ProceedingJoinPoint joinPoint, Layer layer)
+        throws Throwable {
         Object result = joinPoint.proceed();
+        // Unsampled calls return the publisher untouched: no names, no args and
+        // no extra operators. Request-level failures still reach the access log.
+        if (!isLogged(layer)) {
+            return result;
+        }
+
+        String method = methodName(joinPoint.getSignature());
 
         if (result instanceof Mono<?> mono) {
+            Mono<?> logged = mono.doOnEach(signal ->
+                logMonoSignal(method, signal)
+            );
+            if (!log.isDebugEnabled()) {
+                return logged;
+            }
+            Object[] args = joinPoint.getArgs();
             return Mono.deferContextual(ctx -> {
-                setMdc(ctx);
-                log.debug("Entering {} with args {}", method, args);
-                return wrapMono(mono, method, ctx);
+                logEntering(method, args, ctx);
+                return logged;
             });
         }
 
         if (result instanceof Flux<?> flux) {
+            Flux<?> logged = flux.doOnEach(signal ->
+                logFluxSignal(method, signal)
+            );
+            if (!log.isDebugEnabled()) {
+                return logged;
+            }
+            Object[] args = joinPoint.getArgs();
             return Flux.deferContextual(ctx -> {
-                setMdc(ctx);
-                log.debug("Entering {} with args {}", method, args);
-                return wrapFlux(flux, method, ctx);
+                logEntering(method, args, ctx);
+                return logged;
             });
         }
 
-        log.info("Executed {} with args {} returning {}", method, args, result);
+        if (log.isInfoEnabled()) {
+            log.info(
+                "Executed {} with args {} returning {}",
+                method,
+                Arrays.toString(joinPoint.getArgs()),
+                result
+            );
+        }
         return result;
     }
 
-    private Mono<?> wrapMono(Mono<?> mono, String method, ContextView ctx) {
-        return mono
-            .doOnNext(r -> {
-                setMdc(ctx);
-                log.info("Completed {} with result", method);
-            })
-            .doOnError(e -> {
-                setMdc(ctx);
-                logError(method, e);
-            })
-            .doFinally(s -> MDC.remove(RequestIdFilter.REQUEST_ID_KEY));
+    private boolean isLogged(Layer layer) {
+        return switch (layer.mode()) {
+            case FULL -> true;
+            case OFF -> false;
+            case SAMPLED -> ThreadLocalRandom.current().nextDouble() <
+                layer.sampleRate();
+        };
+    }
+
+    private String methodName(Signature signature) {
+        Object key = signature instanceof MethodSignature methodSignature
+            ? methodSignature.getMethod()
+            : signature.toShortString();
+        return methodNames.computeIfAbsent(key, k -> signature.toShortString());
+    }
+
+    private void logEntering(String method, Object[] args, ContextView ctx) {
+        setMdc(ctx);
+        log.debug("Entering {} with args {}", method, Arrays.toString(args));
+        MDC.remove(AccessLogFilter.REQUEST_ID_KEY);
+    }
+
+    private void logMonoSignal(String method, Signal<?> signal) {
+        if (!signal.isOnNext() && !signal.isOnError()) {
+            return;
+        }
+        setMdc(signal.getContextView());
+        if (signal.isOnNext()) {
+            log.info("Completed {} with result", method);
+        } else {
+            logError(method, signal.getThrowable());
+        }
+        MDC.remove(AccessLogFilter.REQUEST_ID_KEY);
     }
 
-    private Flux<?> wrapFlux(Flux<?> flux, String method, ContextView ctx) {
-        return flux
-            .doOnComplete(() -> {
-                setMdc(ctx);
-                log.info("Completed {}", method);
-            })
-            .doOnError(e -> {
-                setMdc(ctx);
-                logError(method, e);
-            })
-            .doFinally(s -> MDC.remove(RequestIdFilter.REQUEST_ID_KEY));
+    private void logFluxSignal(String method, Signal<?> signal) {
+        if (!signal.isOnComplete() && !signal.isOnError()) {
+            return;
+        }
+        setMdc(signal.getContextView());
+        if (signal.isOnComplete()) {
+            log.info("Completed {}", method);
+        } else {
+            logError(method, signal.getThrowable());
+        }
+        MDC.remove(AccessLogFilter.REQUEST_ID_KEY);
     }
 
     private void logError(String method, Throwable error) {
@@ -94,9 +176,9 @@ public class LoggingAspect {
 
     private void setMdc(ContextView ctx) {
         ctx
-            .getOrEmpty(RequestIdFilter.REQUEST_ID_KEY)
+            .getOrEmpty(AccessLogFilter.REQUEST_ID_KEY)
             .ifPresent(id ->
-                MDC.put(RequestIdFilter.REQUEST_ID_KEY, id.toString())
+                MDC.put(AccessLogFilter.REQUEST_ID_KEY, id.toString())
             );
     }
 }
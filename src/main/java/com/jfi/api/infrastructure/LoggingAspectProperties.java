@@ -0,0 +1,22 @@
+package com.jfi.api.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("logging.aspect")
+public record LoggingAspectProperties(
+    @DefaultValue Layer rest,
+    @DefaultValue Layer usecase,
+    @DefaultValue Layer persistence
+) {
+    public record Layer(
+        @DefaultValue("full") Mode mode,
+        @DefaultValue("0.01") double sampleRate
+    ) {}
+
+    public enum Mode {
+        FULL,
+        SAMPLED,
+        OFF,
+    }
+}
@@ -12,4 +12,9 @@ public class ObservabilityConfiguration {
     ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
         return new ObservedAspect(observationRegistry);
     }
+
+    @Bean
+    RequestIdGenerator requestIdGenerator() {
+        return new TimeOrderedRequestIdGenerator();
+    }
 }
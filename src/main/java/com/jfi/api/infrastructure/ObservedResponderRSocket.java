@@ -0,0 +1,116 @@
+package com.jfi.api.infrastructure;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.CompositeMetadata;
+import io.rsocket.metadata.RoutingMetadata;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.RSocketProxy;
+import java.util.Iterator;
+import java.util.function.Predicate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Observes every request the server answers, as http.server.requests does for
+// HTTP: one rsocket.server.requests timer per route and interaction, and a
+// span. A stream is timed until it completes or is cancelled; channels are not
+// observed, no route takes one. Routes no handler serves are tagged UNKNOWN, so
+// a requester cannot grow the tag's cardinality.
+//
+// rsocket-micrometer's ObservationResponderRSocketProxy is not used: it hands
+// the handler a null payload unless its own tracing handler is registered.
+final class ObservedResponderRSocket extends RSocketProxy {
+
+    static final String OBSERVATION_NAME = "rsocket.server.requests";
+    static final String ROUTE_KEY = "rsocket.route";
+    static final String INTERACTION_KEY = "rsocket.interaction";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private static final String ROUTING_MIME_TYPE =
+        WellKnownMimeType.MESSAGE_RSOCKET_ROUTING.getString();
+
+    private final Predicate<String> knownRoute;
+    private final ObservationRegistry observationRegistry;
+
+    ObservedResponderRSocket(
+        RSocket source,
+        Predicate<String> knownRoute,
+        ObservationRegistry observationRegistry
+    ) {
+        super(source);
+        this.knownRoute = knownRoute;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Mono<Void> fireAndForget(Payload payload) {
+        Observation observation = start(payload, "fire_and_forget");
+        return observe(super.fireAndForget(payload), observation);
+    }
+
+    @Override
+    public Mono<Payload> requestResponse(Payload payload) {
+        Observation observation = start(payload, "request_response");
+        return observe(super.requestResponse(payload), observation);
+    }
+
+    @Override
+    public Flux<Payload> requestStream(Payload payload) {
+        Observation observation = start(payload, "request_stream");
+        return super
+            .requestStream(payload)
+            .doOnError(observation::error)
+            .doFinally(signal -> observation.stop())
+            .contextWrite(context ->
+                context.put(ObservationThreadLocalAccessor.KEY, observation)
+            );
+    }
+
+    // Started before the payload is handed on: the handler releases it
+    private Observation start(Payload payload, String interaction) {
+        return Observation.createNotStarted(
+            OBSERVATION_NAME,
+            observationRegistry
+        )
+            .lowCardinalityKeyValue(ROUTE_KEY, route(payload))
+            .lowCardinalityKeyValue(INTERACTION_KEY, interaction)
+            .start();
+    }
+
+    private static <T> Mono<T> observe(Mono<T> call, Observation observation) {
+        return call
+            .doOnError(observation::error)
+            .doFinally(signal -> observation.stop())
+            .contextWrite(context ->
+                context.put(ObservationThreadLocalAccessor.KEY, observation)
+            );
+    }
+
+    private String route(Payload payload) {
+        if (!payload.hasMetadata()) {
+            return UNKNOWN_ROUTE;
+        }
+        try {
+            for (CompositeMetadata.Entry entry : new CompositeMetadata(
+                payload.sliceMetadata(),
+                false
+            )) {
+                if (ROUTING_MIME_TYPE.equals(entry.getMimeType())) {
+                    Iterator<String> tags = new RoutingMetadata(
+                        entry.getContent()
+                    ).iterator();
+                    String route = tags.hasNext() ? tags.next() : null;
+                    return route != null && knownRoute.test(route)
+                        ? route
+                        : UNKNOWN_ROUTE;
+                }
+            }
+        } catch (RuntimeException malformed) {
+            // Left to the handler to reject
+        }
+        return UNKNOWN_ROUTE;
+    }
+}
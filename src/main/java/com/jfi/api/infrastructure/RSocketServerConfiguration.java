@@ -0,0 +1,35 @@
+package com.jfi.api.infrastructure;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.rsocket.plugins.RSocketInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.rsocket.server.RSocketServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+
+@Configuration
+public class RSocketServerConfiguration {
+
+    // Every @MessageMapping route is a fixed name, so the handler's direct
+    // lookup is the full set of routes worth a metric tag. Admission control,
+    // when on, is registered first so it runs inside the observation.
+    @Bean
+    RSocketServerCustomizer rsocketObservation(
+        RSocketMessageHandler messageHandler,
+        ObservationRegistry observationRegistry,
+        ObjectProvider<AdmissionControlRSocketInterceptor> admissionControl
+    ) {
+        RSocketInterceptor observation = rsocket ->
+            new ObservedResponderRSocket(
+                rsocket,
+                route -> messageHandler.getDestinationLookup().containsKey(route),
+                observationRegistry
+            );
+        return server ->
+            server.interceptors(interceptors -> {
+                admissionControl.ifAvailable(interceptors::forResponder);
+                interceptors.forResponder(observation);
+            });
+    }
+}
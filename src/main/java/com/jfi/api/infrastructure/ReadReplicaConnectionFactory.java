@@ -0,0 +1,318 @@
+package com.jfi.api.infrastructure;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+// Hands out replica connections to work marked with readOnly(...) and primary
+// connections to everything else, so a query nobody thought about can never
+// read stale data.
+//
+// Read-your-writes holds at two levels. Within a request, the RequestRouting that
+// ReadYourWritesFilter puts in the Reactor Context keeps every read on the first
+// replica it used, so a later read never sees an older snapshot, and on the
+// primary once the request has written or fallen back. Across requests, the
+// filter starts a client's requests on the primary for read-your-writes-window
+// after that client wrote, so one client's writes do not move every other
+// client's reads off the replicas.
+//
+// A replica that fails to hand out a connection is ejected for ejection-time and
+// the read falls back to the primary.
+//
+// Work marked with onPrimary(...) uses the primary without counting as a write:
+// for reads that must be current, which would otherwise pin the rest of the
+// request and its client's next requests to the primary.
+@Log4j2
+public class ReadReplicaConnectionFactory implements ConnectionFactory {
+
+    static final String READ_ONLY_KEY =
+        ReadReplicaConnectionFactory.class.getName() + ".readOnly";
+    static final String PRIMARY_KEY =
+        ReadReplicaConnectionFactory.class.getName() + ".primary";
+    static final String REQUEST_ROUTING_KEY =
+        ReadReplicaConnectionFactory.class.getName() + ".requestRouting";
+
+    private final ConnectionPool primary;
+    private final List<Replica> replicas;
+    private final ReadReplicaProperties.Balancing balancing;
+    private final Duration ejectionTime;
+    private final Clock clock;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadReplicaConnectionFactory(
+        ConnectionPool primary,
+        List<ConnectionPool> replicas,
+        ReadReplicaProperties properties,
+        Clock clock
+    ) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(replicaName(i), replicas.get(i)));
+        }
+        this.balancing = properties.balancing();
+        this.ejectionTime = properties.ejectionTime();
+        this.clock = clock;
+    }
+
+    public static <T> Mono<T> readOnly(Mono<T> mono) {
+        return mono.contextWrite(Context.of(READ_ONLY_KEY, true));
+    }
+
+    public static <T> Flux<T> readOnly(Flux<T> flux) {
+        return flux.contextWrite(Context.of(READ_ONLY_KEY, true));
+    }
+
+    public static <T> Mono<T> onPrimary(Mono<T> mono) {
+        return mono.contextWrite(Context.of(PRIMARY_KEY, true));
+    }
+
+    public static <T> Flux<T> onPrimary(Flux<T> flux) {
+        return flux.contextWrite(Context.of(PRIMARY_KEY, true));
+    }
+
+    // Where a read made in this context would go, as far as is known before it
+    // runs. Callers with equal routes may share one read.
+    public static ReadRoute readRoute(ContextView context) {
+        if (context.hasKey(PRIMARY_KEY)) {
+            return ReadRoute.PRIMARY;
+        }
+        RequestRouting request = context.getOrDefault(
+            REQUEST_ROUTING_KEY,
+            null
+        );
+        if (request == null) {
+            return ReadRoute.ANY_REPLICA;
+        }
+        if (request.primary) {
+            return ReadRoute.PRIMARY;
+        }
+        Replica pinned = request.replica;
+        return pinned != null ? new ReadRoute(pinned) : ReadRoute.ANY_REPLICA;
+    }
+
+    static String replicaName(int index) {
+        return "replica-" + (index + 1);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            if (context.hasKey(PRIMARY_KEY)) {
+                return primary.create();
+            }
+            RequestRouting request = context.getOrDefault(
+                REQUEST_ROUTING_KEY,
+                null
+            );
+            if (!context.hasKey(READ_ONLY_KEY)) {
+                if (request != null) {
+                    request.primary = true;
+                    request.wrote = true;
+                }
+                return primary.create();
+            }
+            Replica replica = replicaFor(request);
+            if (replica == null) {
+                return primary.create();
+            }
+            return replica.pool
+                .create()
+                .onErrorResume(error -> {
+                    eject(replica, error);
+                    if (request != null) {
+                        request.primary = true;
+                    }
+                    return primary.create();
+                });
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+
+    // Every pool is warmed even if one of them fails; the first error is
+    // reported once all of them are done.
+    public Mono<Integer> warmup() {
+        List<ConnectionPool> pools = new ArrayList<>();
+        pools.add(primary);
+        replicas.forEach(replica -> pools.add(replica.pool));
+        return Flux.fromIterable(pools)
+            .flatMapDelayError(ConnectionPool::warmup, pools.size(), 1)
+            .reduce(0, Integer::sum);
+    }
+
+    // The primary pool is a bean of its own and is disposed by the context
+    public void dispose() {
+        replicas.forEach(replica -> replica.pool.dispose());
+    }
+
+    private Replica replicaFor(RequestRouting request) {
+        if (request != null && request.primary) {
+            return null;
+        }
+        Instant now = clock.instant();
+        Replica pinned = request != null ? request.replica : null;
+        if (pinned != null) {
+            if (!pinned.isEjected(now)) {
+                return pinned;
+            }
+            request.primary = true;
+            return null;
+        }
+        Replica selected = select(now);
+        if (request != null) {
+            request.replica = selected;
+            request.primary = selected == null;
+        }
+        return selected;
+    }
+
+    private Replica select(Instant now) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        Replica selected = null;
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.isEjected(now)) {
+                continue;
+            }
+            if (balancing == ReadReplicaProperties.Balancing.ROUND_ROBIN) {
+                return candidate;
+            }
+            if (
+                selected == null ||
+                candidate.outstanding() < selected.outstanding()
+            ) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private void eject(Replica replica, Throwable error) {
+        replica.ejectedUntil = clock.instant().plus(ejectionTime);
+        log.warn(
+            "Read replica {} ejected for {}: {}",
+            replica.name,
+            ejectionTime,
+            error.getMessage()
+        );
+    }
+
+    // A read shared between callers runs in route.context() rather than in one
+    // caller's context, so no caller's request state, trace or routing is
+    // attributed to or changed by the others' read.
+    public static final class ReadRoute {
+
+        static final ReadRoute PRIMARY = new ReadRoute(null);
+        static final ReadRoute ANY_REPLICA = new ReadRoute(null);
+
+        private final Replica replica;
+
+        private ReadRoute(Replica replica) {
+            this.replica = replica;
+        }
+
+        public Context context() {
+            if (this == PRIMARY) {
+                return Context.of(PRIMARY_KEY, true);
+            }
+            if (replica == null) {
+                return Context.empty();
+            }
+            RequestRouting pinned = new RequestRouting();
+            pinned.replica = replica;
+            return Context.of(REQUEST_ROUTING_KEY, pinned);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            return (
+                replica != null &&
+                other instanceof ReadRoute route &&
+                replica == route.replica
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return replica != null
+                ? replica.hashCode()
+                : System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            if (this == PRIMARY) {
+                return "primary";
+            }
+            return replica != null ? replica.name : "any replica";
+        }
+    }
+
+    static final class RequestRouting {
+
+        private volatile Replica replica;
+        private volatile boolean primary;
+        private volatile boolean wrote;
+
+        RequestRouting() {
+            this(false);
+        }
+
+        RequestRouting(boolean primary) {
+            this.primary = primary;
+        }
+
+        boolean wrote() {
+            return wrote;
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final ConnectionPool pool;
+        private volatile Instant ejectedUntil = Instant.EPOCH;
+
+        private Replica(String name, ConnectionPool pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+
+        private boolean isEjected(Instant now) {
+            return now.isBefore(ejectedUntil);
+        }
+
+        // Connections in use plus acquires waiting for one
+        private int outstanding() {
+            return pool
+                .getMetrics()
+                .map(metrics ->
+                    metrics.acquiredSize() + metrics.pendingAcquireSize()
+                )
+                .orElse(0);
+        }
+    }
+}
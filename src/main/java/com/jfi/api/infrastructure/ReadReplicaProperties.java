@@ -0,0 +1,19 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("database.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue List<String> urls,
+    @DefaultValue("round-robin") Balancing balancing,
+    @DefaultValue("30s") Duration ejectionTime,
+    @DefaultValue("1s") Duration readYourWritesWindow
+) {
+    public enum Balancing {
+        ROUND_ROBIN,
+        LEAST_PENDING,
+    }
+}
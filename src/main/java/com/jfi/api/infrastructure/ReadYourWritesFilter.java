@@ -0,0 +1,101 @@
+package com.jfi.api.infrastructure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+// Gives each request the RequestRouting that ReadReplicaConnectionFactory routes
+// by. A response to a request that wrote sets a cookie holding the end of the
+// read-your-writes window, and the client's requests carrying it read from the
+// primary until then. The window follows the client across instances and does
+// not touch anyone else's reads.
+//
+// The cookie only ever sends its own client to the primary, so it is not signed;
+// a value further out than one window was not set here and is ignored.
+public class ReadYourWritesFilter implements WebFilter, Ordered {
+
+    static final String COOKIE_NAME = "primary-reads-until";
+
+    // After admission control, so rejected requests are not routed
+    static final int ORDER = AdmissionControlFilter.ORDER + 1;
+
+    private final Duration window;
+    private final boolean enabled;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(ReadReplicaProperties properties, Clock clock) {
+        this.window = properties.readYourWritesWindow();
+        this.enabled = !properties.urls().isEmpty() && window.isPositive();
+        this.clock = clock;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ReadReplicaConnectionFactory.RequestRouting routing =
+            new ReadReplicaConnectionFactory.RequestRouting(
+                enabled && insideWindow(exchange.getRequest())
+            );
+        if (enabled) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.beforeCommit(() -> {
+                if (routing.wrote()) {
+                    response.addCookie(windowCookie());
+                }
+                return Mono.empty();
+            });
+        }
+        return chain
+            .filter(exchange)
+            .contextWrite(
+                Context.of(
+                    ReadReplicaConnectionFactory.REQUEST_ROUTING_KEY,
+                    routing
+                )
+            );
+    }
+
+    private boolean insideWindow(ServerHttpRequest request) {
+        HttpCookie cookie = request.getCookies().getFirst(COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+        Instant until;
+        try {
+            until = Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        Instant now = clock.instant();
+        return now.isBefore(until) && !until.isAfter(now.plus(window));
+    }
+
+    // Max-Age is whole seconds, so it is rounded up; the value decides when the
+    // window ends.
+    private ResponseCookie windowCookie() {
+        Instant until = clock.instant().plus(window);
+        return ResponseCookie.from(
+            COOKIE_NAME,
+            Long.toString(until.toEpochMilli())
+        )
+            .maxAge((window.toMillis() + 999) / 1000)
+            .path("/")
+            .httpOnly(true)
+            .sameSite("Strict")
+            .build();
+    }
+}
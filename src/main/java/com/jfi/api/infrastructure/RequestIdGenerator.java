@@ -0,0 +1,6 @@
+package com.jfi.api.infrastructure;
+
+@FunctionalInterface
+public interface RequestIdGenerator {
+    String generate();
+}
@@ -0,0 +1,57 @@
+package com.jfi.api.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.NettyPipeline;
+
+@Configuration
+public class ResponseCompressionConfiguration {
+
+    static final String COMPRESSOR_HANDLER = "responseCompressor";
+    static final String FLUSH_CONSOLIDATION_HANDLER = "flushConsolidation";
+
+    // Takes the place of Boot's server.compression, which must stay off. Each HTTP
+    // connection gets a compressor right after the codec, where Reactor Netty puts
+    // its own. Streaming responses flush every element; consolidating those
+    // flushes to one per event loop pass lets the compressor encode the elements
+    // written in that pass together.
+    @Bean
+    @ConditionalOnProperty(
+        name = "http.response-compression.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    NettyServerCustomizer responseCompression(
+        ResponseCompressionProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        ResponseCompressor.Metrics metrics = new ResponseCompressor.Metrics(
+            meterRegistry
+        );
+        return server ->
+            server.doOnChannelInit((observer, channel, remoteAddress) -> {
+                ChannelPipeline pipeline = channel.pipeline();
+                if (pipeline.get(NettyPipeline.HttpCodec) != null) {
+                    pipeline
+                        .addAfter(
+                            NettyPipeline.HttpCodec,
+                            COMPRESSOR_HANDLER,
+                            new ResponseCompressor(properties, metrics)
+                        )
+                        .addAfter(
+                            COMPRESSOR_HANDLER,
+                            FLUSH_CONSOLIDATION_HANDLER,
+                            new FlushConsolidationHandler(
+                                FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES,
+                                true
+                            )
+                        );
+                }
+            });
+    }
+}
@@ -0,0 +1,17 @@
+package com.jfi.api.infrastructure;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("http.response-compression")
+public record ResponseCompressionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("2KB") DataSize minResponseSize,
+    @DefaultValue(
+        { "application/json", "application/x-ndjson", "text/event-stream" }
+    ) List<String> mimeTypes,
+    @DefaultValue("6") int gzipLevel,
+    @DefaultValue("3") int zstdLevel
+) {}
@@ -0,0 +1,450 @@
+package com.jfi.api.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.PromiseNotifier;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+// Compresses responses of the configured content types with the best encoding the
+// client accepts: br and zstd when their native libraries are on the classpath,
+// then gzip and deflate. Bodies of unknown length, like NDJSON and event streams,
+// are compressed as they go: chunks written between two flushes are encoded
+// together, up to MAX_PENDING_BYTES, so each flush gets the whole batch's ratio
+// and streaming clients still get every chunk when it is flushed.
+//
+// For each compressed response it records the bytes before and after and the time
+// spent encoding. Encoding never blocks the event loop, so that time is CPU time.
+//
+// Every response of a compressible type, and every 304, says Vary: Accept-Encoding,
+// so a shared cache keeps one copy per coding. A strong ETag names one exact body,
+// so an encoded one gets the coding appended ("42" becomes "42-gzip"). The suffix
+// is removed from If-None-Match and If-Match before the application compares them,
+// and a 304 answers with the tag the client sent.
+public class ResponseCompressor extends HttpContentCompressor {
+
+    static final String BYTES_METRIC = "http.server.response.compression.bytes";
+    static final String RATIO_METRIC = "http.server.response.compression.ratio";
+    static final String TIME_METRIC = "http.server.response.compression.time";
+
+    // Netty's defaults for everything but the level
+    private static final int ZLIB_WINDOW_BITS = 15;
+    private static final int ZLIB_MEMORY_LEVEL = 8;
+    private static final int ZSTD_BLOCK_SIZE = 64 * 1024;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 32 * 1024 * 1024;
+
+    static final int MAX_PENDING_BYTES = 64 * 1024;
+
+    private static final String VARY_ACCEPT_ENCODING = "Accept-Encoding";
+    private static final Pattern CODING_SUFFIX = Pattern.compile(
+        "-(?:br|zstd|gzip|deflate)\""
+    );
+    private static final Pattern ENTITY_TAG = Pattern.compile(
+        "(?:W/)?\"[^\"]*\""
+    );
+
+    private final long minResponseSize;
+    private final List<MimeType> mimeTypes;
+    private final Metrics metrics;
+    private boolean inBody;
+    private boolean compressing;
+    private CompositeByteBuf pending;
+    private ChannelPromise pendingPromise;
+    // If-None-Match of each request still awaiting its response, "" when absent
+    private final Queue<String> ifNoneMatches = new ArrayDeque<>();
+
+    public ResponseCompressor(
+        ResponseCompressionProperties properties,
+        Metrics metrics
+    ) {
+        super(
+            (int) properties.minResponseSize().toBytes(),
+            compressionOptions(properties)
+        );
+        this.minResponseSize = properties.minResponseSize().toBytes();
+        this.mimeTypes = properties
+            .mimeTypes()
+            .stream()
+            .map(MimeTypeUtils::parseMimeType)
+            .toList();
+        this.metrics = metrics;
+    }
+
+    // Reactor Netty writes body chunks as bare buffers, which the encoder would
+    // pass through uncompressed; its own compressor wraps them the same way.
+    @Override
+    public void write(
+        ChannelHandlerContext ctx,
+        Object msg,
+        ChannelPromise promise
+    ) throws Exception {
+        if (inBody && msg instanceof ByteBuf buffer) {
+            msg = new DefaultHttpContent(buffer);
+        }
+        if (
+            compressing &&
+            msg instanceof HttpContent content &&
+            !(msg instanceof LastHttpContent)
+        ) {
+            hold(ctx, content.content(), promise);
+            return;
+        }
+        writePending(ctx); // nothing may overtake the held chunks
+        if (msg instanceof HttpResponse response) {
+            prepare(response);
+            inBody = !(msg instanceof LastHttpContent);
+            compressing = false; // until beginEncode says otherwise
+        } else if (msg instanceof LastHttpContent) {
+            inBody = false;
+            compressing = false;
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    protected void decode(
+        ChannelHandlerContext ctx,
+        HttpRequest request,
+        List<Object> out
+    ) throws Exception {
+        HttpHeaders headers = request.headers();
+        ifNoneMatches.add(headers.get(HttpHeaderNames.IF_NONE_MATCH, ""));
+        withoutCoding(headers, HttpHeaderNames.IF_NONE_MATCH);
+        withoutCoding(headers, HttpHeaderNames.IF_MATCH);
+        super.decode(ctx, request, out);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        writePending(ctx);
+        super.flush(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        if (pending != null) {
+            pending.release();
+            pendingPromise.tryFailure(new ClosedChannelException());
+            pending = null;
+        }
+        super.handlerRemoved(ctx);
+    }
+
+    // Netty only applies the threshold to full responses; a declared length
+    // below it skips compression too.
+    @Override
+    protected Result beginEncode(HttpResponse response, String acceptEncoding)
+        throws Exception {
+        String contentLength = response
+            .headers()
+            .get(HttpHeaderNames.CONTENT_LENGTH);
+        if (
+            !isCompressible(response.headers().get(HttpHeaderNames.CONTENT_TYPE)) ||
+            (contentLength != null &&
+                Long.parseLong(contentLength) < minResponseSize)
+        ) {
+            return null;
+        }
+        Result result = super.beginEncode(response, acceptEncoding);
+        if (result != null) {
+            compressing = true;
+            String etag = response.headers().get(HttpHeaderNames.ETAG);
+            if (etag != null && etag.endsWith("\"")) {
+                response
+                    .headers()
+                    .set(
+                        HttpHeaderNames.ETAG,
+                        etag.substring(0, etag.length() - 1) +
+                            "-" +
+                            result.targetContentEncoding() +
+                            "\""
+                    );
+            }
+            metrics.measure(result.targetContentEncoding(), result.contentEncoder());
+        }
+        return result;
+    }
+
+    // 100 Continue is not the answer to the request, as in HttpContentEncoder
+    private void prepare(HttpResponse response) {
+        int status = response.status().code();
+        if (status == HttpResponseStatus.CONTINUE.code()) {
+            return;
+        }
+        String ifNoneMatch = ifNoneMatches.poll();
+        boolean notModified = status == HttpResponseStatus.NOT_MODIFIED.code();
+        HttpHeaders headers = response.headers();
+        if (
+            !notModified &&
+            !isCompressible(headers.get(HttpHeaderNames.CONTENT_TYPE))
+        ) {
+            return;
+        }
+        if (
+            !headers.containsValue(
+                HttpHeaderNames.VARY,
+                VARY_ACCEPT_ENCODING,
+                true
+            )
+        ) {
+            headers.add(HttpHeaderNames.VARY, VARY_ACCEPT_ENCODING);
+        }
+        String etag = headers.get(HttpHeaderNames.ETAG);
+        if (notModified && etag != null && ifNoneMatch != null) {
+            headers.set(HttpHeaderNames.ETAG, sentTag(ifNoneMatch, etag));
+        }
+    }
+
+    // The tag in If-None-Match that matched etag once its coding was removed
+    private static String sentTag(String ifNoneMatch, String etag) {
+        String opaque = etag.substring(etag.indexOf('"'));
+        Matcher tags = ENTITY_TAG.matcher(ifNoneMatch);
+        while (tags.find()) {
+            String tag = tags.group();
+            String sent = tag.substring(tag.indexOf('"'));
+            if (
+                !sent.equals(opaque) &&
+                CODING_SUFFIX.matcher(sent).replaceAll("\"").equals(opaque)
+            ) {
+                return etag.substring(0, etag.indexOf('"')) + sent;
+            }
+        }
+        return etag;
+    }
+
+    private static void withoutCoding(HttpHeaders headers, CharSequence name) {
+        String value = headers.get(name);
+        if (value != null) {
+            headers.set(name, CODING_SUFFIX.matcher(value).replaceAll("\""));
+        }
+    }
+
+    private void hold(
+        ChannelHandlerContext ctx,
+        ByteBuf content,
+        ChannelPromise promise
+    ) throws Exception {
+        if (pending == null) {
+            pending = ctx.alloc().compositeBuffer();
+            pendingPromise = ctx.newPromise();
+        }
+        pending.addComponent(true, content);
+        pendingPromise.addListener(new PromiseNotifier<>(false, promise));
+        if (pending.readableBytes() >= MAX_PENDING_BYTES) {
+            writePending(ctx);
+        }
+    }
+
+    private void writePending(ChannelHandlerContext ctx) throws Exception {
+        if (pending != null) {
+            ByteBuf content = pending;
+            ChannelPromise promise = pendingPromise;
+            pending = null;
+            pendingPromise = null;
+            super.write(ctx, new DefaultHttpContent(content), promise);
+        }
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MimeType mimeType = MimeTypeUtils.parseMimeType(contentType);
+            return mimeTypes.stream().anyMatch(mimeType::isCompatibleWith);
+        } catch (InvalidMimeTypeException ex) {
+            return false;
+        }
+    }
+
+    private static CompressionOptions[] compressionOptions(
+        ResponseCompressionProperties properties
+    ) {
+        List<CompressionOptions> options = new ArrayList<>();
+        if (Brotli.isAvailable()) {
+            options.add(StandardCompressionOptions.brotli());
+        }
+        if (Zstd.isAvailable()) {
+            options.add(
+                StandardCompressionOptions.zstd(
+                    properties.zstdLevel(),
+                    ZSTD_BLOCK_SIZE,
+                    ZSTD_MAX_ENCODE_SIZE
+                )
+            );
+        }
+        options.add(
+            StandardCompressionOptions.gzip(
+                properties.gzipLevel(),
+                ZLIB_WINDOW_BITS,
+                ZLIB_MEMORY_LEVEL
+            )
+        );
+        options.add(
+            StandardCompressionOptions.deflate(
+                properties.gzipLevel(),
+                ZLIB_WINDOW_BITS,
+                ZLIB_MEMORY_LEVEL
+            )
+        );
+        return options.toArray(CompressionOptions[]::new);
+    }
+
+    // Shared by every connection's compressor
+    public static class Metrics {
+
+        private final MeterRegistry meterRegistry;
+        private final Map<String, EncodingMeters> meters =
+            new ConcurrentHashMap<>();
+
+        public Metrics(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        // The encoder runs in its own embedded channel, closed once the response
+        // is complete. A handler at its tail sees the body going in and times the
+        // encoding; one at its head sees what comes out.
+        void measure(String encoding, EmbeddedChannel encoder) {
+            Measurement measurement = new Measurement(
+                meters.computeIfAbsent(encoding, this::register)
+            );
+            encoder
+                .pipeline()
+                .addFirst(measurement.new Output())
+                .addLast(measurement.new Input());
+        }
+
+        private EncodingMeters register(String encoding) {
+            return new EncodingMeters(
+                Counter.builder(BYTES_METRIC)
+                    .description("Response body bytes before and after compression")
+                    .baseUnit("bytes")
+                    .tag("encoding", encoding)
+                    .tag("type", "uncompressed")
+                    .register(meterRegistry),
+                Counter.builder(BYTES_METRIC)
+                    .description("Response body bytes before and after compression")
+                    .baseUnit("bytes")
+                    .tag("encoding", encoding)
+                    .tag("type", "compressed")
+                    .register(meterRegistry),
+                DistributionSummary.builder(RATIO_METRIC)
+                    .description("Uncompressed over compressed size per response")
+                    .tag("encoding", encoding)
+                    .register(meterRegistry),
+                Timer.builder(TIME_METRIC)
+                    .description("Time spent compressing each response")
+                    .tag("encoding", encoding)
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    private record EncodingMeters(
+        Counter uncompressed,
+        Counter compressed,
+        DistributionSummary ratio,
+        Timer time
+    ) {}
+
+    private static final class Measurement {
+
+        private final EncodingMeters meters;
+        private long uncompressed;
+        private long compressed;
+        private long nanos;
+
+        private Measurement(EncodingMeters meters) {
+            this.meters = meters;
+        }
+
+        private void record() {
+            meters.uncompressed().increment(uncompressed);
+            meters.compressed().increment(compressed);
+            if (compressed > 0) {
+                meters.ratio().record((double) uncompressed / compressed);
+            }
+            meters.time().record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private final class Input extends ChannelOutboundHandlerAdapter {
+
+            @Override
+            public void write(
+                ChannelHandlerContext ctx,
+                Object msg,
+                ChannelPromise promise
+            ) {
+                if (msg instanceof ByteBuf buffer) {
+                    uncompressed += buffer.readableBytes();
+                }
+                long start = System.nanoTime();
+                ctx.write(msg, promise);
+                nanos += System.nanoTime() - start;
+            }
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) {
+                long start = System.nanoTime();
+                ctx.flush();
+                nanos += System.nanoTime() - start;
+            }
+
+            // Encoders write their trailer on close, so the counts are final after
+            @Override
+            public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+                long start = System.nanoTime();
+                ctx.close(promise);
+                nanos += System.nanoTime() - start;
+                record();
+            }
+        }
+
+        private final class Output extends ChannelOutboundHandlerAdapter {
+
+            @Override
+            public void write(
+                ChannelHandlerContext ctx,
+                Object msg,
+                ChannelPromise promise
+            ) {
+                if (msg instanceof ByteBuf buffer) {
+                    compressed += buffer.readableBytes();
+                }
+                ctx.write(msg, promise);
+            }
+        }
+    }
+}
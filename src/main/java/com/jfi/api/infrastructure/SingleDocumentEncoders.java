@@ -0,0 +1,117 @@
+package com.jfi.api.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Spring frames a Flux as a JSON array by writing '[', ',' and ']' between the
+// encoded elements, which corrupts binary formats, and its CBOR encoder refuses
+// to encode a publisher at all. These write a single value as it is and collect
+// a Flux into a list, so each response is one document of their format.
+final class SingleDocumentEncoders {
+
+    private SingleDocumentEncoders() {}
+
+    static class Cbor extends Jackson2CborEncoder {
+
+        Cbor(ObjectMapper cborMapper) {
+            super(cborMapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(
+            Publisher<?> inputStream,
+            DataBufferFactory bufferFactory,
+            ResolvableType elementType,
+            MimeType mimeType,
+            Map<String, Object> hints
+        ) {
+            return SingleDocumentEncoders.encode(
+                this,
+                inputStream,
+                bufferFactory,
+                elementType,
+                mimeType,
+                hints
+            );
+        }
+    }
+
+    static class Smile extends Jackson2SmileEncoder {
+
+        Smile(ObjectMapper smileMapper) {
+            super(
+                smileMapper,
+                BinaryCodecConfiguration.APPLICATION_SMILE
+            );
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(
+            Publisher<?> inputStream,
+            DataBufferFactory bufferFactory,
+            ResolvableType elementType,
+            MimeType mimeType,
+            Map<String, Object> hints
+        ) {
+            return SingleDocumentEncoders.encode(
+                this,
+                inputStream,
+                bufferFactory,
+                elementType,
+                mimeType,
+                hints
+            );
+        }
+    }
+
+    private static Flux<DataBuffer> encode(
+        Encoder<Object> encoder,
+        Publisher<?> inputStream,
+        DataBufferFactory bufferFactory,
+        ResolvableType elementType,
+        MimeType mimeType,
+        Map<String, Object> hints
+    ) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono
+                .map(value ->
+                    encoder.encodeValue(
+                        value,
+                        bufferFactory,
+                        elementType,
+                        mimeType,
+                        hints
+                    )
+                )
+                .flux();
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(
+            List.class,
+            elementType
+        );
+        return Flux.from(inputStream)
+            .collectList()
+            .map(values ->
+                encoder.encodeValue(
+                    values,
+                    bufferFactory,
+                    listType,
+                    mimeType,
+                    hints
+                )
+            )
+            .flux();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jfi.api.infrastructure;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+// UUIDv7 (RFC 9562): 48-bit Unix millis, a 12-bit per-thread sequence that
+// keeps IDs from one thread increasing within a millisecond, then 62 random
+// bits. Thread-local state and ThreadLocalRandom avoid locks and SecureRandom.
+public class TimeOrderedRequestIdGenerator implements RequestIdGenerator {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(
+        State::new
+    );
+
+    public TimeOrderedRequestIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedRequestIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String generate() {
+        State current = state.get();
+        long now = clock.getAsLong();
+        if (now > current.millis) {
+            current.millis = now;
+            current.sequence = 0;
+        } else if (current.sequence < MAX_SEQUENCE) {
+            current.sequence++;
+        } else {
+            // Sequence exhausted (or the clock went backwards): borrow the next
+            // millisecond rather than break ordering.
+            current.millis++;
+            current.sequence = 0;
+        }
+        long mostSigBits =
+            (current.millis << 16) | VERSION_7 | current.sequence;
+        long leastSigBits =
+            (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) |
+            VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    private static final class State {
+
+        private long millis = -1;
+        private int sequence;
+    }
+}
@@ -0,0 +1,11 @@
+-- Type filter: equality on employee_type, then keyset order on uuid within it
+CREATE INDEX employee_type_uuid_idx ON employee (employee_type, uuid);
+
+-- Last name prefix: text_pattern_ops lets LIKE 'abc%' use the btree under any collation
+CREATE INDEX employee_last_name_lower_idx ON employee (lower(last_name) text_pattern_ops);
+
+-- Free-text search: trigram index for LIKE '%abc%' on the full name
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX employee_full_name_trgm_idx ON employee
+    USING gin ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, ''))) gin_trgm_ops);
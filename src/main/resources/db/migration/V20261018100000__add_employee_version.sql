@@ -0,0 +1,12 @@
+-- One sequence for the whole table, not a per-row counter: every insert or update
+-- takes a value higher than any existing row, so max(version) together with the
+-- row count identifies the state of the collection.
+CREATE SEQUENCE employee_version_seq;
+
+ALTER TABLE employee
+    ADD COLUMN version BIGINT NOT NULL DEFAULT nextval('employee_version_seq');
+
+ALTER SEQUENCE employee_version_seq OWNED BY employee.version;
+
+-- Makes max(version) a single index probe and count(*) an index-only scan
+CREATE INDEX employee_version_idx ON employee (version);
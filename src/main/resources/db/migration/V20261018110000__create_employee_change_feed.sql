@@ -0,0 +1,71 @@
+-- Outbox: filled by the triggers below inside the writing transaction, so a change
+-- is recorded if and only if the write commits. Rows only live until the relay
+-- moves them into employee_change.
+CREATE TABLE employee_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    employee_uuid UUID NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    employee_type VARCHAR(50),
+    version BIGINT NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Change feed: positions are assigned by the relay, one run at a time, so they
+-- follow commit order and a consumer resuming after a position never skips a
+-- change that committed late.
+CREATE TABLE employee_change (
+    position BIGSERIAL PRIMARY KEY,
+    employee_uuid UUID NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    employee_type VARCHAR(50),
+    version BIGINT NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL
+);
+
+-- Statement-level with transition tables: a batch insert of 1000 rows adds one
+-- INSERT ... SELECT, not 1000 trigger calls.
+CREATE FUNCTION employee_outbox_capture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_outbox (employee_uuid, change_type, version)
+        SELECT uuid, 'DELETED', version FROM changed_rows;
+    ELSE
+        INSERT INTO employee_outbox
+            (employee_uuid, change_type, first_name, last_name, employee_type, version)
+        SELECT
+            uuid,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' ELSE 'UPDATED' END,
+            first_name,
+            last_name,
+            employee_type,
+            version
+        FROM changed_rows;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER employee_outbox_insert AFTER INSERT ON employee
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION employee_outbox_capture();
+
+CREATE TRIGGER employee_outbox_update AFTER UPDATE ON employee
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION employee_outbox_capture();
+
+CREATE TRIGGER employee_outbox_delete AFTER DELETE ON employee
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION employee_outbox_capture();
+
+-- Existing employees enter the feed as created, so a consumer starting from
+-- position 0 rebuilds the whole collection without a full scan.
+INSERT INTO employee_change
+    (employee_uuid, change_type, first_name, last_name, employee_type, version, changed_at)
+SELECT uuid, 'CREATED', first_name, last_name, employee_type, version, now()
+FROM employee
+ORDER BY version;
@@ -0,0 +1,26 @@
+-- Same capture as before, plus a notification per changed uuid on the
+-- employee_changed channel. Notifications are delivered when the writing
+-- transaction commits and never if it rolls back; duplicates within one
+-- transaction are folded into one.
+CREATE OR REPLACE FUNCTION employee_outbox_capture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_outbox (employee_uuid, change_type, version)
+        SELECT uuid, 'DELETED', version FROM changed_rows;
+    ELSE
+        INSERT INTO employee_outbox
+            (employee_uuid, change_type, first_name, last_name, employee_type, version)
+        SELECT
+            uuid,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' ELSE 'UPDATED' END,
+            first_name,
+            last_name,
+            employee_type,
+            version
+        FROM changed_rows;
+    END IF;
+    PERFORM pg_notify('employee_changed', uuid::text) FROM changed_rows;
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,51 @@
+-- One row holding what GET /employees reports as its ETag, so the request reads
+-- a row instead of aggregating the table. max_version only grows and row_count
+-- follows inserts and deletes, so every write statement changes the pair.
+CREATE TABLE employee_collection_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    max_version BIGINT NOT NULL,
+    row_count BIGINT NOT NULL
+);
+
+INSERT INTO employee_collection_version (max_version, row_count)
+SELECT coalesce(max(version), 0), count(*) FROM employee;
+
+-- Same capture as before, plus one update of the counter per statement. The
+-- row lock is held until commit, so writers commit one after the other.
+CREATE OR REPLACE FUNCTION employee_outbox_capture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_outbox (employee_uuid, change_type, version)
+        SELECT uuid, 'DELETED', version FROM changed_rows;
+    ELSE
+        INSERT INTO employee_outbox
+            (employee_uuid, change_type, first_name, last_name, employee_type, version)
+        SELECT
+            uuid,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' ELSE 'UPDATED' END,
+            first_name,
+            last_name,
+            employee_type,
+            version
+        FROM changed_rows;
+    END IF;
+    UPDATE employee_collection_version
+    SET
+        max_version = greatest(max_version, changed.newest_version),
+        row_count = row_count + CASE TG_OP
+            WHEN 'INSERT' THEN changed.changed_count
+            WHEN 'DELETE' THEN -changed.changed_count
+            ELSE 0
+        END
+    FROM (
+        SELECT
+            coalesce(max(version), 0) AS newest_version,
+            count(*) AS changed_count
+        FROM changed_rows
+    ) AS changed
+    WHERE changed.changed_count > 0;
+    PERFORM pg_notify('employee_changed', uuid::text) FROM changed_rows;
+    RETURN NULL;
+END;
+$$;
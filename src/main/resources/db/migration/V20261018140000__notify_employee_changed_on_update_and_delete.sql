@@ -0,0 +1,43 @@
+-- Same capture as before, but only updates and deletes notify employee_changed.
+-- The cache never holds an employee before it is inserted, so an insert has
+-- nothing to evict, and a bulk import no longer queues one notification per row.
+-- An upsert still notifies the rows it overwrote: their UPDATE trigger fires.
+CREATE OR REPLACE FUNCTION employee_outbox_capture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_outbox (employee_uuid, change_type, version)
+        SELECT uuid, 'DELETED', version FROM changed_rows;
+    ELSE
+        INSERT INTO employee_outbox
+            (employee_uuid, change_type, first_name, last_name, employee_type, version)
+        SELECT
+            uuid,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' ELSE 'UPDATED' END,
+            first_name,
+            last_name,
+            employee_type,
+            version
+        FROM changed_rows;
+    END IF;
+    UPDATE employee_collection_version
+    SET
+        max_version = greatest(max_version, changed.newest_version),
+        row_count = row_count + CASE TG_OP
+            WHEN 'INSERT' THEN changed.changed_count
+            WHEN 'DELETE' THEN -changed.changed_count
+            ELSE 0
+        END
+    FROM (
+        SELECT
+            coalesce(max(version), 0) AS newest_version,
+            count(*) AS changed_count
+        FROM changed_rows
+    ) AS changed
+    WHERE changed.changed_count > 0;
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('employee_changed', uuid::text) FROM changed_rows;
+    END IF;
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,30 @@
+-- The counter row made every writer wait for the one before it to commit, and
+-- since versions are taken before that wait, a late commit could leave the pair
+-- unchanged. The collection version now comes from the change feed position and
+-- the outbox, which writers only append to.
+CREATE OR REPLACE FUNCTION employee_outbox_capture() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO employee_outbox (employee_uuid, change_type, version)
+        SELECT uuid, 'DELETED', version FROM changed_rows;
+    ELSE
+        INSERT INTO employee_outbox
+            (employee_uuid, change_type, first_name, last_name, employee_type, version)
+        SELECT
+            uuid,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' ELSE 'UPDATED' END,
+            first_name,
+            last_name,
+            employee_type,
+            version
+        FROM changed_rows;
+    END IF;
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('employee_changed', uuid::text) FROM changed_rows;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TABLE employee_collection_version;
@@ -95,4 +95,62 @@ class ApplicationTest {
             .allowEmptyShould(true)
             .check(importedClasses);
     }
+
+    @Test
+    void restAdapterShouldNotDependOnGrpcAdapter() {
+        ArchRuleDefinition.noClasses()
+            .that()
+            .resideInAnyPackage("..employee.adapter.in.rest..")
+            .should()
+            .dependOnClassesThat()
+            .resideInAnyPackage("..employee.adapter.in.grpc..")
+            .because("Inbound adapters must only share the ports.")
+            .allowEmptyShould(true)
+            .check(importedClasses);
+    }
+
+    @Test
+    void grpcAdapterShouldNotDependOnRestAdapter() {
+        ArchRuleDefinition.noClasses()
+            .that()
+            .resideInAnyPackage("..employee.adapter.in.grpc..")
+            .should()
+            .dependOnClassesThat()
+            .resideInAnyPackage("..employee.adapter.in.rest..")
+            .because("Inbound adapters must only share the ports.")
+            .allowEmptyShould(true)
+            .check(importedClasses);
+    }
+
+    @Test
+    void rsocketAdapterShouldNotDependOnOtherInboundAdapters() {
+        ArchRuleDefinition.noClasses()
+            .that()
+            .resideInAnyPackage("..employee.adapter.in.rsocket..")
+            .should()
+            .dependOnClassesThat()
+            .resideInAnyPackage(
+                "..employee.adapter.in.rest..",
+                "..employee.adapter.in.grpc.."
+            )
+            .because("Inbound adapters must only share the ports.")
+            .allowEmptyShould(true)
+            .check(importedClasses);
+    }
+
+    @Test
+    void otherInboundAdaptersShouldNotDependOnRSocketAdapter() {
+        ArchRuleDefinition.noClasses()
+            .that()
+            .resideInAnyPackage(
+                "..employee.adapter.in.rest..",
+                "..employee.adapter.in.grpc.."
+            )
+            .should()
+            .dependOnClassesThat()
+            .resideInAnyPackage("..employee.adapter.in.rsocket..")
+            .because("Inbound adapters must only share the ports.")
+            .allowEmptyShould(true)
+            .check(importedClasses);
+    }
 }
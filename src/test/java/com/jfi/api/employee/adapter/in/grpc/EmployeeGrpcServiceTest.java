@@ -0,0 +1,457 @@
+package com.jfi.api.employee.adapter.in.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jfi.api.employee.adapter.in.grpc.proto.EmployeeServiceGrpc;
+import com.jfi.api.employee.adapter.in.grpc.proto.EmployeeServiceProto;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.adapter.in.rest.FakeEmployeeService;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+class EmployeeGrpcServiceTest {
+
+    static final UUID JUAN = UUID.fromString(
+        "0a5a3c3e-4b2f-4f6e-9d8a-1f2b3c4d5e6f"
+    );
+    static final UUID MARIA = UUID.fromString(
+        "1b6b4d4f-5c3a-4a7f-8e9b-2a3c4d5e6f70"
+    );
+
+    AtomicLong rowsRequested;
+    AtomicBoolean readCancelled;
+    FakeEmployeeService employeeService;
+    Server server;
+    ManagedChannel channel;
+    EmployeeServiceGrpc.EmployeeServiceBlockingStub stub;
+
+    @BeforeEach
+    void setup() throws IOException {
+        rowsRequested = new AtomicLong();
+        readCancelled = new AtomicBoolean();
+        employeeService = new FakeEmployeeService() {
+            @Override
+            public <T> Flux<T> findAllEmployees(
+                EmployeeProjection<T> projection
+            ) {
+                return super
+                    .findAllEmployees(projection)
+                    .doOnRequest(rowsRequested::addAndGet)
+                    .doOnCancel(() -> readCancelled.set(true));
+            }
+        };
+        employeeService.save(employee(JUAN, "Juan", "dela Cruz"));
+        employeeService.save(employee(MARIA, "Maria", "Clara"));
+
+        // Direct executors on both ends make every call run to completion
+        // before the stub returns
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(new EmployeeGrpcService(employeeService))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = EmployeeServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void teardown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void givenEmployee_whenGetEmployee_thenReturnsItWithItsVersion() {
+        // given
+        Employee juan = employeeService.findEmployeeById(JUAN).block();
+
+        // when
+        EmployeeProto.Employee response = stub.getEmployee(
+            EmployeeServiceProto.GetEmployeeRequest.newBuilder()
+                .setUuid(JUAN.toString())
+                .build()
+        );
+
+        // then
+        assertEquals(JUAN.toString(), response.getUuid());
+        assertEquals("Juan", response.getFirstName());
+        assertEquals("dela Cruz", response.getLastName());
+        assertEquals(
+            EmployeeProto.EmployeeType.WORKER,
+            response.getEmployeeType()
+        );
+        assertEquals(juan.getVersion(), response.getVersion());
+    }
+
+    @Test
+    void givenEmployeeWithoutNames_whenGetEmployee_thenLeavesThemUnset() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        employeeService.save(employee(uuid, null, null));
+
+        // when
+        EmployeeProto.Employee response = stub.getEmployee(
+            EmployeeServiceProto.GetEmployeeRequest.newBuilder()
+                .setUuid(uuid.toString())
+                .build()
+        );
+
+        // then
+        assertEquals("", response.getFirstName());
+        assertEquals("", response.getLastName());
+    }
+
+    @Test
+    void givenUnknownId_whenGetEmployee_thenFailsWithNotFound() {
+        // given
+        EmployeeServiceProto.GetEmployeeRequest request =
+            EmployeeServiceProto.GetEmployeeRequest.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .build();
+
+        // when
+        StatusRuntimeException error = assertThrows(
+            StatusRuntimeException.class,
+            () -> stub.getEmployee(request)
+        );
+
+        // then
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    @Test
+    void givenMalformedId_whenGetEmployee_thenFailsWithInvalidArgument() {
+        // given
+        EmployeeServiceProto.GetEmployeeRequest request =
+            EmployeeServiceProto.GetEmployeeRequest.newBuilder()
+                .setUuid("not-a-uuid")
+                .build();
+
+        // when
+        StatusRuntimeException error = assertThrows(
+            StatusRuntimeException.class,
+            () -> stub.getEmployee(request)
+        );
+
+        // then
+        assertEquals(
+            Status.Code.INVALID_ARGUMENT,
+            error.getStatus().getCode()
+        );
+        assertEquals(
+            "Invalid employee id: not-a-uuid",
+            error.getStatus().getDescription()
+        );
+    }
+
+    @Test
+    void givenEmployees_whenListEmployees_thenStreamsEveryOne() {
+        // given
+        EmployeeServiceProto.ListEmployeesRequest request =
+            EmployeeServiceProto.ListEmployeesRequest.getDefaultInstance();
+
+        // when
+        List<String> names = new ArrayList<>();
+        stub
+            .listEmployees(request)
+            .forEachRemaining(employee -> names.add(employee.getFirstName()));
+
+        // then
+        assertEquals(List.of("Juan", "Maria"), names);
+    }
+
+    @Test
+    void givenFilter_whenListEmployees_thenStreamsOnlyMatchingEmployees() {
+        // given
+        EmployeeServiceProto.ListEmployeesRequest request =
+            EmployeeServiceProto.ListEmployeesRequest.newBuilder()
+                .setQ("cla")
+                .build();
+
+        // when
+        List<String> names = new ArrayList<>();
+        stub
+            .listEmployees(request)
+            .forEachRemaining(employee -> names.add(employee.getFirstName()));
+
+        // then
+        assertEquals(List.of("Maria"), names);
+    }
+
+    @Test
+    void givenCursorOfFirstPage_whenListEmployees_thenStreamsTheNextPage() {
+        // given
+        String first = stub
+            .listEmployees(
+                EmployeeServiceProto.ListEmployeesRequest.newBuilder()
+                    .setLimit(1)
+                    .build()
+            )
+            .next()
+            .getUuid();
+
+        // when
+        List<String> uuids = new ArrayList<>();
+        stub
+            .listEmployees(
+                EmployeeServiceProto.ListEmployeesRequest.newBuilder()
+                    .setAfter(first)
+                    .setLimit(1)
+                    .build()
+            )
+            .forEachRemaining(employee -> uuids.add(employee.getUuid()));
+
+        // then
+        assertEquals(1, uuids.size());
+        assertNotEquals(first, uuids.getFirst());
+    }
+
+    @Test
+    void givenClientAsksForOne_whenListEmployees_thenReadsOnlyOneAhead() {
+        // given
+        List<EmployeeProto.Employee> received = new ArrayList<>();
+        RecordingObserver observer = new RecordingObserver(received, 1);
+
+        // when
+        EmployeeServiceGrpc.newStub(channel).listEmployees(
+            EmployeeServiceProto.ListEmployeesRequest.getDefaultInstance(),
+            observer
+        );
+
+        // then
+        assertEquals(1, received.size());
+        assertEquals(1, rowsRequested.get());
+        assertFalse(observer.completed);
+
+        // when
+        observer.call.request(1);
+
+        // then
+        assertEquals(2, received.size());
+        assertEquals(2, rowsRequested.get());
+    }
+
+    @Test
+    void givenClientCancels_whenListEmployees_thenCancelsTheRead() {
+        // given
+        List<EmployeeProto.Employee> received = new ArrayList<>();
+        RecordingObserver observer = new RecordingObserver(received, 1);
+        EmployeeServiceGrpc.newStub(channel).listEmployees(
+            EmployeeServiceProto.ListEmployeesRequest.getDefaultInstance(),
+            observer
+        );
+
+        // when
+        observer.call.cancel("Enough", null);
+
+        // then
+        assertEquals(1, received.size());
+        assertTrue(readCancelled.get());
+    }
+
+    @Test
+    void givenIds_whenBatchGetEmployees_thenStreamsThoseThatExistInOrder() {
+        // given
+        EmployeeServiceProto.BatchGetEmployeesRequest request =
+            EmployeeServiceProto.BatchGetEmployeesRequest.newBuilder()
+                .addUuids(MARIA.toString())
+                .addUuids(UUID.randomUUID().toString())
+                .addUuids(JUAN.toString())
+                .build();
+
+        // when
+        Iterator<EmployeeProto.Employee> response = stub.batchGetEmployees(
+            request
+        );
+
+        // then
+        assertEquals("Maria", response.next().getFirstName());
+        assertEquals("Juan", response.next().getFirstName());
+        assertFalse(response.hasNext());
+    }
+
+    @Test
+    void givenRequest_whenCreateEmployee_thenReturnsTheCreatedEmployee() {
+        // given
+        EmployeeProto.EmployeeRequest request =
+            EmployeeProto.EmployeeRequest.newBuilder()
+                .setFirstName("Jose")
+                .setLastName("Rizal")
+                .setEmployeeType(EmployeeProto.EmployeeType.MANAGER)
+                .build();
+
+        // when
+        EmployeeProto.Employee response = stub.createEmployee(request);
+
+        // then
+        Employee created = employeeService
+            .findEmployeeById(UUID.fromString(response.getUuid()))
+            .block();
+        assertEquals("Jose", created.getFirstName());
+        assertEquals(EmployeeType.MANAGER, created.getEmployeeType());
+        assertEquals(created.getVersion(), response.getVersion());
+    }
+
+    @Test
+    void givenStaleExpectedVersion_whenUpdateEmployee_thenFailsWithFailedPrecondition() {
+        // given
+        long version = employeeService
+            .findEmployeeById(JUAN)
+            .block()
+            .getVersion();
+        EmployeeServiceProto.UpdateEmployeeRequest request =
+            EmployeeServiceProto.UpdateEmployeeRequest.newBuilder()
+                .setUuid(JUAN.toString())
+                .setEmployee(
+                    EmployeeProto.EmployeeRequest.newBuilder()
+                        .setFirstName("Juan")
+                        .setLastName("Luna")
+                        .setEmployeeType(EmployeeProto.EmployeeType.WORKER)
+                )
+                .setExpectedVersion(version - 1)
+                .build();
+
+        // when
+        StatusRuntimeException error = assertThrows(
+            StatusRuntimeException.class,
+            () -> stub.updateEmployee(request)
+        );
+
+        // then
+        assertEquals(
+            Status.Code.FAILED_PRECONDITION,
+            error.getStatus().getCode()
+        );
+        assertEquals(
+            "dela Cruz",
+            employeeService.findEmployeeById(JUAN).block().getLastName()
+        );
+    }
+
+    @Test
+    void givenOnlyLastName_whenPatchEmployee_thenKeepsTheOtherFields() {
+        // given
+        EmployeeServiceProto.UpdateEmployeeRequest request =
+            EmployeeServiceProto.UpdateEmployeeRequest.newBuilder()
+                .setUuid(JUAN.toString())
+                .setEmployee(
+                    EmployeeProto.EmployeeRequest.newBuilder().setLastName(
+                        "Luna"
+                    )
+                )
+                .build();
+
+        // when
+        EmployeeProto.Employee response = stub.patchEmployee(request);
+
+        // then
+        assertEquals("Juan", response.getFirstName());
+        assertEquals("Luna", response.getLastName());
+        assertEquals(
+            EmployeeProto.EmployeeType.WORKER,
+            response.getEmployeeType()
+        );
+    }
+
+    @Test
+    void givenEmployee_whenDeleteEmployee_thenItIsGone() {
+        // given
+        EmployeeServiceProto.DeleteEmployeeRequest request =
+            EmployeeServiceProto.DeleteEmployeeRequest.newBuilder()
+                .setUuid(JUAN.toString())
+                .build();
+
+        // when
+        stub.deleteEmployee(request);
+
+        // then
+        assertFalse(
+            employeeService.findEmployeeById(JUAN).blockOptional().isPresent()
+        );
+    }
+
+    private static Employee employee(
+        UUID uuid,
+        String firstName,
+        String lastName
+    ) {
+        return Employee.builder()
+            .uuid(uuid)
+            .firstName(firstName)
+            .lastName(lastName)
+            .employeeType(EmployeeType.WORKER)
+            .build();
+    }
+
+    // Takes responses only as fast as the test asks for them
+    private static final class RecordingObserver
+        implements
+            ClientResponseObserver<
+                EmployeeServiceProto.ListEmployeesRequest,
+                EmployeeProto.Employee
+            > {
+
+        private final List<EmployeeProto.Employee> received;
+        private final int initialRequest;
+        private ClientCallStreamObserver<
+            EmployeeServiceProto.ListEmployeesRequest
+        > call;
+        private boolean completed;
+
+        private RecordingObserver(
+            List<EmployeeProto.Employee> received,
+            int initialRequest
+        ) {
+            this.received = received;
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void beforeStart(
+            ClientCallStreamObserver<
+                EmployeeServiceProto.ListEmployeesRequest
+            > call
+        ) {
+            this.call = call;
+            call.disableAutoRequestWithInitial(initialRequest);
+        }
+
+        @Override
+        public void onNext(EmployeeProto.Employee employee) {
+            received.add(employee);
+        }
+
+        @Override
+        public void onError(Throwable error) {}
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.infrastructure.BinaryCodecConfiguration;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+class EmployeeContentNegotiationTest {
+
+    FakeEmployeeService employeeService;
+    WebTestClient webTestClient;
+
+    Employee worker;
+
+    @BeforeEach
+    void setup() {
+        employeeService = new FakeEmployeeService();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        webTestClient = WebTestClient.bindToController(
+            new EmployeeRESTController(employeeService)
+        )
+            .validator(validator)
+            .httpMessageCodecs(configurer -> {
+                new BinaryCodecConfiguration()
+                    .binaryCodecs(objectMapper)
+                    .customize(configurer);
+                new EmployeeRESTConfiguration()
+                    .employeeProtobufCodecs()
+                    .customize(configurer);
+            })
+            .build();
+
+        worker = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Juan")
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+        employeeService.save(worker);
+    }
+
+    @Test
+    void givenClientAcceptsAnything_whenEmployeeIsLookedUp_thenRespondsWithJson() {
+        // when / then
+        webTestClient
+            .get()
+            .uri("/employees/{uuid}", worker.getUuid())
+            .accept(MediaType.ALL)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.firstName")
+            .isEqualTo("Juan");
+    }
+
+    @Test
+    void givenCbor_whenEmployeeIsCreated_thenRespondsWithCbor() throws IOException {
+        // given
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        byte[] request = cbor.writeValueAsBytes(
+            Map.of(
+                "firstName",
+                "Maria",
+                "lastName",
+                "Santos",
+                "employeeType",
+                "MANAGER"
+            )
+        );
+
+        // when
+        byte[] body = webTestClient
+            .post()
+            .uri("/employees")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus()
+            .isCreated()
+            .expectHeader()
+            .contentType(MediaType.APPLICATION_CBOR)
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        // then
+        JsonNode employee = cbor.readTree(body);
+        assertEquals("Maria", employee.get("firstName").asText());
+        assertEquals("MANAGER", employee.get("employeeType").asText());
+    }
+
+    @Test
+    void givenSmileRequestWithBlankName_whenEmployeeIsCreated_thenRejectsItAsJsonWould()
+        throws IOException {
+        // given
+        byte[] request = new ObjectMapper(new SmileFactory()).writeValueAsBytes(
+            Map.of("firstName", " ", "lastName", "Santos", "employeeType", "MANAGER")
+        );
+
+        // when / then
+        webTestClient
+            .post()
+            .uri("/employees")
+            .contentType(BinaryCodecConfiguration.APPLICATION_SMILE)
+            .accept(BinaryCodecConfiguration.APPLICATION_SMILE)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+
+    @Test
+    void givenSmile_whenEmployeesAreLookedUp_thenRespondsWithSmileList()
+        throws IOException {
+        // when
+        byte[] body = webTestClient
+            .get()
+            .uri("/employees")
+            .accept(BinaryCodecConfiguration.APPLICATION_SMILE)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        // then
+        JsonNode employees = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals(1, employees.size());
+        assertEquals("dela Cruz", employees.get(0).get("lastName").asText());
+    }
+
+    @Test
+    void givenProtobuf_whenEmployeeIsLookedUp_thenRespondsWithEmployeeMessage()
+        throws InvalidProtocolBufferException {
+        // when
+        byte[] body = webTestClient
+            .get()
+            .uri("/employees/{uuid}", worker.getUuid())
+            .accept(EmployeeProtobuf.APPLICATION_PROTOBUF)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(EmployeeProtobuf.APPLICATION_PROTOBUF)
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        // then
+        assertEquals(
+            worker.getUuid().toString(),
+            EmployeeProto.Employee.parseFrom(body).getUuid()
+        );
+    }
+
+    @Test
+    void givenProtobufRequestWithoutLastName_whenEmployeeIsCreated_thenRejectsItAsJsonWould() {
+        // given
+        byte[] request = EmployeeProto.EmployeeRequest.newBuilder()
+            .setFirstName("Maria")
+            .setEmployeeType(EmployeeProto.EmployeeType.MANAGER)
+            .build()
+            .toByteArray();
+
+        // when / then
+        webTestClient
+            .post()
+            .uri("/employees")
+            .contentType(EmployeeProtobuf.APPLICATION_PROTOBUF)
+            .accept(EmployeeProtobuf.APPLICATION_PROTOBUF)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus()
+            .isBadRequest();
+    }
+}
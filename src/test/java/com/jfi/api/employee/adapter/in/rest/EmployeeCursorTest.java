@@ -0,0 +1,40 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jfi.api.employee.domain.InvalidPageRequestException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCursorTest {
+
+    @Test
+    void givenEmployeeId_whenCursorIsEncoded_thenDecodesToTheSameEmployeeId() {
+        // given
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        String cursor = EmployeeCursor.encode(uuid);
+
+        // then
+        assertEquals(uuid, EmployeeCursor.decode(cursor));
+    }
+
+    @Test
+    void givenNoCursor_whenCursorIsDecoded_thenStartsFromTheFirstPage() {
+        assertNull(EmployeeCursor.decode(null));
+        assertNull(EmployeeCursor.decode(""));
+    }
+
+    @Test
+    void givenMalformedCursor_whenCursorIsDecoded_thenPageRequestIsInvalid() {
+        assertThrows(InvalidPageRequestException.class, () ->
+            EmployeeCursor.decode("%%%")
+        );
+        assertThrows(InvalidPageRequestException.class, () ->
+            EmployeeCursor.decode("c2hvcnQ")
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeETagTest {
+
+    @Test
+    void givenEmployee_whenETagIsCreated_thenQuotesItsVersion() {
+        // given
+        Employee employee = Employee.builder().version(42L).build();
+
+        // when / then
+        assertEquals("\"42\"", EmployeeETag.of(employee));
+    }
+
+    @Test
+    void givenCollectionVersion_whenETagIsCreated_thenCombinesPositionAndPending() {
+        // given
+        EmployeeCollectionVersion version = new EmployeeCollectionVersion(42, 3);
+
+        // when / then
+        assertEquals("\"42.3\"", EmployeeETag.of(version));
+    }
+
+    @Test
+    void givenIfNoneMatchListingTheETag_whenMatched_thenMatches() {
+        assertTrue(EmployeeETag.matches("\"41\", \"42\"", "\"42\""));
+        assertTrue(EmployeeETag.matches("W/\"42\"", "\"42\""));
+        assertTrue(EmployeeETag.matches("*", "\"42\""));
+    }
+
+    @Test
+    void givenIfNoneMatchWithoutTheETag_whenMatched_thenDoesNotMatch() {
+        assertFalse(EmployeeETag.matches(null, "\"42\""));
+        assertFalse(EmployeeETag.matches("", "\"42\""));
+        assertFalse(EmployeeETag.matches("\"41\"", "\"42\""));
+    }
+
+    @Test
+    void givenIfMatchWithOneETag_whenRequiredVersionIsRead_thenIsThatVersion() {
+        assertEquals(42L, EmployeeETag.requiredVersion(UUID.randomUUID(), "\"42\""));
+    }
+
+    @Test
+    void givenNoIfMatchOrWildcard_whenRequiredVersionIsRead_thenAnyVersionWillDo() {
+        assertNull(EmployeeETag.requiredVersion(UUID.randomUUID(), null));
+        assertNull(EmployeeETag.requiredVersion(UUID.randomUUID(), "*"));
+    }
+
+    @Test
+    void givenIfMatchThatCannotMatch_whenRequiredVersionIsRead_thenVersionDoesNotMatch() {
+        UUID uuid = UUID.randomUUID();
+        assertThrows(EmployeeVersionMismatchException.class, () ->
+            EmployeeETag.requiredVersion(uuid, "W/\"42\"")
+        );
+        assertThrows(EmployeeVersionMismatchException.class, () ->
+            EmployeeETag.requiredVersion(uuid, "\"42-3\"")
+        );
+        assertThrows(EmployeeVersionMismatchException.class, () ->
+            EmployeeETag.requiredVersion(uuid, "\"41\", \"42\"")
+        );
+    }
+}
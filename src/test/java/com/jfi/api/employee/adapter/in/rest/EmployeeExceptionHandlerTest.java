@@ -3,7 +3,9 @@ package com.jfi.api.employee.adapter.in.rest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
 import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -126,4 +128,45 @@ class EmployeeExceptionHandlerTest {
             problem.getType()
         );
     }
+
+    @Test
+    void givenIncorrectPageRequest_whenTheProblemIsReported_thenPageIsNotListed() {
+        // given
+        InvalidPageRequestException exception = new InvalidPageRequestException(
+            "Limit must be between 1 and 500"
+        );
+
+        // when
+        ProblemDetail problem = handler.handleInvalidPageRequest(exception);
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
+        assertEquals(
+            EmployeeExceptionHandler.INVALID_PAGE_REQUEST_TITLE,
+            problem.getTitle()
+        );
+        assertEquals("Limit must be between 1 and 500", problem.getDetail());
+    }
+
+    @Test
+    void givenStaleEmployeeVersion_whenTheProblemIsReported_thenPreconditionFailed() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        EmployeeVersionMismatchException exception =
+            new EmployeeVersionMismatchException(uuid);
+
+        // when
+        ProblemDetail problem = handler.handleEmployeeVersionMismatch(exception);
+
+        // then
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), problem.getStatus());
+        assertEquals(
+            EmployeeExceptionHandler.EMPLOYEE_VERSION_MISMATCH_TITLE,
+            problem.getTitle()
+        );
+        assertEquals(
+            EmployeeVersionMismatchException.MESSAGE_PREFIX + uuid,
+            problem.getDetail()
+        );
+    }
 }
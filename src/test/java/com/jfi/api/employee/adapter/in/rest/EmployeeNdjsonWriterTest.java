@@ -0,0 +1,76 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class EmployeeNdjsonWriterTest {
+
+    ObjectMapper objectMapper;
+    EmployeeNdjsonWriter writer;
+
+    @BeforeEach
+    void setup() {
+        // Same defaults Spring Boot applies to the WebFlux codecs
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = new EmployeeNdjsonWriter(objectMapper);
+    }
+
+    @Test
+    void givenEmployeeFields_whenLineIsWritten_thenMatchesTheEncodedDTO()
+        throws Exception {
+        // given
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        String line = write(uuid, "Juan \"JD\"", "dela Cruz", EmployeeType.WORKER);
+
+        // then
+        assertEquals(
+            objectMapper.writeValueAsString(
+                new EmployeeDTO(uuid, "Juan \"JD\"", "dela Cruz", EmployeeType.WORKER)
+            ) +
+            "\n",
+            line
+        );
+    }
+
+    @Test
+    void givenMissingFields_whenLineIsWritten_thenWritesThemAsNull()
+        throws Exception {
+        // given
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        String line = write(uuid, "Juan", null, null);
+
+        // then
+        assertEquals(
+            objectMapper.writeValueAsString(
+                new EmployeeDTO(uuid, "Juan", null, null)
+            ) +
+            "\n",
+            line
+        );
+    }
+
+    private String write(
+        UUID uuid,
+        String firstName,
+        String lastName,
+        EmployeeType employeeType
+    ) {
+        DataBuffer buffer = writer
+            .lines(DefaultDataBufferFactory.sharedInstance)
+            .project(uuid, firstName, lastName, employeeType, 1L);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class EmployeeProtobufDecoderTest {
+
+    EmployeeProtobufDecoder decoder;
+
+    @BeforeEach
+    void setup() {
+        decoder = new EmployeeProtobufDecoder();
+    }
+
+    @Test
+    void givenRequestTypes_whenDecodabilityIsChecked_thenOnlyAcceptsEmployeeRequests() {
+        // when / then
+        assertTrue(
+            decoder.canDecode(
+                ResolvableType.forClass(EmployeeRequest.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+        assertTrue(
+            decoder.canDecode(
+                ResolvableType.forClass(EmployeePatchRequest.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+        assertFalse(
+            decoder.canDecode(
+                ResolvableType.forClass(EmployeeDTO.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+    }
+
+    @Test
+    void givenAllFields_whenDecodedAsRequest_thenReadsEveryField() {
+        // given
+        EmployeeProto.EmployeeRequest message =
+            EmployeeProto.EmployeeRequest.newBuilder()
+                .setFirstName("Juan")
+                .setLastName("dela Cruz")
+                .setEmployeeType(EmployeeProto.EmployeeType.FINANCE_MANAGER)
+                .build();
+
+        // when
+        Object request = decode(message.toByteArray(), EmployeeRequest.class);
+
+        // then
+        assertEquals(
+            new EmployeeRequest("Juan", "dela Cruz", EmployeeType.FINANCE_MANAGER),
+            request
+        );
+    }
+
+    @Test
+    void givenMissingFields_whenDecodedAsPatch_thenLeavesThemNull() {
+        // given
+        UnknownFieldSet message = UnknownFieldSet.newBuilder()
+            .addField(2, string("Santos"))
+            .addField(9, string("from a newer schema"))
+            .build();
+
+        // when
+        Object patch = decode(message.toByteArray(), EmployeePatchRequest.class);
+
+        // then
+        assertEquals(new EmployeePatchRequest(null, "Santos", null), patch);
+    }
+
+    @Test
+    void givenUnknownEmployeeType_whenDecoded_thenRejectsBody() {
+        // given
+        EmployeeProto.EmployeeRequest message =
+            EmployeeProto.EmployeeRequest.newBuilder()
+                .setEmployeeTypeValue(42)
+                .build();
+
+        // when / then
+        assertThrows(DecodingException.class, () ->
+            decode(message.toByteArray(), EmployeeRequest.class)
+        );
+    }
+
+    @Test
+    void givenTruncatedBody_whenDecoded_thenRejectsBody() {
+        // given
+        byte[] truncated = { 0x0a, 0x05, 'J', 'u' };
+
+        // when / then
+        assertThrows(DecodingException.class, () ->
+            decoder.decode(
+                DefaultDataBufferFactory.sharedInstance.wrap(truncated),
+                ResolvableType.forClass(EmployeeRequest.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF,
+                null
+            )
+        );
+    }
+
+    private Object decode(byte[] message, Class<?> type) {
+        return decoder.decode(
+            DefaultDataBufferFactory.sharedInstance.wrap(message),
+            ResolvableType.forClass(type),
+            EmployeeProtobuf.APPLICATION_PROTOBUF,
+            null
+        );
+    }
+
+    private static UnknownFieldSet.Field string(String value) {
+        return UnknownFieldSet.Field.newBuilder()
+            .addLengthDelimited(
+                ByteString.copyFrom(value, StandardCharsets.UTF_8)
+            )
+            .build();
+    }
+}
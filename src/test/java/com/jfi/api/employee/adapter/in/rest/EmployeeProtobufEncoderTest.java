@@ -0,0 +1,167 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.jfi.api.employee.adapter.in.proto.EmployeeProto;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+class EmployeeProtobufEncoderTest {
+
+    EmployeeProtobufEncoder encoder;
+
+    EmployeeDTO worker;
+    EmployeeDTO manager;
+
+    @BeforeEach
+    void setup() {
+        encoder = new EmployeeProtobufEncoder();
+        worker = new EmployeeDTO(
+            UUID.randomUUID(),
+            "Juan",
+            "dela Cruz",
+            EmployeeType.WORKER
+        );
+        manager = new EmployeeDTO(
+            UUID.randomUUID(),
+            "Maria",
+            "Santos",
+            EmployeeType.MANAGER
+        );
+    }
+
+    @Test
+    void givenEmployeeTypes_whenEncodabilityIsChecked_thenOnlyAcceptsEmployeesAsProtobuf() {
+        // when / then
+        assertTrue(
+            encoder.canEncode(
+                ResolvableType.forClass(EmployeeDTO.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+        assertTrue(
+            encoder.canEncode(
+                ResolvableType.forClassWithGenerics(List.class, EmployeeDTO.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+        assertFalse(
+            encoder.canEncode(
+                ResolvableType.forClass(EmployeeBatchResultDTO.class),
+                EmployeeProtobuf.APPLICATION_PROTOBUF
+            )
+        );
+        assertFalse(
+            encoder.canEncode(
+                ResolvableType.forClass(EmployeeDTO.class),
+                MediaType.APPLICATION_JSON
+            )
+        );
+    }
+
+    @Test
+    void givenEmployee_whenEncoded_thenWritesEmployeeMessage()
+        throws InvalidProtocolBufferException {
+        // when
+        EmployeeProto.Employee message = EmployeeProto.Employee.parseFrom(
+            bytes(
+                encoder.encodeValue(
+                    worker,
+                    DefaultDataBufferFactory.sharedInstance,
+                    ResolvableType.forClass(EmployeeDTO.class),
+                    EmployeeProtobuf.APPLICATION_PROTOBUF,
+                    null
+                )
+            )
+        );
+
+        // then
+        assertEmployee(worker, EmployeeProto.EmployeeType.WORKER, message);
+    }
+
+    @Test
+    void givenEmployeeList_whenEncoded_thenWritesEmployeeListMessage()
+        throws InvalidProtocolBufferException {
+        // when
+        EmployeeProto.EmployeeList message = EmployeeProto.EmployeeList.parseFrom(
+            bytes(
+                encoder.encodeValue(
+                    List.of(worker, manager),
+                    DefaultDataBufferFactory.sharedInstance,
+                    ResolvableType.forClassWithGenerics(
+                        List.class,
+                        EmployeeDTO.class
+                    ),
+                    EmployeeProtobuf.APPLICATION_PROTOBUF,
+                    null
+                )
+            )
+        );
+
+        // then
+        assertEquals(2, message.getEmployeesCount());
+        assertEmployee(
+            worker,
+            EmployeeProto.EmployeeType.WORKER,
+            message.getEmployees(0)
+        );
+        assertEmployee(
+            manager,
+            EmployeeProto.EmployeeType.MANAGER,
+            message.getEmployees(1)
+        );
+    }
+
+    @Test
+    void givenEmployeeStream_whenEncoded_thenEntriesFormOneEmployeeList()
+        throws InvalidProtocolBufferException {
+        // when
+        byte[] bytes = bytes(
+            DataBufferUtils.join(
+                encoder.encode(
+                    Flux.just(worker, manager),
+                    DefaultDataBufferFactory.sharedInstance,
+                    ResolvableType.forClass(EmployeeDTO.class),
+                    EmployeeProtobuf.APPLICATION_PROTOBUF,
+                    null
+                )
+            ).block()
+        );
+
+        // then
+        assertEquals(
+            2,
+            EmployeeProto.EmployeeList.parseFrom(bytes).getEmployeesCount()
+        );
+    }
+
+    private static void assertEmployee(
+        EmployeeDTO expected,
+        EmployeeProto.EmployeeType employeeType,
+        EmployeeProto.Employee message
+    ) {
+        assertEquals(expected.uuid().toString(), message.getUuid());
+        assertEquals(expected.firstName(), message.getFirstName());
+        assertEquals(expected.lastName(), message.getLastName());
+        assertEquals(employeeType, message.getEmployeeType());
+    }
+
+    private static byte[] bytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jfi.api.employee.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+class EmployeeRESTConfigurationTest {
+
+    FakeEmployeeService employeeService;
+    WebTestClient webTestClient;
+
+    Employee worker;
+
+    @BeforeEach
+    void setup() {
+        employeeService = new FakeEmployeeService();
+        webTestClient = WebTestClient.bindToRouterFunction(
+            new EmployeeRESTConfiguration().directEmployeeExport(
+                employeeService,
+                Jackson2ObjectMapperBuilder.json().build()
+            )
+        ).build();
+
+        worker = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Juan")
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+        employeeService.save(worker);
+    }
+
+    @Test
+    void givenDirectEncoding_whenEmployeesAreExportedAsNdjson_thenWritesOneLinePerEmployee() {
+        // when
+        String body = webTestClient
+            .get()
+            .uri("/employees/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+
+        // then
+        assertEquals(
+            "{\"uuid\":\"" +
+            worker.getUuid() +
+            "\",\"firstName\":\"Juan\",\"lastName\":\"dela Cruz\",\"employeeType\":\"WORKER\"}\n",
+            body
+        );
+    }
+
+    @Test
+    void givenDirectEncoding_whenEmployeesAreExportedAsEvents_thenLeavesThemToTheController() {
+        // when / then
+        webTestClient
+            .get()
+            .uri("/employees/export")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus()
+            .isNotFound();
+    }
+}
@@ -1,13 +1,19 @@
 package com.jfi.api.employee.adapter.in.rest;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChangeType;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
 import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 class EmployeeRESTControllerTest {
@@ -43,33 +49,286 @@ class EmployeeRESTControllerTest {
     @Test
     void givenEmployeesExist_whenAllEmployeesAreLookedUp_thenListsAllEmployees() {
         // when / then
-        StepVerifier.create(controller.getAllEmployees())
+        StepVerifier.create(
+            controller.getAllEmployees(50, null, null, null, null, null)
+        )
+            .expectNextMatches(response -> {
+                List<EmployeeDTO> body = response.getBody();
+                return (
+                    response.getStatusCode() == HttpStatus.OK &&
+                    body != null &&
+                    body.size() == 2 &&
+                    body.stream().anyMatch(dto -> dto.uuid().equals(worker.getUuid())) &&
+                    body.stream().anyMatch(dto -> dto.uuid().equals(manager.getUuid()))
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenAllEmployeesFitOnOnePage_whenEmployeesAreLookedUp_thenDoesNotLinkToNextPage() {
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(2, null, null, null, null, null)
+        )
+            .expectNextMatches(
+                response -> !response.getHeaders().containsKey(HttpHeaders.LINK)
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenMoreEmployeesThanTheLimit_whenEmployeesAreLookedUp_thenLinksToNextPage() {
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(1, null, null, null, null, null)
+        )
+            .expectNextMatches(response -> {
+                List<EmployeeDTO> body = response.getBody();
+                String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+                return (
+                    body != null &&
+                    body.size() == 1 &&
+                    link != null &&
+                    link.contains(
+                        "after=" + EmployeeCursor.encode(body.getFirst().uuid())
+                    ) &&
+                    link.endsWith("rel=\"next\"")
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNextPageCursor_whenEmployeesAreLookedUp_thenListsTheRemainingEmployees() {
+        // given
+        List<EmployeeDTO> firstPage = controller
+            .getAllEmployees(1, null, null, null, null, null)
+            .block()
+            .getBody();
+        String cursor = EmployeeCursor.encode(firstPage.getFirst().uuid());
+
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(1, cursor, null, null, null, null)
+        )
+            .expectNextMatches(response -> {
+                List<EmployeeDTO> body = response.getBody();
+                return (
+                    body != null &&
+                    body.size() == 1 &&
+                    !body.getFirst().uuid().equals(firstPage.getFirst().uuid()) &&
+                    !response.getHeaders().containsKey(HttpHeaders.LINK)
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenMalformedCursor_whenEmployeesAreLookedUp_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(
+                1,
+                "not-a-cursor",
+                null,
+                null,
+                null,
+                null
+            )
+        )
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenUnchangedEmployees_whenEmployeesAreLookedUpWithTheirETag_thenAreNotModified() {
+        // given
+        String etag = controller
+            .getAllEmployees(50, null, null, null, null, null)
+            .block()
+            .getHeaders()
+            .getETag();
+
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(50, null, null, null, null, etag)
+        )
             .expectNextMatches(
-                dto ->
-                    dto.uuid().equals(worker.getUuid()) &&
-                    dto.firstName().equals("Juan")
+                response ->
+                    response.getStatusCode() == HttpStatus.NOT_MODIFIED &&
+                    response.getBody() == null &&
+                    etag.equals(response.getHeaders().getETag())
             )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeeWasRemoved_whenEmployeesAreLookedUpWithTheOldETag_thenListsTheEmployees() {
+        // given
+        String etag = controller
+            .getAllEmployees(50, null, null, null, null, null)
+            .block()
+            .getHeaders()
+            .getETag();
+        controller.deleteEmployee(manager.getUuid()).block();
+
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(50, null, null, null, null, etag)
+        )
             .expectNextMatches(
-                dto ->
-                    dto.uuid().equals(manager.getUuid()) &&
-                    dto.firstName().equals("Maria")
+                response ->
+                    response.getStatusCode() == HttpStatus.OK &&
+                    response.getBody().size() == 1 &&
+                    !etag.equals(response.getHeaders().getETag())
             )
             .verifyComplete();
     }
 
+    @Test
+    void givenTypeFilter_whenEmployeesAreLookedUp_thenListsOnlyThatType() {
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(
+                50,
+                null,
+                EmployeeType.MANAGER,
+                null,
+                null,
+                null
+            )
+        )
+            .expectNextMatches(response -> {
+                List<EmployeeDTO> body = response.getBody();
+                return (
+                    body != null &&
+                    body.size() == 1 &&
+                    body.getFirst().uuid().equals(manager.getUuid())
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenFilteredPageWithMore_whenEmployeesAreLookedUp_thenNextLinkKeepsTheFilter() {
+        // given
+        employeeService.save(
+            Employee.builder()
+                .uuid(UUID.randomUUID())
+                .firstName("Jose")
+                .lastName("dela Paz")
+                .employeeType(EmployeeType.WORKER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(
+            controller.getAllEmployees(
+                1,
+                null,
+                EmployeeType.WORKER,
+                "Dela",
+                "dela",
+                null
+            )
+        )
+            .expectNextMatches(response -> {
+                String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+                return (
+                    link != null &&
+                    link.contains("employeeType=WORKER") &&
+                    link.contains("lastName=Dela") &&
+                    link.contains("q=dela")
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeesExist_whenEmployeesAreExported_thenStreamsEveryEmployee() {
+        // when / then
+        StepVerifier.create(controller.exportEmployees())
+            .expectNextMatches(dto -> dto.uuid().equals(worker.getUuid()))
+            .expectNextMatches(dto -> dto.uuid().equals(manager.getUuid()))
+            .verifyComplete();
+    }
+
     @Test
     void givenEmployeeExists_whenEmployeeIsLookedUp_thenProvidesTheEmployee() {
         // given
         UUID workerId = worker.getUuid();
 
         // when / then
-        StepVerifier.create(controller.getEmployeeById(workerId))
-            .expectNextMatches(
-                dto ->
+        StepVerifier.create(controller.getEmployeeById(workerId, null))
+            .expectNextMatches(response -> {
+                EmployeeDTO dto = response.getBody();
+                return (
+                    dto != null &&
                     dto.uuid().equals(workerId) &&
                     dto.firstName().equals("Juan") &&
                     dto.lastName().equals("dela Cruz") &&
                     dto.employeeType() == EmployeeType.WORKER
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeeExists_whenEmployeeIsLookedUp_thenTagsTheResponseWithItsVersion() {
+        // when / then
+        StepVerifier.create(controller.getEmployeeById(worker.getUuid(), null))
+            .expectNextMatches(response ->
+                ("\"" + worker.getVersion() + "\"").equals(
+                    response.getHeaders().getETag()
+                )
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenUnchangedEmployee_whenEmployeeIsLookedUpWithItsETag_thenIsNotModified() {
+        // given
+        String etag = controller
+            .getEmployeeById(worker.getUuid(), null)
+            .block()
+            .getHeaders()
+            .getETag();
+
+        // when / then
+        StepVerifier.create(controller.getEmployeeById(worker.getUuid(), etag))
+            .expectNextMatches(
+                response ->
+                    response.getStatusCode() == HttpStatus.NOT_MODIFIED &&
+                    response.getBody() == null &&
+                    etag.equals(response.getHeaders().getETag())
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenChangedEmployee_whenEmployeeIsLookedUpWithItsOldETag_thenProvidesTheEmployee() {
+        // given
+        String etag = controller
+            .getEmployeeById(worker.getUuid(), null)
+            .block()
+            .getHeaders()
+            .getETag();
+        controller
+            .patchEmployee(
+                worker.getUuid(),
+                new EmployeePatchRequest("Pedro", null, null),
+                null
+            )
+            .block();
+
+        // when / then
+        StepVerifier.create(controller.getEmployeeById(worker.getUuid(), etag))
+            .expectNextMatches(
+                response ->
+                    response.getStatusCode() == HttpStatus.OK &&
+                    response.getBody().firstName().equals("Pedro") &&
+                    !etag.equals(response.getHeaders().getETag())
             )
             .verifyComplete();
     }
@@ -118,6 +377,33 @@ class EmployeeRESTControllerTest {
             .verifyComplete();
     }
 
+    @Test
+    void givenBatchOfEmployees_whenEmployeesAreAdded_thenReportsTheOutcomeOfEachEmployee() {
+        // given
+        Flux<EmployeeRequest> requests = Flux.just(
+            new EmployeeRequest("Pedro", "Garcia", EmployeeType.WORKER),
+            new EmployeeRequest(" ", "Reyes", EmployeeType.MANAGER)
+        );
+
+        // when / then
+        StepVerifier.create(controller.createEmployees(requests))
+            .expectNextMatches(
+                result ->
+                    result.index() == 0 &&
+                    result.status() == HttpStatus.CREATED.value() &&
+                    result.employee().firstName().equals("Pedro") &&
+                    result.error() == null
+            )
+            .expectNextMatches(
+                result ->
+                    result.index() == 1 &&
+                    result.status() == HttpStatus.BAD_REQUEST.value() &&
+                    result.employee() == null &&
+                    result.error().equals("First name must not be blank")
+            )
+            .verifyComplete();
+    }
+
     @Test
     void givenExistingEmployee_whenEmployeeInformationIsChanged_thenProvidesTheEmployee() {
         // given
@@ -129,17 +415,70 @@ class EmployeeRESTControllerTest {
         );
 
         // when / then
-        StepVerifier.create(controller.updateEmployee(workerId, request))
-            .expectNextMatches(
-                dto ->
+        StepVerifier.create(controller.updateEmployee(workerId, request, null))
+            .expectNextMatches(response -> {
+                EmployeeDTO dto = response.getBody();
+                return (
+                    dto != null &&
                     dto.uuid().equals(workerId) &&
                     dto.firstName().equals("Pedro") &&
                     dto.lastName().equals("Garcia") &&
                     dto.employeeType() == EmployeeType.MANAGER
-            )
+                );
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCurrentETag_whenEmployeeInformationIsChanged_thenProvidesTheNewETag() {
+        // given
+        String etag = EmployeeETag.of(worker);
+        EmployeeRequest request = new EmployeeRequest(
+            "Pedro",
+            "Garcia",
+            EmployeeType.MANAGER
+        );
+
+        // when / then
+        StepVerifier.create(
+            controller.updateEmployee(worker.getUuid(), request, etag)
+        )
+            .expectNextMatches(response -> {
+                String newETag = response.getHeaders().getETag();
+                return (
+                    response.getStatusCode() == HttpStatus.OK &&
+                    newETag != null &&
+                    !newETag.equals(etag)
+                );
+            })
             .verifyComplete();
     }
 
+    @Test
+    void givenStaleETag_whenEmployeeInformationIsChanged_thenVersionDoesNotMatch() {
+        // given
+        String staleETag = EmployeeETag.of(worker);
+        controller
+            .patchEmployee(
+                worker.getUuid(),
+                new EmployeePatchRequest("Maria", null, null),
+                null
+            )
+            .block();
+        EmployeeRequest request = new EmployeeRequest(
+            "Pedro",
+            "Garcia",
+            EmployeeType.MANAGER
+        );
+
+        // when / then
+        StepVerifier.create(
+            controller.updateEmployee(worker.getUuid(), request, staleETag)
+        )
+            .expectError(EmployeeVersionMismatchException.class)
+            .verify();
+    }
+
     @Test
     void givenEmployeeDoesNotExist_whenEmployeeInformationIsChanged_thenEmployeeIsNotFound() {
         // given
@@ -151,7 +490,7 @@ class EmployeeRESTControllerTest {
         );
 
         // when / then
-        StepVerifier.create(controller.updateEmployee(unknownId, request))
+        StepVerifier.create(controller.updateEmployee(unknownId, request, null))
             .expectError(EmployeeNotFoundException.class)
             .verify();
     }
@@ -167,17 +506,38 @@ class EmployeeRESTControllerTest {
         );
 
         // when / then
-        StepVerifier.create(controller.patchEmployee(workerId, request))
-            .expectNextMatches(
-                dto ->
+        StepVerifier.create(controller.patchEmployee(workerId, request, null))
+            .expectNextMatches(response -> {
+                EmployeeDTO dto = response.getBody();
+                return (
+                    dto != null &&
                     dto.uuid().equals(workerId) &&
                     dto.firstName().equals("Maria") &&
                     dto.lastName().equals("dela Cruz") &&
                     dto.employeeType() == EmployeeType.WORKER
-            )
+                );
+            })
             .verifyComplete();
     }
 
+    @Test
+    void givenStaleETag_whenEmployeeIsChanged_thenVersionDoesNotMatch() {
+        // given
+        String staleETag = "\"" + (worker.getVersion() - 1) + "\"";
+        EmployeePatchRequest request = new EmployeePatchRequest(
+            "Maria",
+            null,
+            null
+        );
+
+        // when / then
+        StepVerifier.create(
+            controller.patchEmployee(worker.getUuid(), request, staleETag)
+        )
+            .expectError(EmployeeVersionMismatchException.class)
+            .verify();
+    }
+
     @Test
     void givenEmployeeDoesNotExist_whenEmployeeIsChanged_thenEmployeeIsNotFound() {
         // given
@@ -189,7 +549,7 @@ class EmployeeRESTControllerTest {
         );
 
         // when / then
-        StepVerifier.create(controller.patchEmployee(unknownId, request))
+        StepVerifier.create(controller.patchEmployee(unknownId, request, null))
             .expectError(EmployeeNotFoundException.class)
             .verify();
     }
@@ -224,8 +584,80 @@ class EmployeeRESTControllerTest {
         UUID unknownId = UUID.randomUUID();
 
         // when / then
-        StepVerifier.create(controller.getEmployeeById(unknownId))
+        StepVerifier.create(controller.getEmployeeById(unknownId, null))
             .expectError(EmployeeNotFoundException.class)
             .verify();
     }
+
+    @Test
+    void givenRecordedChanges_whenChangesAreLookedUp_thenListsChangesAfterPosition() {
+        // given
+        employeeService.addChange(EmployeeChangeType.CREATED, worker);
+        employeeService.addChange(EmployeeChangeType.UPDATED, manager);
+
+        // when / then
+        StepVerifier.create(controller.getChanges(1, 50))
+            .expectNextMatches(
+                changes ->
+                    changes.size() == 1 &&
+                    changes.getFirst().position() == 2 &&
+                    changes.getFirst().type() == EmployeeChangeType.UPDATED &&
+                    changes.getFirst().uuid().equals(manager.getUuid())
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenRecordedChanges_whenChangesAreStreamed_thenEventIdsArePositions() {
+        // given
+        employeeService.addChange(EmployeeChangeType.CREATED, worker);
+        employeeService.addChange(EmployeeChangeType.CREATED, manager);
+
+        // when / then
+        StepVerifier.create(controller.streamChanges(0, null))
+            .expectNextMatches(event -> "1".equals(event.id()))
+            .expectNextMatches(event -> "2".equals(event.id()))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    void givenLastEventId_whenChangesAreStreamed_thenResumesAfterIt() {
+        // given
+        employeeService.addChange(EmployeeChangeType.CREATED, worker);
+        employeeService.addChange(EmployeeChangeType.CREATED, manager);
+
+        // when / then
+        StepVerifier.create(controller.streamChanges(0, 1L))
+            .expectNextMatches(
+                event ->
+                    "2".equals(event.id()) &&
+                    event.data().uuid().equals(manager.getUuid())
+            )
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    void givenNegativePosition_whenChangesAreLookedUp_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(controller.getChanges(-1, 50))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenIds_whenEmployeesAreLookedUpByIds_thenListsTheKnownOnes() {
+        // given
+        List<UUID> ids = List.of(manager.getUuid(), UUID.randomUUID());
+
+        // when / then
+        StepVerifier.create(controller.getEmployeesByIds(ids))
+            .expectNextMatches(
+                body ->
+                    body.size() == 1 &&
+                    body.getFirst().uuid().equals(manager.getUuid())
+            )
+            .verifyComplete();
+    }
 }
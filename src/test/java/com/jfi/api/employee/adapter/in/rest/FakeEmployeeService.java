@@ -1,9 +1,24 @@
 package com.jfi.api.employee.adapter.in.rest;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeFilterMatcher;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeePage;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
 import com.jfi.api.employee.port.in.EmployeeService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
@@ -12,27 +27,111 @@ import reactor.core.publisher.Mono;
 public class FakeEmployeeService implements EmployeeService {
 
     private final Map<UUID, Employee> employees = new LinkedHashMap<>();
+    private final List<EmployeeChange> changes = new ArrayList<>();
+    private long lastVersion;
+    private long writes;
 
     public void save(Employee employee) {
+        stampVersion(employee);
         employees.put(employee.getUuid(), employee);
     }
 
+    public void addChange(EmployeeChangeType type, Employee employee) {
+        changes.add(
+            new EmployeeChange(
+                changes.size() + 1,
+                type,
+                employee,
+                Instant.parse("2026-10-18T09:00:00Z")
+            )
+        );
+    }
+
+    @Override
+    public Mono<EmployeeCollectionVersion> findCollectionVersion() {
+        return Mono.just(new EmployeeCollectionVersion(writes, 0));
+    }
+
     @Override
     public Flux<Employee> findAllEmployees() {
         return Flux.fromIterable(employees.values());
     }
 
+    @Override
+    public <T> Flux<T> findAllEmployees(EmployeeProjection<T> projection) {
+        return findAllEmployees().map(employee ->
+            projection.project(
+                employee.getUuid(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmployeeType(),
+                employee.getVersion()
+            )
+        );
+    }
+
+    @Override
+    public <T> Flux<T> findAllEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return Flux.fromIterable(employees.values())
+            .filter(EmployeeFilterMatcher.matching(filter))
+            .map(employee ->
+                projection.project(
+                    employee.getUuid(),
+                    employee.getFirstName(),
+                    employee.getLastName(),
+                    employee.getEmployeeType(),
+                    employee.getVersion()
+                )
+            );
+    }
+
+    @Override
+    public Mono<EmployeePage> findEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        List<Employee> sorted = employees
+            .values()
+            .stream()
+            .filter(EmployeeFilterMatcher.matching(filter))
+            .filter(
+                employee ->
+                    after == null ||
+                    employee.getUuid().toString().compareTo(after.toString()) > 0
+            )
+            .sorted(Comparator.comparing(employee -> employee.getUuid().toString()))
+            .toList();
+        if (sorted.size() <= limit) {
+            return Mono.just(new EmployeePage(sorted, null));
+        }
+        List<Employee> page = sorted.subList(0, limit);
+        return Mono.just(new EmployeePage(page, page.getLast().getUuid()));
+    }
+
     @Override
     public Mono<Employee> findEmployeeById(UUID uuid) {
         return Mono.justOrEmpty(employees.get(uuid));
     }
 
+    @Override
+    public Flux<Employee> findEmployeesByIds(List<UUID> uuids) {
+        return Flux.fromIterable(uuids).distinct().mapNotNull(employees::get);
+    }
+
     @Override
     public Mono<Employee> updateEmployee(UUID uuid, Employee employee) {
         if (!employees.containsKey(uuid)) {
             return Mono.error(new EmployeeNotFoundException(uuid));
         }
+        if (isStale(uuid, employee.getVersion())) {
+            return Mono.error(new EmployeeVersionMismatchException(uuid));
+        }
         employee.setUuid(uuid);
+        stampVersion(employee);
         employees.put(uuid, employee);
         return Mono.just(employee);
     }
@@ -42,6 +141,9 @@ public class FakeEmployeeService implements EmployeeService {
         if (!employees.containsKey(uuid)) {
             return Mono.error(new EmployeeNotFoundException(uuid));
         }
+        if (isStale(uuid, employee.getVersion())) {
+            return Mono.error(new EmployeeVersionMismatchException(uuid));
+        }
         Employee existing = employees.get(uuid);
         if (employee.getFirstName() != null) {
             existing.setFirstName(employee.getFirstName());
@@ -52,6 +154,7 @@ public class FakeEmployeeService implements EmployeeService {
         if (employee.getEmployeeType() != null) {
             existing.setEmployeeType(employee.getEmployeeType());
         }
+        stampVersion(existing);
         return Mono.just(existing);
     }
 
@@ -61,6 +164,7 @@ public class FakeEmployeeService implements EmployeeService {
             return Mono.error(new EmployeeNotFoundException(uuid));
         }
         employees.remove(uuid);
+        writes++;
         return Mono.empty();
     }
 
@@ -69,7 +173,71 @@ public class FakeEmployeeService implements EmployeeService {
         if (employee.getUuid() == null) {
             employee.setUuid(UUID.randomUUID());
         }
+        stampVersion(employee);
         employees.put(employee.getUuid(), employee);
         return Mono.just(employee);
     }
+
+    @Override
+    public Flux<EmployeeBatchResult> createEmployees(Flux<Employee> employees) {
+        return employees.index((index, employee) ->
+            employee.getFirstName() == null || employee.getFirstName().isBlank()
+                ? EmployeeBatchResult.rejected(
+                      index.intValue(),
+                      "First name must not be blank"
+                  )
+                : EmployeeBatchResult.created(
+                      index.intValue(),
+                      createEmployee(employee).block()
+                  )
+        );
+    }
+
+    @Override
+    public Flux<EmployeeBatchResult> upsertEmployees(Flux<Employee> employees) {
+        return employees.index((index, employee) -> {
+            if (employee.getUuid() == null) {
+                employee.setUuid(UUID.randomUUID());
+            }
+            stampVersion(employee);
+            this.employees.put(employee.getUuid(), employee);
+            return EmployeeBatchResult.created(index.intValue(), employee);
+        });
+    }
+
+    @Override
+    public Flux<EmployeeChange> streamChanges(long after) {
+        if (after < 0) {
+            return Flux.error(
+                new InvalidPageRequestException(
+                    "Change position must not be negative"
+                )
+            );
+        }
+        return Flux.fromIterable(changes).filter(
+            change -> change.position() > after
+        );
+    }
+
+    @Override
+    public Mono<List<EmployeeChange>> findChanges(
+        long after,
+        int limit,
+        Duration wait
+    ) {
+        return streamChanges(after).take(limit).collectList();
+    }
+
+    private boolean isStale(UUID uuid, Long expectedVersion) {
+        return (
+            expectedVersion != null &&
+            !expectedVersion.equals(employees.get(uuid).getVersion())
+        );
+    }
+
+    // Mirrors employee_version_seq: every write gets a higher version
+    private void stampVersion(Employee employee) {
+        employee.setVersion(++lastVersion);
+        writes++;
+    }
 }
@@ -0,0 +1,265 @@
+package com.jfi.api.employee.adapter.in.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jfi.api.employee.adapter.in.rest.FakeEmployeeService;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeBatchResult;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.employee.domain.EmployeeProjection;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.InvalidException;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class EmployeeRSocketControllerTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+    static final UUID JUAN = UUID.fromString(
+        "0a5a3c3e-4b2f-4f6e-9d8a-1f2b3c4d5e6f"
+    );
+    static final UUID MARIA = UUID.fromString(
+        "1b6b4d4f-5c3a-4a7f-8e9b-2a3c4d5e6f70"
+    );
+
+    AtomicLong rowsRequested;
+    CountDownLatch upserted;
+    FakeEmployeeService employeeService;
+    CloseableChannel server;
+    RSocketRequester requester;
+
+    @BeforeEach
+    void setup() {
+        rowsRequested = new AtomicLong();
+        upserted = new CountDownLatch(1);
+        employeeService = new FakeEmployeeService() {
+            @Override
+            public <T> Flux<T> findAllEmployees(
+                EmployeeFilter filter,
+                EmployeeProjection<T> projection
+            ) {
+                return super
+                    .findAllEmployees(filter, projection)
+                    .doOnRequest(rowsRequested::addAndGet);
+            }
+
+            @Override
+            public Flux<EmployeeBatchResult> upsertEmployees(
+                Flux<Employee> employees
+            ) {
+                return super
+                    .upsertEmployees(employees)
+                    .doOnComplete(upserted::countDown);
+            }
+        };
+        employeeService.save(employee(JUAN, "Juan", "dela Cruz"));
+        employeeService.save(employee(MARIA, "Maria", "Clara"));
+
+        // A real TCP server on a free port, as rsocket-core has no in-memory
+        // transport
+        RSocketStrategies strategies = RSocketStrategies.builder()
+            .encoder(new Jackson2JsonEncoder())
+            .decoder(new Jackson2JsonDecoder())
+            .build();
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(strategies);
+        handler.setHandlers(
+            List.of(new EmployeeRSocketController(employeeService))
+        );
+        handler.afterPropertiesSet();
+        server = RSocketServer.create(handler.responder())
+            .bind(TcpServerTransport.create("localhost", 0))
+            .block(TIMEOUT);
+        requester = RSocketRequester.builder()
+            .rsocketStrategies(strategies)
+            .tcp("localhost", server.address().getPort());
+    }
+
+    @AfterEach
+    void teardown() {
+        requester.dispose();
+        server.dispose();
+    }
+
+    @Test
+    void givenEmployee_whenGet_thenReturnsItWithItsVersion() {
+        // given
+        Employee juan = employeeService.findEmployeeById(JUAN).block();
+
+        // when
+        EmployeeRSocketDTO response = requester
+            .route("employees.get")
+            .data(JUAN)
+            .retrieveMono(EmployeeRSocketDTO.class)
+            .block(TIMEOUT);
+
+        // then
+        assertEquals(
+            new EmployeeRSocketDTO(
+                JUAN,
+                "Juan",
+                "dela Cruz",
+                EmployeeType.WORKER,
+                juan.getVersion()
+            ),
+            response
+        );
+    }
+
+    @Test
+    void givenUnknownId_whenGet_thenFailsWithApplicationError() {
+        // given
+        UUID unknown = UUID.randomUUID();
+
+        // when
+        StepVerifier.create(
+            requester
+                .route("employees.get")
+                .data(unknown)
+                .retrieveMono(EmployeeRSocketDTO.class)
+        )
+            // then
+            .expectErrorSatisfies(error -> {
+                assertTrue(error instanceof ApplicationErrorException);
+                assertEquals(
+                    new EmployeeNotFoundException(unknown).getMessage(),
+                    error.getMessage()
+                );
+            })
+            .verify(TIMEOUT);
+    }
+
+    @Test
+    void givenMalformedId_whenGet_thenFailsWithInvalid() {
+        // given
+        String malformed = "not-a-uuid";
+
+        // when
+        StepVerifier.create(
+            requester
+                .route("employees.get")
+                .data(malformed)
+                .retrieveMono(EmployeeRSocketDTO.class)
+        )
+            // then
+            .expectErrorSatisfies(error -> {
+                assertTrue(error instanceof InvalidException);
+                assertEquals(
+                    EmployeeRSocketErrors.INVALID_REQUEST_MESSAGE,
+                    error.getMessage()
+                );
+            })
+            .verify(TIMEOUT);
+    }
+
+    @Test
+    void givenFilter_whenStream_thenStreamsOnlyMatchingEmployees() {
+        // given
+        EmployeeFilterRequest filter = new EmployeeFilterRequest(
+            null,
+            "cla",
+            null
+        );
+
+        // when
+        List<String> names = requester
+            .route("employees.stream")
+            .data(filter)
+            .retrieveFlux(EmployeeRSocketDTO.class)
+            .map(EmployeeRSocketDTO::firstName)
+            .collectList()
+            .block(TIMEOUT);
+
+        // then
+        assertEquals(List.of("Maria"), names);
+    }
+
+    @Test
+    void givenRequesterAsksForOne_whenStream_thenReadsOnlyOneAhead() {
+        // given
+        Flux<EmployeeRSocketDTO> stream = requester
+            .route("employees.stream")
+            .retrieveFlux(EmployeeRSocketDTO.class);
+
+        // when
+        StepVerifier.create(stream, 1)
+            // then
+            .assertNext(employee -> assertEquals(JUAN, employee.uuid()))
+            .then(() -> assertEquals(1, rowsRequested.get()))
+            .thenRequest(1)
+            .assertNext(employee -> assertEquals(MARIA, employee.uuid()))
+            .thenRequest(1)
+            .expectComplete()
+            .verify(TIMEOUT);
+    }
+
+    @Test
+    void givenExistingAndNewEmployees_whenUpsert_thenStoresBoth()
+        throws InterruptedException {
+        // given
+        List<EmployeeUpsertRequest> requests = List.of(
+            new EmployeeUpsertRequest(
+                JUAN,
+                "Juan",
+                "Luna",
+                EmployeeType.MANAGER
+            ),
+            new EmployeeUpsertRequest(
+                null,
+                "Jose",
+                "Rizal",
+                EmployeeType.WORKER
+            )
+        );
+
+        // when
+        requester.route("employees.upsert").data(requests).send().block(TIMEOUT);
+
+        // then
+        assertTrue(upserted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        Employee juan = employeeService.findEmployeeById(JUAN).block();
+        assertEquals("Luna", juan.getLastName());
+        assertEquals(EmployeeType.MANAGER, juan.getEmployeeType());
+        assertEquals(
+            List.of("Juan", "Maria", "Jose"),
+            employeeService
+                .findAllEmployees()
+                .map(Employee::getFirstName)
+                .collectList()
+                .block()
+        );
+    }
+
+    private static Employee employee(
+        UUID uuid,
+        String firstName,
+        String lastName
+    ) {
+        return Employee.builder()
+            .uuid(uuid)
+            .firstName(firstName)
+            .lastName(lastName)
+            .employeeType(EmployeeType.WORKER)
+            .build();
+    }
+}
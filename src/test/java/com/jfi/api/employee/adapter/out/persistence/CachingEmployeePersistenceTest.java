@@ -0,0 +1,189 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CachingEmployeePersistenceTest {
+
+    CountingEmployeePersistence delegate;
+    SimpleMeterRegistry meterRegistry;
+    CachingEmployeePersistence employeePersistence;
+
+    Employee worker;
+
+    @BeforeEach
+    void setup() {
+        delegate = new CountingEmployeePersistence();
+        meterRegistry = new SimpleMeterRegistry();
+        AsyncCache<UUID, Employee> cache = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .maximumSize(100)
+                .recordStats()
+                .<UUID, Employee>buildAsync(),
+            EmployeePersistenceConfiguration.EMPLOYEE_CACHE_NAME
+        );
+        employeePersistence = new CachingEmployeePersistence(delegate, cache);
+
+        worker = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Juan")
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+        delegate.save(worker);
+    }
+
+    @Test
+    void givenEmployeeWasLookedUp_whenEmployeeIsLookedUpAgain_thenStorageIsNotQueried() {
+        // when
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+
+        // then
+        assertEquals(1, delegate.lookups.get());
+    }
+
+    @Test
+    void givenConcurrentLookups_whenEmployeeIsNotCached_thenStorageIsQueriedOnce() {
+        // given
+        delegate.latency = Duration.ofMillis(100);
+
+        // when
+        Flux.merge(
+            employeePersistence.getEmployeeById(worker.getUuid()),
+            employeePersistence.getEmployeeById(worker.getUuid()),
+            employeePersistence.getEmployeeById(worker.getUuid())
+        ).blockLast();
+
+        // then
+        assertEquals(1, delegate.lookups.get());
+    }
+
+    @Test
+    void givenCachedEmployee_whenCallerChangesTheResult_thenCachedEmployeeIsUnchanged() {
+        // given
+        employeePersistence
+            .getEmployeeById(worker.getUuid())
+            .block()
+            .setFirstName("Maria");
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployeeById(worker.getUuid()))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Juan"))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCachedEmployee_whenEmployeeInformationIsChanged_thenNextLookupProvidesChangedEmployee() {
+        // given
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+        Employee changed = worker.toBuilder().firstName("Maria").build();
+
+        // when
+        employeePersistence.updateEmployee(changed).block();
+
+        // then
+        StepVerifier.create(employeePersistence.getEmployeeById(worker.getUuid()))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Maria"))
+            .verifyComplete();
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    void givenCachedEmployee_whenEmployeeIsChanged_thenNextLookupProvidesChangedEmployee() {
+        // given
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+        Employee patch = Employee.builder().lastName("Santos").build();
+
+        // when
+        employeePersistence.patchEmployee(worker.getUuid(), patch).block();
+
+        // then
+        StepVerifier.create(employeePersistence.getEmployeeById(worker.getUuid()))
+            .expectNextMatches(employee -> employee.getLastName().equals("Santos"))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCachedEmployee_whenEmployeeIsUpserted_thenNextLookupProvidesUpsertedEmployee() {
+        // given
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+        Employee replacement = worker.toBuilder().firstName("Maria").build();
+
+        // when
+        employeePersistence.upsertEmployees(Flux.just(replacement)).blockLast();
+
+        // then
+        StepVerifier.create(employeePersistence.getEmployeeById(worker.getUuid()))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Maria"))
+            .verifyComplete();
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    void givenCachedEmployee_whenEmployeeIsRemoved_thenEmployeeIsNotFound() {
+        // given
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+
+        // when
+        employeePersistence.deleteEmployee(worker.getUuid()).block();
+
+        // then
+        StepVerifier.create(
+            employeePersistence.getEmployeeById(worker.getUuid())
+        ).verifyComplete();
+    }
+
+    @Test
+    void givenUnknownEmployee_whenEmployeeIsLookedUp_thenEmployeeIsNotFound() {
+        StepVerifier.create(
+            employeePersistence.getEmployeeById(UUID.randomUUID())
+        ).verifyComplete();
+    }
+
+    @Test
+    void givenRepeatedLookups_whenMetricsAreRead_thenReportsHitsAndMisses() {
+        // when
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+
+        // then
+        assertEquals(
+            1.0,
+            meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()
+        );
+        assertEquals(
+            1.0,
+            meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()
+        );
+    }
+
+    static class CountingEmployeePersistence extends FakeEmployeePersistence {
+
+        final AtomicInteger lookups = new AtomicInteger();
+        Duration latency = Duration.ZERO;
+
+        @Override
+        public Mono<Employee> getEmployeeById(UUID uuid) {
+            return Mono.defer(() -> {
+                lookups.incrementAndGet();
+                return super.getEmployeeById(uuid).delayElement(latency);
+            });
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+class CoalescingEmployeePersistenceTest {
+
+    CountingEmployeePersistence delegate;
+    SimpleMeterRegistry meterRegistry;
+
+    Employee worker;
+
+    @BeforeEach
+    void setup() {
+        delegate = new CountingEmployeePersistence();
+        meterRegistry = new SimpleMeterRegistry();
+
+        worker = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Juan")
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+        delegate.save(worker);
+    }
+
+    @Test
+    void givenConcurrentLookups_whenEmployeeIsLookedUp_thenStorageIsQueriedOnce() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ZERO
+        );
+        delegate.latency = Duration.ofMillis(100);
+
+        // when
+        Flux.merge(
+            employeePersistence.getEmployeeById(worker.getUuid()),
+            employeePersistence.getEmployeeById(worker.getUuid()),
+            employeePersistence.getEmployeeById(worker.getUuid())
+        ).blockLast();
+
+        // then
+        assertEquals(1, delegate.lookups.get());
+        assertEquals(1.0, reads("getEmployeeById", "loaded"));
+        assertEquals(2.0, reads("getEmployeeById", "coalesced"));
+    }
+
+    @Test
+    void givenLookupHasFinished_whenEmployeeIsLookedUpAgain_thenStorageIsQueriedAgain() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ZERO
+        );
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+
+        // when
+        employeePersistence.getEmployeeById(worker.getUuid()).block();
+
+        // then
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    void givenOneCallerCancels_whenOthersShareTheLookup_thenTheyStillGetTheEmployee() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ZERO
+        );
+        delegate.latency = Duration.ofMillis(100);
+        employeePersistence
+            .getEmployeeById(worker.getUuid())
+            .subscribe()
+            .dispose();
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployeeById(worker.getUuid()))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Juan"))
+            .verifyComplete();
+        assertEquals(1, delegate.lookups.get());
+    }
+
+    @Test
+    void givenCallersRoutedDifferently_whenEmployeeIsLookedUp_thenEachRouteQueriesOnce() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ZERO
+        );
+        delegate.latency = Duration.ofMillis(100);
+
+        // when
+        Flux.merge(
+            employeePersistence.getEmployeeById(worker.getUuid()),
+            ReadReplicaConnectionFactory.onPrimary(
+                employeePersistence.getEmployeeById(worker.getUuid())
+            ),
+            ReadReplicaConnectionFactory.onPrimary(
+                employeePersistence.getEmployeeById(worker.getUuid())
+            )
+        ).blockLast();
+
+        // then
+        assertEquals(2, delegate.lookups.get());
+        assertEquals(1.0, reads("getEmployeeById", "coalesced"));
+    }
+
+    @Test
+    void givenSharedLookup_whenItRuns_thenItDoesNotCarryTheFirstCallersContext() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ZERO
+        );
+
+        // when
+        employeePersistence
+            .getEmployeeById(worker.getUuid())
+            .contextWrite(Context.of("requestId", "first-caller"))
+            .block();
+
+        // then
+        assertFalse(delegate.lookupContext.hasKey("requestId"));
+    }
+
+    @Test
+    void givenPageWasListedWithinWindow_whenSamePageIsListed_thenStorageIsNotQueried() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ofMinutes(1)
+        );
+        employeePersistence.getEmployees(EmployeeFilter.NONE, null, 10).blockLast();
+
+        // when
+        StepVerifier.create(employeePersistence.getEmployees(EmployeeFilter.NONE, null, 10))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // then
+        assertEquals(1, delegate.pageQueries.get());
+        assertEquals(1.0, reads("getEmployees", "coalesced"));
+    }
+
+    @Test
+    void givenPageWasListedWithinWindow_whenEmployeeIsChanged_thenPageIsQueriedAgain() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ofMinutes(1)
+        );
+        employeePersistence.getEmployees(EmployeeFilter.NONE, null, 10).blockLast();
+        Employee patch = Employee.builder().lastName("Santos").build();
+
+        // when
+        employeePersistence.patchEmployee(worker.getUuid(), patch).block();
+
+        // then
+        StepVerifier.create(employeePersistence.getEmployees(EmployeeFilter.NONE, null, 10))
+            .expectNextMatches(employee -> employee.getLastName().equals("Santos"))
+            .verifyComplete();
+        assertEquals(2, delegate.pageQueries.get());
+    }
+
+    @Test
+    void givenSharedPage_whenCallerChangesTheResult_thenOtherCallersAreUnaffected() {
+        // given
+        CoalescingEmployeePersistence employeePersistence = coalescing(
+            Duration.ofMinutes(1)
+        );
+        employeePersistence
+            .getEmployees(EmployeeFilter.NONE, null, 10)
+            .blockFirst()
+            .setFirstName("Maria");
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployees(EmployeeFilter.NONE, null, 10))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Juan"))
+            .verifyComplete();
+    }
+
+    private CoalescingEmployeePersistence coalescing(Duration listWindow) {
+        return new CoalescingEmployeePersistence(
+            delegate,
+            listWindow,
+            meterRegistry
+        );
+    }
+
+    private double reads(String operation, String result) {
+        return meterRegistry
+            .get(CoalescingEmployeePersistence.READS_METRIC)
+            .tag("operation", operation)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    static class CountingEmployeePersistence extends FakeEmployeePersistence {
+
+        final AtomicInteger lookups = new AtomicInteger();
+        final AtomicInteger pageQueries = new AtomicInteger();
+        Duration latency = Duration.ZERO;
+        volatile ContextView lookupContext;
+
+        @Override
+        public Mono<Employee> getEmployeeById(UUID uuid) {
+            return Mono.deferContextual(context -> {
+                lookups.incrementAndGet();
+                lookupContext = context;
+                return super.getEmployeeById(uuid).delayElement(latency);
+            });
+        }
+
+        @Override
+        public Flux<Employee> getEmployees(
+            EmployeeFilter filter,
+            UUID after,
+            int limit
+        ) {
+            return Flux.defer(() -> {
+                pageQueries.incrementAndGet();
+                return super.getEmployees(filter, after, limit);
+            });
+        }
+    }
+}
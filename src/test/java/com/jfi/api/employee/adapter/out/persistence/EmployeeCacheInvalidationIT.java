@@ -0,0 +1,59 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.employee.port.out.EmployeePersistence;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class EmployeeCacheInvalidationIT {
+
+    @Autowired
+    private EmployeePersistence employeePersistence;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void givenCachedEmployee_whenAnotherInstanceChangesIt_thenCacheServesTheChange() {
+        // given
+        Employee employee = employeePersistence
+            .saveEmployee(
+                Employee.builder()
+                    .firstName("Juan")
+                    .lastName("dela Cruz")
+                    .employeeType(EmployeeType.WORKER)
+                    .build()
+            )
+            .block();
+        employeePersistence.getEmployeeById(employee.getUuid()).block();
+
+        // when: written past this instance's cache, as another instance would
+        databaseClient
+            .sql("UPDATE employee SET first_name = 'Juanito' WHERE uuid = :uuid")
+            .bind("uuid", employee.getUuid())
+            .then()
+            .block();
+
+        // then
+        StepVerifier.create(
+            Flux.interval(Duration.ofMillis(100))
+                .concatMap(tick ->
+                    employeePersistence.getEmployeeById(employee.getUuid())
+                )
+                .filter(cached -> cached.getFirstName().equals("Juanito"))
+                .next()
+                .timeout(Duration.ofSeconds(5))
+        )
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,108 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jfi.api.employee.domain.Employee;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCacheInvalidationTest {
+
+    FakeDatabaseNotificationListener listener;
+    AsyncCache<UUID, Employee> cache;
+    EmployeeCacheInvalidation invalidation;
+
+    UUID workerId;
+    UUID managerId;
+
+    @BeforeEach
+    void setup() {
+        listener = new FakeDatabaseNotificationListener();
+        cache = Caffeine.newBuilder().<UUID, Employee>buildAsync();
+        workerId = UUID.randomUUID();
+        managerId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        invalidation.stop();
+    }
+
+    @Test
+    void givenCachedEmployee_whenChangeIsNotified_thenOnlyThatEmployeeIsEvicted() {
+        // given
+        start(Duration.ZERO);
+        cacheEmployees();
+
+        // when
+        listener.notify(workerId.toString());
+
+        // then
+        assertNull(cache.getIfPresent(workerId));
+        assertEquals(1, cache.synchronous().estimatedSize());
+    }
+
+    @Test
+    void givenCachedEmployees_whenListenerReconnects_thenCacheIsFlushed() {
+        // given
+        start(Duration.ZERO);
+        cacheEmployees();
+
+        // when
+        listener.reconnect();
+
+        // then
+        assertEquals(0, cache.synchronous().estimatedSize());
+    }
+
+    @Test
+    void givenMalformedNotification_whenChangeIsNotifiedAfterIt_thenEmployeeIsStillEvicted() {
+        // given
+        start(Duration.ZERO);
+        cacheEmployees();
+
+        // when
+        listener.notify("not-a-uuid");
+        listener.notify(managerId.toString());
+
+        // then
+        assertNull(cache.getIfPresent(managerId));
+        assertEquals(1, cache.synchronous().estimatedSize());
+    }
+
+    @Test
+    void givenReplicaLag_whenEmployeeIsReloadedRightAfterChange_thenItIsEvictedAgain()
+        throws InterruptedException {
+        // given
+        start(Duration.ofMillis(50));
+        cacheEmployees();
+        listener.notify(workerId.toString());
+
+        // when
+        cache.synchronous().put(workerId, employee(workerId));
+        Thread.sleep(200);
+
+        // then
+        assertNull(cache.getIfPresent(workerId));
+    }
+
+    private void start(Duration replicaLag) {
+        invalidation = new EmployeeCacheInvalidation(listener, cache, replicaLag);
+        invalidation.start();
+    }
+
+    private void cacheEmployees() {
+        cache.synchronous().put(workerId, employee(workerId));
+        cache.synchronous().put(managerId, employee(managerId));
+    }
+
+    private static Employee employee(UUID uuid) {
+        return Employee.builder().uuid(uuid).firstName("Juan").build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.employee.port.out.EmployeePersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+// The scheduled relay is pushed out so that only the test moves outbox rows
+@SpringBootTest(properties = "employee.changes.relay-interval=1h")
+@Import(TestcontainersConfiguration.class)
+class EmployeeChangeFeedIT {
+
+    @Autowired
+    private EmployeePersistence employeePersistence;
+
+    @Autowired
+    private EmployeeChangeRelay changeRelay;
+
+    private long start;
+
+    @BeforeEach
+    void setUp() {
+        start = changeRelay.relay().block();
+    }
+
+    @Test
+    void givenEmployeeIsWritten_whenChangesAreRelayed_thenFeedListsThemInOrder() {
+        // given
+        Employee employee = employeePersistence
+            .saveEmployee(
+                Employee.builder()
+                    .firstName("Juan")
+                    .lastName("dela Cruz")
+                    .employeeType(EmployeeType.WORKER)
+                    .build()
+            )
+            .block();
+        employeePersistence
+            .patchEmployee(
+                employee.getUuid(),
+                Employee.builder().firstName("Juanito").build()
+            )
+            .block();
+        employeePersistence.deleteEmployee(employee.getUuid()).block();
+
+        // when
+        changeRelay.relay().block();
+
+        // then
+        StepVerifier.create(employeePersistence.getChanges(start, 10))
+            .expectNextMatches(
+                change ->
+                    change.type() == EmployeeChangeType.CREATED &&
+                    change.employee().getFirstName().equals("Juan")
+            )
+            .expectNextMatches(
+                change ->
+                    change.type() == EmployeeChangeType.UPDATED &&
+                    change.employee().getFirstName().equals("Juanito")
+            )
+            .expectNextMatches(
+                change ->
+                    change.type() == EmployeeChangeType.DELETED &&
+                    change.employee().getUuid().equals(employee.getUuid())
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchIsSaved_whenChangesAreRelayed_thenEveryEmployeeIsInTheFeed() {
+        // given
+        employeePersistence
+            .saveEmployees(
+                Flux.just("Maria", "Jose", "Pedro").map(firstName ->
+                    Employee.builder()
+                        .firstName(firstName)
+                        .lastName("Santos")
+                        .employeeType(EmployeeType.WORKER)
+                        .build()
+                )
+            )
+            .blockLast();
+
+        // when
+        long latest = changeRelay.relay().block();
+
+        // then
+        StepVerifier.create(employeePersistence.getChanges(start, 10))
+            .expectNextCount(3)
+            .verifyComplete();
+        StepVerifier.create(changeRelay.positions().next())
+            .expectNext(latest)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeeIsWritten_whenChangesAreRelayed_thenCollectionVersionChangesEachTime() {
+        // given
+        EmployeeCollectionVersion before = employeePersistence
+            .getCollectionVersion()
+            .block();
+        employeePersistence
+            .saveEmployee(
+                Employee.builder()
+                    .firstName("Juan")
+                    .lastName("dela Cruz")
+                    .employeeType(EmployeeType.WORKER)
+                    .build()
+            )
+            .block();
+        EmployeeCollectionVersion written = employeePersistence
+            .getCollectionVersion()
+            .block();
+
+        // when
+        long latest = changeRelay.relay().block();
+
+        // then
+        StepVerifier.create(employeePersistence.getCollectionVersion())
+            .expectNextMatches(
+                relayed ->
+                    written.position() == before.position() &&
+                    written.pending() == before.pending() + 1 &&
+                    relayed.position() == latest &&
+                    relayed.position() > before.position() &&
+                    relayed.pending() == 0
+            )
+            .verifyComplete();
+    }
+}
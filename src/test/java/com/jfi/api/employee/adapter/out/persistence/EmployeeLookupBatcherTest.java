@@ -0,0 +1,164 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.infrastructure.ReadReplicaConnectionFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+class EmployeeLookupBatcherTest {
+
+    Map<UUID, Employee> employees;
+    List<List<UUID>> queries;
+    List<ContextView> queryContexts;
+    SimpleMeterRegistry meterRegistry;
+
+    UUID workerId;
+    UUID managerId;
+
+    @BeforeEach
+    void setup() {
+        workerId = UUID.randomUUID();
+        managerId = UUID.randomUUID();
+        employees = Map.of(
+            workerId,
+            Employee.builder().uuid(workerId).firstName("Juan").build(),
+            managerId,
+            Employee.builder().uuid(managerId).firstName("Maria").build()
+        );
+        queries = new CopyOnWriteArrayList<>();
+        queryContexts = new CopyOnWriteArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void givenLookupsWithinWindow_whenEmployeesAreLookedUp_thenOneQueryResolvesAll() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMillis(50), 100);
+
+        // when
+        List<Employee> found = Flux.merge(
+            batcher.load(workerId),
+            batcher.load(managerId),
+            batcher.load(workerId)
+        )
+            .collectList()
+            .block();
+
+        // then
+        assertEquals(3, found.size());
+        assertEquals(List.of(List.of(workerId, managerId)), queries);
+        assertEquals(
+            2.0,
+            meterRegistry
+                .get(EmployeeLookupBatcher.BATCH_SIZE_METRIC)
+                .summary()
+                .totalAmount()
+        );
+    }
+
+    @Test
+    void givenBatchIsFull_whenEmployeeIsLookedUp_thenQueryRunsWithoutWaitingForWindow() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMinutes(1), 2);
+
+        // when / then
+        StepVerifier.create(
+            Flux.merge(batcher.load(workerId), batcher.load(managerId))
+        )
+            .expectNextCount(2)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void givenUnknownEmployee_whenEmployeeIsLookedUp_thenEmployeeIsNotFound() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMillis(1), 100);
+
+        // when / then
+        StepVerifier.create(batcher.load(UUID.randomUUID())).verifyComplete();
+    }
+
+    @Test
+    void givenSameEmployeeIsLookedUpTwice_whenOneCallerChangesTheResult_thenOtherIsUnaffected() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMillis(50), 100);
+
+        // when
+        List<Employee> found = Flux.merge(
+            batcher.load(workerId),
+            batcher.load(workerId)
+        )
+            .collectList()
+            .block();
+        found.getFirst().setFirstName("Pedro");
+
+        // then
+        assertEquals("Juan", found.getLast().getFirstName());
+    }
+
+    @Test
+    void givenLookupsRoutedDifferently_whenEmployeesAreLookedUp_thenEachRouteQueriesSeparately() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMillis(50), 100);
+
+        // when
+        Flux.merge(
+            batcher.load(workerId),
+            ReadReplicaConnectionFactory.onPrimary(batcher.load(managerId))
+        ).blockLast();
+
+        // then
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void givenBatchedLookup_whenQueryRuns_thenItDoesNotCarryTheCallersContext() {
+        // given
+        EmployeeLookupBatcher batcher = batcher(Duration.ofMillis(1), 100);
+
+        // when
+        batcher
+            .load(workerId)
+            .contextWrite(Context.of("requestId", "first-caller"))
+            .block();
+
+        // then
+        assertFalse(queryContexts.getFirst().hasKey("requestId"));
+    }
+
+    private EmployeeLookupBatcher batcher(Duration window, int maxSize) {
+        return new EmployeeLookupBatcher(
+            uuids ->
+                Flux.deferContextual(context -> {
+                    queries.add(uuids);
+                    queryContexts.add(context);
+                    List<Employee> found = new ArrayList<>();
+                    uuids.forEach(uuid -> {
+                        if (employees.containsKey(uuid)) {
+                            found.add(employees.get(uuid));
+                        }
+                    });
+                    return Flux.fromIterable(found);
+                }),
+            window,
+            maxSize,
+            meterRegistry
+        );
+    }
+}
@@ -1,8 +1,11 @@
 package com.jfi.api.employee.adapter.out.persistence;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
 import com.jfi.api.employee.domain.EmployeeType;
 import com.jfi.api.employee.port.out.EmployeePersistence;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 @SpringBootTest
@@ -57,6 +61,44 @@ class EmployeePersistenceIT {
             .verifyComplete();
     }
 
+    @Test
+    void givenEmployeesExist_whenAllEmployeesAreStreamed_thenListsThemInKeyOrder() {
+        // given
+        boolean workerFirst =
+            workerUuid.toString().compareTo(managerUuid.toString()) < 0;
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployees(), 1)
+            .expectNextMatches(employee ->
+                employee.getUuid().equals(workerFirst ? workerUuid : managerUuid)
+            )
+            .thenRequest(1)
+            .expectNextMatches(employee ->
+                employee.getUuid().equals(workerFirst ? managerUuid : workerUuid)
+            )
+            .thenRequest(1)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeesExist_whenAllEmployeesAreProjected_thenProjectsEveryRow() {
+        // when / then
+        StepVerifier.create(
+            employeePersistence
+                .getEmployees((uuid, firstName, lastName, employeeType, version) ->
+                    firstName + " " + lastName + " " + employeeType
+                )
+                .collectList()
+        )
+            .expectNextMatches(
+                projected ->
+                    projected.size() == 2 &&
+                    projected.contains("Juan dela Cruz WORKER") &&
+                    projected.contains("Maria Santos MANAGER")
+            )
+            .verifyComplete();
+    }
+
     @Test
     void givenEmployeeExists_whenEmployeeIsLookedUp_thenProvidesTheEmployee() {
         StepVerifier.create(employeePersistence.getEmployeeById(workerUuid))
@@ -69,6 +111,40 @@ class EmployeePersistenceIT {
             .verifyComplete();
     }
 
+    @Test
+    void givenIds_whenEmployeesAreLookedUpByIds_thenProvidesThoseThatExist() {
+        StepVerifier.create(
+            employeePersistence
+                .getEmployeesByIds(
+                    List.of(workerUuid, UUID.randomUUID(), managerUuid)
+                )
+                .map(Employee::getUuid)
+                .collectList()
+        )
+            .expectNextMatches(uuids ->
+                uuids.size() == 2 &&
+                uuids.containsAll(List.of(workerUuid, managerUuid))
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenConcurrentLookups_whenEmployeesAreLookedUp_thenEachGetsItsOwnEmployee() {
+        StepVerifier.create(
+            Flux.merge(
+                employeePersistence.getEmployeeById(workerUuid),
+                employeePersistence.getEmployeeById(managerUuid),
+                employeePersistence.getEmployeeById(UUID.randomUUID())
+            )
+                .map(Employee::getFirstName)
+                .collectList()
+        )
+            .expectNextMatches(names ->
+                names.size() == 2 && names.containsAll(List.of("Juan", "Maria"))
+            )
+            .verifyComplete();
+    }
+
     @Test
     void givenNewEmployee_whenEmployeeIsAdded_thenStoresAndProvidesTheEmployee() {
         // given
@@ -83,6 +159,7 @@ class EmployeePersistenceIT {
             .expectNextMatches(
                 saved ->
                     saved.getUuid() != null &&
+                    saved.getVersion() != null &&
                     saved.getFirstName().equals("Pedro") &&
                     saved.getLastName().equals("Garcia") &&
                     saved.getEmployeeType() == EmployeeType.WORKER
@@ -90,12 +167,176 @@ class EmployeePersistenceIT {
             .verifyComplete();
     }
 
+    @Test
+    void givenExistingEmployee_whenEmployeeIsChanged_thenVersionIsHigher() {
+        // given
+        long before = employeePersistence
+            .getEmployeeById(workerUuid)
+            .block()
+            .getVersion();
+        Employee patch = Employee.builder()
+            .firstName("Pedro")
+            .employeeType(null)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeePersistence.patchEmployee(workerUuid, patch))
+            .expectNextMatches(updated -> updated.getVersion() > before)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenStaleVersion_whenEmployeeIsChanged_thenEmployeeIsNotChanged() {
+        // given
+        long current = employeePersistence
+            .getEmployeeById(workerUuid)
+            .block()
+            .getVersion();
+        Employee patch = Employee.builder()
+            .firstName("Pedro")
+            .employeeType(null)
+            .version(current - 1)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeePersistence.patchEmployee(workerUuid, patch))
+            .verifyComplete();
+        StepVerifier.create(employeePersistence.getEmployeeById(workerUuid))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Juan"))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCurrentVersion_whenEmployeeInformationIsChanged_thenStoresTheChange() {
+        // given
+        long current = employeePersistence
+            .getEmployeeById(workerUuid)
+            .block()
+            .getVersion();
+        Employee updated = Employee.builder()
+            .uuid(workerUuid)
+            .firstName("Pedro")
+            .lastName("Garcia")
+            .employeeType(EmployeeType.MANAGER)
+            .version(current)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeePersistence.updateEmployee(updated))
+            .expectNextMatches(
+                saved ->
+                    saved.getFirstName().equals("Pedro") &&
+                    saved.getVersion() > current
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeeIsReplaced_whenCollectionVersionIsLookedUp_thenVersionChanges() {
+        // given
+        EmployeeCollectionVersion before = employeePersistence
+            .getCollectionVersion()
+            .block();
+
+        // when
+        employeePersistence.deleteEmployee(managerUuid).block();
+        employeePersistence
+            .saveEmployee(
+                Employee.builder()
+                    .firstName("Pedro")
+                    .lastName("Garcia")
+                    .employeeType(EmployeeType.WORKER)
+                    .build()
+            )
+            .block();
+
+        // then
+        StepVerifier.create(employeePersistence.getCollectionVersion())
+            .expectNextMatches(after -> !after.equals(before))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchOfNewEmployees_whenEmployeesAreAdded_thenStoresAllOfThemInOrder() {
+        // given
+        Flux<Employee> batch = Flux.range(0, 2500).map(i ->
+            Employee.builder()
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .employeeType(EmployeeType.WORKER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(employeePersistence.saveEmployees(batch))
+            .expectNextMatches(
+                saved ->
+                    saved.getUuid() != null &&
+                    saved.getFirstName().equals("First0")
+            )
+            .expectNextCount(2498)
+            .expectNextMatches(saved -> saved.getFirstName().equals("First2499"))
+            .verifyComplete();
+        StepVerifier.create(employeePersistence.getEmployees())
+            .expectNextCount(2502)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchWithExistingAndRepeatedEmployees_whenEmployeesAreUpserted_thenLastOneForEachIdIsStored() {
+        // given
+        UUID newUuid = UUID.randomUUID();
+        Flux<Employee> batch = Flux.just(
+            Employee.builder()
+                .uuid(workerUuid)
+                .firstName("Juan")
+                .lastName("Luna")
+                .employeeType(EmployeeType.MANAGER)
+                .build(),
+            Employee.builder()
+                .uuid(newUuid)
+                .firstName("Ana")
+                .lastName("Lopez")
+                .employeeType(EmployeeType.WORKER)
+                .build(),
+            Employee.builder()
+                .uuid(newUuid)
+                .firstName("Ana")
+                .lastName("Reyes")
+                .employeeType(EmployeeType.WORKER)
+                .build()
+        );
+        long versionBefore = employeePersistence
+            .getEmployeeById(workerUuid)
+            .block()
+            .getVersion();
+
+        // when / then
+        StepVerifier.create(employeePersistence.upsertEmployees(batch))
+            .expectNextCount(3)
+            .verifyComplete();
+        StepVerifier.create(employeePersistence.getEmployeeById(workerUuid))
+            .expectNextMatches(
+                employee ->
+                    employee.getLastName().equals("Luna") &&
+                    employee.getEmployeeType() == EmployeeType.MANAGER &&
+                    employee.getVersion() > versionBefore
+            )
+            .verifyComplete();
+        StepVerifier.create(employeePersistence.getEmployeeById(newUuid))
+            .expectNextMatches(employee -> employee.getLastName().equals("Reyes"))
+            .verifyComplete();
+        StepVerifier.create(employeePersistence.getEmployees())
+            .expectNextCount(3)
+            .verifyComplete();
+    }
+
     @Test
     void givenExistingEmployee_whenEmployeeIsRemoved_thenRemovedFromStorage() {
         // when
-        StepVerifier.create(
-            employeePersistence.deleteEmployee(workerUuid)
-        ).verifyComplete();
+        StepVerifier.create(employeePersistence.deleteEmployee(workerUuid))
+            .expectNext(true)
+            .verifyComplete();
 
         // then
         StepVerifier.create(
@@ -103,10 +344,176 @@ class EmployeePersistenceIT {
         ).verifyComplete();
     }
 
+    @Test
+    void givenExistingEmployee_whenEmployeeInformationIsChanged_thenStoresAndProvidesTheEmployee() {
+        // given
+        Employee updated = Employee.builder()
+            .uuid(workerUuid)
+            .firstName("Pedro")
+            .lastName("Garcia")
+            .employeeType(EmployeeType.FINANCE_MANAGER)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeePersistence.updateEmployee(updated))
+            .expectNextMatches(
+                saved ->
+                    saved.getUuid().equals(workerUuid) &&
+                    saved.getFirstName().equals("Pedro") &&
+                    saved.getLastName().equals("Garcia") &&
+                    saved.getEmployeeType() == EmployeeType.FINANCE_MANAGER
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNoEmployee_whenEmployeeInformationIsChanged_thenNothingIsStored() {
+        // given
+        Employee updated = Employee.builder()
+            .uuid(UUID.randomUUID())
+            .firstName("Pedro")
+            .lastName("Garcia")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.updateEmployee(updated)
+        ).verifyComplete();
+    }
+
+    @Test
+    void givenExistingEmployee_whenEmployeeIsChanged_thenOnlyProvidedInformationIsStored() {
+        // given
+        Employee patch = Employee.builder().firstName("Pedro").build();
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.patchEmployee(workerUuid, patch)
+        )
+            .expectNextMatches(
+                saved ->
+                    saved.getFirstName().equals("Pedro") &&
+                    saved.getLastName().equals("dela Cruz") &&
+                    saved.getEmployeeType() == EmployeeType.WORKER
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNoEmployee_whenEmployeeIsRemoved_thenReportsNothingWasRemoved() {
+        StepVerifier.create(
+            employeePersistence.deleteEmployee(UUID.randomUUID())
+        )
+            .expectNext(false)
+            .verifyComplete();
+    }
+
     @Test
     void givenNoEmployee_whenEmployeeIsLookedUp_thenEmployeeIsNotFound() {
         StepVerifier.create(
             employeePersistence.getEmployeeById(UUID.randomUUID())
         ).verifyComplete();
     }
+
+    @Test
+    void givenEmployeesExist_whenFirstPageIsLookedUp_thenListsEmployeesInKeyOrder() {
+        // given
+        UUID first = workerUuid.toString().compareTo(managerUuid.toString()) < 0
+            ? workerUuid
+            : managerUuid;
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.getEmployees(EmployeeFilter.NONE, null, 1)
+        )
+            .expectNextMatches(employee -> employee.getUuid().equals(first))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCursor_whenNextPageIsLookedUp_thenListsEmployeesAfterTheCursor() {
+        // given
+        UUID first = workerUuid.toString().compareTo(managerUuid.toString()) < 0
+            ? workerUuid
+            : managerUuid;
+        UUID second = first.equals(workerUuid) ? managerUuid : workerUuid;
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.getEmployees(EmployeeFilter.NONE, first, 10)
+        )
+            .expectNextMatches(employee -> employee.getUuid().equals(second))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenTypeFilter_whenEmployeesAreLookedUp_thenListsOnlyThatType() {
+        // given
+        EmployeeFilter managers = new EmployeeFilter(
+            EmployeeType.MANAGER,
+            null,
+            null
+        );
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployees(managers, null, 10))
+            .expectNextMatches(employee -> employee.getUuid().equals(managerUuid))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenTypeFilter_whenEmployeesAreProjected_thenStreamsOnlyThatType() {
+        // given
+        EmployeeFilter managers = new EmployeeFilter(
+            EmployeeType.MANAGER,
+            null,
+            null
+        );
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.getEmployees(
+                managers,
+                (uuid, firstName, lastName, employeeType, version) -> uuid
+            ),
+            1
+        )
+            .expectNext(managerUuid)
+            .thenRequest(1)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenLastNamePrefix_whenEmployeesAreLookedUp_thenMatchesIgnoringCase() {
+        // given
+        EmployeeFilter dela = new EmployeeFilter(null, "DELA", null);
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployees(dela, null, 10))
+            .expectNextMatches(employee -> employee.getUuid().equals(workerUuid))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenSearchTerm_whenEmployeesAreLookedUp_thenMatchesAcrossFullName() {
+        // given
+        EmployeeFilter search = new EmployeeFilter(null, null, "RIA SAN");
+
+        // when / then
+        StepVerifier.create(employeePersistence.getEmployees(search, null, 10))
+            .expectNextMatches(employee -> employee.getUuid().equals(managerUuid))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenSearchTermWithWildcards_whenEmployeesAreLookedUp_thenWildcardsMatchLiterally() {
+        // given
+        EmployeeFilter search = new EmployeeFilter(null, null, "n_d");
+
+        // when / then
+        StepVerifier.create(
+            employeePersistence.getEmployees(search, null, 10)
+        ).verifyComplete();
+    }
 }
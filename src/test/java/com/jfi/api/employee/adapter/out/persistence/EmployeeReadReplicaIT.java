@@ -0,0 +1,126 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeType;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@Import(
+    { TestcontainersConfiguration.class, ReplicaTestcontainersConfiguration.class }
+)
+class EmployeeReadReplicaIT {
+
+    @Autowired
+    private EmployeePersistenceAdapter employeePersistenceAdapter;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private PostgreSQLContainer<?> replicaContainer;
+
+    private final UUID replicaOnlyUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        databaseClient.sql("DELETE FROM employee").then().block();
+        executeOnReplica("DELETE FROM employee");
+        executeOnReplica(
+            "INSERT INTO employee (uuid, first_name, last_name, employee_type) VALUES ('" +
+                replicaOnlyUuid +
+                "', 'Rita', 'Replica', 'WORKER')"
+        );
+    }
+
+    @Test
+    void givenEmployeeOnlyOnReplica_whenLookedUpById_thenReplicaServesIt() {
+        StepVerifier.create(
+            employeePersistenceAdapter.getEmployeeById(replicaOnlyUuid)
+        )
+            .expectNextMatches(employee ->
+                employee.getLastName().equals("Replica")
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenEmployeeOnlyOnReplica_whenEmployeesAreListed_thenReplicaServesThem() {
+        StepVerifier.create(
+            employeePersistenceAdapter.getEmployees(
+                new EmployeeFilter(null, null, null),
+                null,
+                10
+            )
+        )
+            .expectNextMatches(employee ->
+                employee.getUuid().equals(replicaOnlyUuid)
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNewEmployee_whenSaved_thenOnlyPrimaryHasIt() throws SQLException {
+        // given
+        Employee employee = Employee.builder()
+            .firstName("Pedro")
+            .lastName("Primary")
+            .employeeType(EmployeeType.MANAGER)
+            .build();
+
+        // when
+        Employee saved = employeePersistenceAdapter
+            .saveEmployee(employee)
+            .block();
+
+        // then
+        Long onPrimary = databaseClient
+            .sql("SELECT count(*) FROM employee WHERE uuid = :uuid")
+            .bind("uuid", saved.getUuid())
+            .map(row -> row.get(0, Long.class))
+            .one()
+            .block();
+        assertThat(onPrimary).isEqualTo(1);
+        assertThat(
+            countOnReplica(
+                "SELECT count(*) FROM employee WHERE uuid = '" +
+                    saved.getUuid() +
+                    "'"
+            )
+        ).isZero();
+    }
+
+    private void executeOnReplica(String sql) throws SQLException {
+        try (
+            Connection connection = replicaContainer.createConnection("");
+            Statement statement = connection.createStatement()
+        ) {
+            statement.execute(sql);
+        }
+    }
+
+    private long countOnReplica(String sql) throws SQLException {
+        try (
+            Connection connection = replicaContainer.createConnection("");
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(sql)
+        ) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
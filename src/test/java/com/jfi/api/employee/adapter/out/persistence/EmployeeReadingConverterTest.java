@@ -0,0 +1,187 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+class EmployeeReadingConverterTest {
+
+    EmployeeReadingConverter converter = new EmployeeReadingConverter();
+
+    @Test
+    void givenEmployeeRow_whenRowIsConverted_thenEveryColumnIsMapped() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        FakeRow row = employeeColumns().row(
+            uuid,
+            "Juan",
+            "dela Cruz",
+            "FINANCE_MANAGER",
+            7L
+        );
+
+        // when
+        Employee employee = converter.convert(row);
+
+        // then
+        assertEquals(
+            new Employee(uuid, "Juan", "dela Cruz", EmployeeType.FINANCE_MANAGER, 7L),
+            employee
+        );
+    }
+
+    @Test
+    void givenColumnsInAnotherOrder_whenRowsAreConverted_thenColumnsAreFoundByName() {
+        // given
+        UUID uuid = UUID.randomUUID();
+        FakeRow.Metadata reordered = FakeRow.columns(
+            "version",
+            "employee_type",
+            "uuid",
+            "last_name",
+            "first_name"
+        );
+        converter.convert(employeeColumns().row(uuid, "a", "b", "WORKER", 1L));
+
+        // when
+        Employee employee = converter.convert(
+            reordered.row(2L, "MANAGER", uuid, "Santos", "Maria")
+        );
+
+        // then
+        assertEquals(
+            new Employee(uuid, "Maria", "Santos", EmployeeType.MANAGER, 2L),
+            employee
+        );
+    }
+
+    @Test
+    void givenResultMapper_whenRowsAreMapped_thenEachRowIsReadAtTheFirstRowsPositions() {
+        // given
+        FakeRow.Metadata reordered = FakeRow.columns(
+            "version",
+            "employee_type",
+            "uuid",
+            "last_name",
+            "first_name"
+        );
+        BiFunction<Row, RowMetadata, Employee> rows =
+            EmployeeReadingConverter.rows(Employee::new);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // when
+        Employee firstEmployee = map(
+            rows,
+            reordered.row(1L, "WORKER", first, "dela Cruz", "Juan")
+        );
+        Employee secondEmployee = map(
+            rows,
+            reordered.row(2L, "MANAGER", second, "Santos", "Maria")
+        );
+
+        // then
+        assertEquals(
+            new Employee(first, "Juan", "dela Cruz", EmployeeType.WORKER, 1L),
+            firstEmployee
+        );
+        assertEquals(
+            new Employee(second, "Maria", "Santos", EmployeeType.MANAGER, 2L),
+            secondEmployee
+        );
+    }
+
+    @Test
+    void givenEveryEmployeeType_whenNameIsRead_thenResolvesToThatType() {
+        for (EmployeeType type : EmployeeType.values()) {
+            assertEquals(type, EmployeeReadingConverter.employeeType(type.name()));
+        }
+    }
+
+    @Test
+    void givenColumnIsNotSelected_whenRowIsConverted_thenPropertyIsNull() {
+        // given
+        FakeRow row = FakeRow.columns("uuid", "first_name").row(
+            UUID.randomUUID(),
+            "Juan"
+        );
+
+        // when
+        Employee employee = converter.convert(row);
+
+        // then
+        assertNull(employee.getVersion());
+        assertNull(employee.getEmployeeType());
+    }
+
+    @Test
+    void givenUnknownEmployeeType_whenRowIsConverted_thenConversionFails() {
+        // given
+        FakeRow row = employeeColumns().row(
+            UUID.randomUUID(),
+            "Juan",
+            "dela Cruz",
+            "INTERN",
+            1L
+        );
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(row));
+    }
+
+    @Test
+    void givenRegisteredConverter_whenEntityConverterReadsEmployee_thenSameEmployeeAsGenericMapping() {
+        // given
+        FakeRow row = employeeColumns().row(
+            UUID.randomUUID(),
+            "Juan",
+            "dela Cruz",
+            "MANAGER",
+            3L
+        );
+        MappingR2dbcConverter generic = new MappingR2dbcConverter(
+            new R2dbcMappingContext()
+        );
+        MappingR2dbcConverter custom = new MappingR2dbcConverter(
+            new R2dbcMappingContext(),
+            R2dbcCustomConversions.of(PostgresDialect.INSTANCE, List.of(converter))
+        );
+
+        // when
+        Employee expected = generic.read(Employee.class, row, row.getMetadata());
+        Employee actual = custom.read(Employee.class, row, row.getMetadata());
+
+        // then
+        assertEquals(expected, actual);
+    }
+
+    private static Employee map(
+        BiFunction<Row, RowMetadata, Employee> rows,
+        FakeRow row
+    ) {
+        return rows.apply(row, row.getMetadata());
+    }
+
+    private static FakeRow.Metadata employeeColumns() {
+        return FakeRow.columns(
+            "uuid",
+            "first_name",
+            "last_name",
+            "employee_type",
+            "version"
+        );
+    }
+}
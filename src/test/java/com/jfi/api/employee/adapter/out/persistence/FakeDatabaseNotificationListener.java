@@ -0,0 +1,37 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import com.jfi.api.infrastructure.DatabaseNotificationListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+public class FakeDatabaseNotificationListener
+    extends DatabaseNotificationListener {
+
+    private final Sinks.Many<String> notifications = Sinks.many()
+        .multicast()
+        .directBestEffort();
+    private volatile Runnable onListening = () -> {};
+
+    public FakeDatabaseNotificationListener() {
+        super(null, null);
+    }
+
+    public void notify(String payload) {
+        notifications.tryEmitNext(payload);
+    }
+
+    // A reconnect is only visible to subscribers through onListening
+    public void reconnect() {
+        onListening.run();
+    }
+
+    @Override
+    public Flux<String> listen(String channel, Runnable onListening) {
+        return notifications
+            .asFlux()
+            .doOnSubscribe(subscription -> {
+                this.onListening = onListening;
+                onListening.run();
+            });
+    }
+}
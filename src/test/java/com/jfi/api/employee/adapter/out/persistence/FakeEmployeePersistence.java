@@ -1,35 +1,162 @@
 package com.jfi.api.employee.adapter.out.persistence;
 
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChange;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeCollectionVersion;
+import com.jfi.api.employee.domain.EmployeeFilter;
+import com.jfi.api.employee.domain.EmployeeFilterMatcher;
+import com.jfi.api.employee.domain.EmployeeProjection;
 import com.jfi.api.employee.port.out.EmployeePersistence;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 public class FakeEmployeePersistence implements EmployeePersistence {
 
     private final Map<UUID, Employee> employees = new LinkedHashMap<>();
+    private final List<EmployeeChange> changes = new ArrayList<>();
+    private final Sinks.Many<Long> changePositions = Sinks.many()
+        .replay()
+        .latest();
+    private long lastVersion;
 
     public void save(Employee employee) {
+        stampVersion(employee);
         employees.put(employee.getUuid(), employee);
     }
 
+    @Override
+    public Mono<EmployeeCollectionVersion> getCollectionVersion() {
+        return Mono.just(new EmployeeCollectionVersion(changes.size(), 0));
+    }
+
     @Override
     public Flux<Employee> getEmployees() {
         return Flux.fromIterable(employees.values());
     }
 
+    @Override
+    public <T> Flux<T> getEmployees(EmployeeProjection<T> projection) {
+        return getEmployees().map(employee ->
+            projection.project(
+                employee.getUuid(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmployeeType(),
+                employee.getVersion()
+            )
+        );
+    }
+
+    @Override
+    public <T> Flux<T> getEmployees(
+        EmployeeFilter filter,
+        EmployeeProjection<T> projection
+    ) {
+        return getEmployees()
+            .filter(EmployeeFilterMatcher.matching(filter))
+            .sort(Comparator.comparing(employee -> employee.getUuid().toString()))
+            .map(employee ->
+                projection.project(
+                    employee.getUuid(),
+                    employee.getFirstName(),
+                    employee.getLastName(),
+                    employee.getEmployeeType(),
+                    employee.getVersion()
+                )
+            );
+    }
+
+    @Override
+    public Flux<Employee> getEmployees(
+        EmployeeFilter filter,
+        UUID after,
+        int limit
+    ) {
+        // Postgres orders uuid values bytewise, which matches their lowercase hex form.
+        return Flux.fromIterable(employees.values())
+            .filter(EmployeeFilterMatcher.matching(filter))
+            .filter(
+                employee ->
+                    after == null ||
+                    employee.getUuid().toString().compareTo(after.toString()) > 0
+            )
+            .sort(Comparator.comparing(employee -> employee.getUuid().toString()))
+            .take(limit);
+    }
+
     @Override
     public Mono<Employee> getEmployeeById(UUID uuid) {
         return Mono.justOrEmpty(employees.get(uuid));
     }
 
     @Override
-    public Mono<Void> deleteEmployee(UUID uuid) {
-        employees.remove(uuid);
-        return Mono.empty();
+    public Mono<Boolean> existsEmployee(UUID uuid) {
+        return Mono.just(employees.containsKey(uuid));
+    }
+
+    // Insertion order rather than the requested one: the port promises no order
+    @Override
+    public Flux<Employee> getEmployeesByIds(List<UUID> uuids) {
+        return Flux.fromIterable(employees.values()).filter(employee ->
+            uuids.contains(employee.getUuid())
+        );
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(Employee employee) {
+        if (!isCurrent(employee.getUuid(), employee.getVersion())) {
+            return Mono.empty();
+        }
+        stampVersion(employee);
+        employees.put(employee.getUuid(), employee);
+        recordChange(EmployeeChangeType.UPDATED, employee);
+        return Mono.just(employee);
+    }
+
+    @Override
+    public Mono<Employee> patchEmployee(UUID uuid, Employee patch) {
+        if (!isCurrent(uuid, patch.getVersion())) {
+            return Mono.empty();
+        }
+        Employee existing = employees.get(uuid);
+        if (patch.getFirstName() != null) {
+            existing.setFirstName(patch.getFirstName());
+        }
+        if (patch.getLastName() != null) {
+            existing.setLastName(patch.getLastName());
+        }
+        if (patch.getEmployeeType() != null) {
+            existing.setEmployeeType(patch.getEmployeeType());
+        }
+        stampVersion(existing);
+        recordChange(EmployeeChangeType.UPDATED, existing);
+        return Mono.just(existing);
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(UUID uuid) {
+        Employee removed = employees.remove(uuid);
+        if (removed == null) {
+            return Mono.just(false);
+        }
+        recordChange(
+            EmployeeChangeType.DELETED,
+            Employee.builder()
+                .uuid(uuid)
+                .employeeType(null)
+                .version(removed.getVersion())
+                .build()
+        );
+        return Mono.just(true);
     }
 
     @Override
@@ -37,7 +164,64 @@ public class FakeEmployeePersistence implements EmployeePersistence {
         if (employee.getUuid() == null) {
             employee.setUuid(UUID.randomUUID());
         }
+        stampVersion(employee);
         employees.put(employee.getUuid(), employee);
+        recordChange(EmployeeChangeType.CREATED, employee);
         return Mono.just(employee);
     }
+
+    @Override
+    public Flux<Employee> saveEmployees(Flux<Employee> employees) {
+        return employees.concatMap(this::saveEmployee);
+    }
+
+    @Override
+    public Flux<Employee> upsertEmployees(Flux<Employee> employees) {
+        return employees.concatMap(employee ->
+            employee.getUuid() != null &&
+            this.employees.containsKey(employee.getUuid())
+                ? updateEmployee(employee)
+                : saveEmployee(employee)
+        );
+    }
+
+    @Override
+    public Flux<EmployeeChange> getChanges(long after, int limit) {
+        return Flux.fromIterable(changes)
+            .filter(change -> change.position() > after)
+            .take(limit);
+    }
+
+    @Override
+    public Flux<Long> getChangePositions() {
+        return changePositions.asFlux();
+    }
+
+    // Mirrors the outbox trigger and relay: every write appends a snapshot
+    private void recordChange(EmployeeChangeType type, Employee employee) {
+        long position = changes.size() + 1;
+        changes.add(
+            new EmployeeChange(
+                position,
+                type,
+                employee.toBuilder().build(),
+                Instant.now()
+            )
+        );
+        changePositions.tryEmitNext(position);
+    }
+
+    private boolean isCurrent(UUID uuid, Long expectedVersion) {
+        Employee existing = employees.get(uuid);
+        return (
+            existing != null &&
+            (expectedVersion == null ||
+                expectedVersion.equals(existing.getVersion()))
+        );
+    }
+
+    // Mirrors employee_version_seq: every write gets a higher version
+    private void stampVersion(Employee employee) {
+        employee.setVersion(++lastVersion);
+    }
 }
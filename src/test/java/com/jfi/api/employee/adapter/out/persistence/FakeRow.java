@@ -0,0 +1,98 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Values are stored as the driver would decode them; like the driver, every row
+// of one result shares a single RowMetadata.
+public class FakeRow implements Row {
+
+    private final Metadata metadata;
+    private final Object[] values;
+
+    private FakeRow(Metadata metadata, Object[] values) {
+        this.metadata = metadata;
+        this.values = values;
+    }
+
+    public static Metadata columns(String... names) {
+        return new Metadata(List.of(names));
+    }
+
+    @Override
+    public RowMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return type.cast(values[index]);
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+        return get(metadata.indexOf(name), type);
+    }
+
+    public static final class Metadata implements RowMetadata {
+
+        private final List<String> names;
+        private final List<ColumnMetadata> columns = new ArrayList<>();
+
+        private Metadata(List<String> names) {
+            this.names = names;
+            names.forEach(name -> columns.add(new Column(name)));
+        }
+
+        public FakeRow row(Object... values) {
+            return new FakeRow(this, values);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return columns.get(indexOf(name));
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return columns;
+        }
+
+        @Override
+        public boolean contains(String name) {
+            return names.stream().anyMatch(name::equalsIgnoreCase);
+        }
+
+        private int indexOf(String name) {
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            throw new NoSuchElementException(name);
+        }
+    }
+
+    private record Column(String name) implements ColumnMetadata {
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Type getType() {
+            return R2dbcType.VARCHAR;
+        }
+    }
+}
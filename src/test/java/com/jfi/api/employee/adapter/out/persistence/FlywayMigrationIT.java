@@ -21,7 +21,7 @@ class FlywayMigrationIT {
     void givenMigrations_whenApplicationStarts_thenAllMigrationsApplied() {
         MigrationInfo[] applied = flyway.info().applied();
 
-        assertThat(applied).hasSize(2);
+        assertThat(applied).hasSize(9);
         assertThat(applied).allSatisfy(migration ->
             assertThat(migration.getState()).isEqualTo(MigrationState.SUCCESS)
         );
@@ -0,0 +1,48 @@
+package com.jfi.api.employee.adapter.out.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+// A second, independent database standing in for a read replica: what is under test
+// is which database each query goes to, not Postgres streaming replication.
+@TestConfiguration(proxyBeanMethods = false)
+public class ReplicaTestcontainersConfiguration {
+
+    @Bean
+    PostgreSQLContainer<?> replicaContainer() {
+        return new PostgreSQLContainer<>("postgres:17.8");
+    }
+
+    @Bean
+    DynamicPropertyRegistrar replicaProperties(
+        PostgreSQLContainer<?> replicaContainer
+    ) {
+        replicaContainer.start();
+        Flyway.configure()
+            .dataSource(
+                replicaContainer.getJdbcUrl(),
+                replicaContainer.getUsername(),
+                replicaContainer.getPassword()
+            )
+            .load()
+            .migrate();
+        return registry -> {
+            registry.add("database.read-replicas.urls", () ->
+                "r2dbc:postgresql://%s:%d/%s".formatted(
+                    replicaContainer.getHost(),
+                    replicaContainer.getMappedPort(
+                        PostgreSQLContainer.POSTGRESQL_PORT
+                    ),
+                    replicaContainer.getDatabaseName()
+                )
+            );
+            registry.add(
+                "database.read-replicas.read-your-writes-window",
+                () -> "0s"
+            );
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.jfi.api.employee.domain;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+// The in-memory counterpart of the filter SQL, for the fakes. Text matching is
+// case-insensitive: lastNamePrefix anchors at the start of the last name, query
+// matches anywhere in "firstName lastName".
+public final class EmployeeFilterMatcher {
+
+    private EmployeeFilterMatcher() {}
+
+    public static Predicate<Employee> matching(EmployeeFilter filter) {
+        return employee -> matches(filter, employee);
+    }
+
+    private static boolean matches(EmployeeFilter filter, Employee employee) {
+        if (
+            filter.employeeType() != null &&
+            employee.getEmployeeType() != filter.employeeType()
+        ) {
+            return false;
+        }
+        if (
+            filter.lastNamePrefix() != null &&
+            !lower(employee.getLastName()).startsWith(
+                lower(filter.lastNamePrefix())
+            )
+        ) {
+            return false;
+        }
+        return (
+            filter.query() == null ||
+            fullName(employee).contains(lower(filter.query()))
+        );
+    }
+
+    private static String fullName(Employee employee) {
+        return (
+            lower(employee.getFirstName()) + " " + lower(employee.getLastName())
+        );
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
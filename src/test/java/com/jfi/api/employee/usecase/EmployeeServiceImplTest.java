@@ -1,13 +1,24 @@
 package com.jfi.api.employee.usecase;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import com.jfi.api.employee.adapter.out.persistence.FakeEmployeePersistence;
 import com.jfi.api.employee.domain.Employee;
+import com.jfi.api.employee.domain.EmployeeChangeType;
+import com.jfi.api.employee.domain.EmployeeFilter;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
 import com.jfi.api.employee.domain.EmployeeType;
+import com.jfi.api.employee.domain.EmployeeVersionMismatchException;
 import com.jfi.api.employee.domain.InvalidEmployeeException;
+import com.jfi.api.employee.domain.InvalidPageRequestException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 class EmployeeServiceImplTest {
@@ -65,6 +76,28 @@ class EmployeeServiceImplTest {
             .verifyComplete();
     }
 
+    @Test
+    void givenEmployeeIsChanged_whenCollectionVersionIsLookedUp_thenVersionIsHigher() {
+        // given
+        long before = employeeService
+            .findCollectionVersion()
+            .block()
+            .position();
+
+        // when
+        employeeService
+            .patchEmployee(
+                workerEntity.getUuid(),
+                Employee.builder().firstName("Pedro").employeeType(null).build()
+            )
+            .block();
+
+        // then
+        StepVerifier.create(employeeService.findCollectionVersion())
+            .expectNextMatches(version -> version.position() > before)
+            .verifyComplete();
+    }
+
     @Test
     void givenCorrectEmployeeInformation_whenEmployeeIsAdded_thenProvidesTheNewEmployee() {
         // given
@@ -116,6 +149,205 @@ class EmployeeServiceImplTest {
             .verify();
     }
 
+    @Test
+    void givenBatchOfCorrectEmployees_whenEmployeesAreAdded_thenProvidesEachNewEmployeeInOrder() {
+        // given
+        Flux<Employee> batch = Flux.just(
+            Employee.builder()
+                .firstName("Pedro")
+                .lastName("Garcia")
+                .employeeType(EmployeeType.WORKER)
+                .build(),
+            Employee.builder()
+                .firstName("Ana")
+                .lastName("Lopez")
+                .employeeType(EmployeeType.MANAGER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.createEmployees(batch))
+            .expectNextMatches(
+                result ->
+                    result.isCreated() &&
+                    result.index() == 0 &&
+                    result.employee().getUuid() != null &&
+                    result.employee().getFirstName().equals("Pedro")
+            )
+            .expectNextMatches(
+                result ->
+                    result.isCreated() &&
+                    result.index() == 1 &&
+                    result.employee().getFirstName().equals("Ana")
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchWithIncorrectEmployee_whenEmployeesAreAdded_thenOnlyTheIncorrectEmployeeIsRejected() {
+        // given
+        Flux<Employee> batch = Flux.just(
+            Employee.builder()
+                .firstName("  ")
+                .lastName("Garcia")
+                .employeeType(EmployeeType.WORKER)
+                .build(),
+            Employee.builder()
+                .firstName("Ana")
+                .lastName("Lopez")
+                .employeeType(EmployeeType.MANAGER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.createEmployees(batch))
+            .expectNextMatches(
+                result ->
+                    !result.isCreated() &&
+                    result.index() == 0 &&
+                    result.error().equals("First name must not be blank")
+            )
+            .expectNextMatches(
+                result ->
+                    result.isCreated() &&
+                    result.index() == 1 &&
+                    result.employee().getFirstName().equals("Ana")
+            )
+            .verifyComplete();
+        StepVerifier.create(employeeService.findAllEmployees())
+            .expectNextCount(4)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchWithExistingAndNewEmployee_whenEmployeesAreUpserted_thenReplacesOneAndAddsTheOther() {
+        // given
+        Flux<Employee> batch = Flux.just(
+            Employee.builder()
+                .uuid(workerEntity.getUuid())
+                .firstName("Juan")
+                .lastName("Luna")
+                .employeeType(EmployeeType.MANAGER)
+                .build(),
+            Employee.builder()
+                .firstName("Ana")
+                .lastName("Lopez")
+                .employeeType(EmployeeType.WORKER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.upsertEmployees(batch))
+            .expectNextMatches(
+                result ->
+                    result.isCreated() &&
+                    result.index() == 0 &&
+                    result.employee().getUuid().equals(workerEntity.getUuid())
+            )
+            .expectNextMatches(
+                result ->
+                    result.isCreated() &&
+                    result.index() == 1 &&
+                    result.employee().getUuid() != null
+            )
+            .verifyComplete();
+        StepVerifier.create(
+            employeeService.findEmployeeById(workerEntity.getUuid())
+        )
+            .expectNextMatches(
+                employee ->
+                    employee.getLastName().equals("Luna") &&
+                    employee.getEmployeeType() == EmployeeType.MANAGER
+            )
+            .verifyComplete();
+        StepVerifier.create(employeeService.findAllEmployees())
+            .expectNextCount(4)
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchWithIncorrectEmployee_whenEmployeesAreUpserted_thenOnlyTheIncorrectEmployeeIsRejected() {
+        // given
+        Flux<Employee> batch = Flux.just(
+            Employee.builder()
+                .uuid(workerEntity.getUuid())
+                .firstName("Juan")
+                .lastName(" ")
+                .employeeType(EmployeeType.WORKER)
+                .build(),
+            Employee.builder()
+                .firstName("Ana")
+                .lastName("Lopez")
+                .employeeType(EmployeeType.WORKER)
+                .build()
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.upsertEmployees(batch))
+            .expectNextMatches(
+                result ->
+                    !result.isCreated() &&
+                    result.index() == 0 &&
+                    result.error().equals("Last name must not be blank")
+            )
+            .expectNextMatches(result -> result.isCreated() && result.index() == 1)
+            .verifyComplete();
+        StepVerifier.create(
+            employeeService.findEmployeeById(workerEntity.getUuid())
+        )
+            .expectNextMatches(employee ->
+                employee.getLastName().equals("dela Cruz")
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenBatchLargerThanAChunk_whenEmployeesAreAdded_thenWritesOneChunkAtATime() {
+        // given
+        List<Integer> writes = new ArrayList<>();
+        employeeService = new EmployeeServiceImpl(
+            new FakeEmployeePersistence() {
+                @Override
+                public Flux<Employee> saveEmployees(Flux<Employee> employees) {
+                    return employees
+                        .collectList()
+                        .doOnNext(chunk -> writes.add(chunk.size()))
+                        .flatMapMany(chunk ->
+                            super.saveEmployees(Flux.fromIterable(chunk))
+                        );
+                }
+            }
+        );
+        Flux<Employee> batch = employees(
+            EmployeeServiceImpl.BATCH_CHUNK_SIZE + 1
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.createEmployees(batch))
+            .expectNextCount(EmployeeServiceImpl.BATCH_CHUNK_SIZE + 1)
+            .verifyComplete();
+        assertEquals(List.of(EmployeeServiceImpl.BATCH_CHUNK_SIZE, 1), writes);
+    }
+
+    @Test
+    void givenBatchOverTheLimit_whenEmployeesAreAdded_thenRejectsOnlyTheEmployeesPastIt() {
+        // given
+        Flux<Employee> batch = employees(EmployeeServiceImpl.MAX_BATCH_SIZE + 1);
+
+        // when / then
+        StepVerifier.create(employeeService.createEmployees(batch))
+            .expectNextCount(EmployeeServiceImpl.MAX_BATCH_SIZE)
+            .expectNextMatches(
+                result ->
+                    result.index() == EmployeeServiceImpl.MAX_BATCH_SIZE &&
+                    EmployeeServiceImpl.BATCH_LIMIT_MESSAGE.equals(result.error())
+            )
+            .verifyComplete();
+        StepVerifier.create(employeeService.findAllEmployees().count())
+            .expectNext(EmployeeServiceImpl.MAX_BATCH_SIZE + 3L)
+            .verifyComplete();
+    }
+
     @Test
     void givenExistingEmployee_whenEmployeeInformationIsChanged_thenProvidesTheEmployee() {
         // given
@@ -184,6 +416,145 @@ class EmployeeServiceImplTest {
             .verify();
     }
 
+    @Test
+    void givenCurrentVersion_whenEmployeeInformationIsChanged_thenProvidesTheEmployee() {
+        // given
+        UUID existingId = workerEntity.getUuid();
+        Employee updated = Employee.builder()
+            .firstName("Maria")
+            .lastName("Santos")
+            .employeeType(EmployeeType.MANAGER)
+            .version(workerEntity.getVersion())
+            .build();
+
+        // when / then
+        StepVerifier.create(employeeService.updateEmployee(existingId, updated))
+            .expectNextMatches(saved -> saved.getFirstName().equals("Maria"))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenStaleVersion_whenEmployeeInformationIsChanged_thenVersionDoesNotMatch() {
+        // given
+        UUID existingId = workerEntity.getUuid();
+        Employee updated = Employee.builder()
+            .firstName("Maria")
+            .lastName("Santos")
+            .employeeType(EmployeeType.MANAGER)
+            .version(workerEntity.getVersion() - 1)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeeService.updateEmployee(existingId, updated))
+            .expectError(EmployeeVersionMismatchException.class)
+            .verify();
+    }
+
+    @Test
+    void givenStaleVersion_whenEmployeeIsChanged_thenEmployeeIsNotChanged() {
+        // given
+        UUID existingId = workerEntity.getUuid();
+        Employee patch = Employee.builder()
+            .firstName("Maria")
+            .version(workerEntity.getVersion() - 1)
+            .build();
+
+        // when
+        StepVerifier.create(employeeService.patchEmployee(existingId, patch))
+            .expectError(EmployeeVersionMismatchException.class)
+            .verify();
+
+        // then
+        StepVerifier.create(employeeService.findEmployeeById(existingId))
+            .expectNextMatches(employee -> employee.getFirstName().equals("Juan"))
+            .verifyComplete();
+    }
+
+    @Test
+    void givenStaleCopyOfDeletedEmployee_whenEmployeeIsChanged_thenEmployeeIsNotFound() {
+        // given
+        Employee stale = workerEntity.toBuilder().build();
+        employeeService = new EmployeeServiceImpl(
+            new FakeEmployeePersistence() {
+                @Override
+                public Mono<Employee> getEmployeeById(UUID uuid) {
+                    return Mono.just(stale);
+                }
+            }
+        );
+        Employee patch = Employee.builder()
+            .firstName("Maria")
+            .version(stale.getVersion())
+            .build();
+
+        // when / then
+        StepVerifier.create(employeeService.patchEmployee(stale.getUuid(), patch))
+            .expectError(EmployeeNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenVersionOfMissingEmployee_whenEmployeeIsChanged_thenEmployeeIsNotFound() {
+        // given
+        Employee patch = Employee.builder().firstName("Maria").version(1L).build();
+
+        // when / then
+        StepVerifier.create(
+            employeeService.patchEmployee(UUID.randomUUID(), patch)
+        )
+            .expectError(EmployeeNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenEmployeeDoesNotExist_whenEmployeeInformationIsChanged_thenEmployeeIsNotFound() {
+        // given
+        Employee updated = Employee.builder()
+            .firstName("Maria")
+            .lastName("Santos")
+            .employeeType(EmployeeType.MANAGER)
+            .build();
+
+        // when / then
+        StepVerifier.create(
+            employeeService.updateEmployee(UUID.randomUUID(), updated)
+        )
+            .expectError(EmployeeNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenEmployeeDoesNotExist_whenEmployeeIsChanged_thenEmployeeIsNotFound() {
+        // given
+        Employee patch = Employee.builder().firstName("Maria").build();
+
+        // when / then
+        StepVerifier.create(
+            employeeService.patchEmployee(UUID.randomUUID(), patch)
+        )
+            .expectError(EmployeeNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenOnlyEmployeeTypeIsProvided_whenEmployeeIsChanged_thenOtherInformationIsKept() {
+        // given
+        UUID existingId = workerEntity.getUuid();
+        Employee patch = Employee.builder()
+            .employeeType(EmployeeType.MANAGER)
+            .build();
+
+        // when / then
+        StepVerifier.create(employeeService.patchEmployee(existingId, patch))
+            .expectNextMatches(
+                saved ->
+                    saved.getFirstName().equals("Juan") &&
+                    saved.getLastName().equals("dela Cruz") &&
+                    saved.getEmployeeType() == EmployeeType.MANAGER
+            )
+            .verifyComplete();
+    }
+
     @Test
     void givenExistingEmployee_whenEmployeeIsRemoved_thenEmployeeIsRemoved() {
         // given
@@ -222,4 +593,259 @@ class EmployeeServiceImplTest {
             )
             .verifyComplete();
     }
+
+    @Test
+    void givenMoreEmployeesThanTheLimit_whenEmployeesAreLookedUp_thenProvidesCursorToNextPage() {
+        // when / then
+        StepVerifier.create(employeeService.findEmployees(EmployeeFilter.NONE, null, 2))
+            .expectNextMatches(
+                page ->
+                    page.employees().size() == 2 &&
+                    page.hasNext() &&
+                    page
+                        .nextCursor()
+                        .equals(page.employees().getLast().getUuid())
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenCursorToLastPage_whenEmployeesAreLookedUp_thenProvidesNoFurtherCursor() {
+        // given
+        UUID cursor = employeeService
+            .findEmployees(EmployeeFilter.NONE, null, 2)
+            .block()
+            .nextCursor();
+
+        // when / then
+        StepVerifier.create(employeeService.findEmployees(EmployeeFilter.NONE, cursor, 2))
+            .expectNextMatches(
+                page -> page.employees().size() == 1 && !page.hasNext()
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenLimitAboveMaximum_whenEmployeesAreLookedUp_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(
+            employeeService.findEmployees(
+                EmployeeFilter.NONE,
+                null,
+                EmployeeServiceImpl.MAX_PAGE_SIZE + 1
+            )
+        )
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenNonPositiveLimit_whenEmployeesAreLookedUp_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(employeeService.findEmployees(EmployeeFilter.NONE, null, 0))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenTypeFilter_whenEmployeesAreLookedUp_thenListsOnlyThatType() {
+        // given
+        EmployeeFilter managers = new EmployeeFilter(
+            EmployeeType.MANAGER,
+            null,
+            null
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.findEmployees(managers, null, 10))
+            .expectNextMatches(
+                page ->
+                    page.employees().size() == 1 &&
+                    page.employees().getFirst().getEmployeeType() ==
+                    EmployeeType.MANAGER &&
+                    !page.hasNext()
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenTypeFilter_whenAllEmployeesAreStreamed_thenProjectsOnlyThatType() {
+        // given
+        EmployeeFilter managers = new EmployeeFilter(
+            EmployeeType.MANAGER,
+            null,
+            null
+        );
+
+        // when / then
+        StepVerifier.create(
+            employeeService.findAllEmployees(
+                managers,
+                (uuid, firstName, lastName, employeeType, version) -> firstName
+            )
+        )
+            .expectNext("Tudis")
+            .verifyComplete();
+    }
+
+    @Test
+    void givenShortSearchTerm_whenAllEmployeesAreStreamed_thenPageRequestIsInvalid() {
+        // given
+        EmployeeFilter shortTerm = new EmployeeFilter(null, null, "ju");
+
+        // when / then
+        StepVerifier.create(
+            employeeService.findAllEmployees(
+                shortTerm,
+                (uuid, firstName, lastName, employeeType, version) -> firstName
+            )
+        )
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenShortSearchTerm_whenEmployeesAreLookedUp_thenPageRequestIsInvalid() {
+        // given
+        EmployeeFilter shortTerm = new EmployeeFilter(null, null, "ju");
+
+        // when / then
+        StepVerifier.create(employeeService.findEmployees(shortTerm, null, 10))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenRecordedChanges_whenChangesAreStreamed_thenBacklogIsFollowedByLiveChanges() {
+        // given
+        employeePersistence.saveEmployee(newEmployee("Maria")).block();
+
+        // when / then
+        StepVerifier.create(employeeService.streamChanges(0))
+            .expectNextMatches(
+                change ->
+                    change.position() == 1 &&
+                    change.type() == EmployeeChangeType.CREATED
+            )
+            .then(() ->
+                employeePersistence.deleteEmployee(workerEntity.getUuid()).block()
+            )
+            .expectNextMatches(
+                change ->
+                    change.position() == 2 &&
+                    change.type() == EmployeeChangeType.DELETED &&
+                    change.employee().getUuid().equals(workerEntity.getUuid())
+            )
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    void givenChangesAfterPosition_whenChangesAreLookedUp_thenProvidesThemWithoutWaiting() {
+        // given
+        employeePersistence.saveEmployee(newEmployee("Maria")).block();
+        employeePersistence.saveEmployee(newEmployee("Jose")).block();
+
+        // when / then
+        StepVerifier.create(
+            employeeService.findChanges(1, 10, Duration.ofMinutes(1))
+        )
+            .expectNextMatches(
+                changes ->
+                    changes.size() == 1 &&
+                    changes.getFirst().employee().getFirstName().equals("Jose")
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNoChangesYet_whenChangeIsMadeWhileWaiting_thenProvidesIt() {
+        // when / then
+        StepVerifier.create(
+            employeeService.findChanges(0, 10, Duration.ofMinutes(1))
+        )
+            .expectSubscription()
+            .then(() ->
+                employeePersistence.saveEmployee(newEmployee("Maria")).block()
+            )
+            .expectNextMatches(
+                changes ->
+                    changes.size() == 1 &&
+                    changes.getFirst().type() == EmployeeChangeType.CREATED
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNoChanges_whenWaitRunsOut_thenProvidesNoChanges() {
+        // when / then
+        StepVerifier.create(
+            employeeService.findChanges(0, 10, Duration.ofMillis(50))
+        )
+            .expectNextMatches(changes -> changes.isEmpty())
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNegativePosition_whenChangesAreStreamed_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(employeeService.streamChanges(-1))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenIds_whenEmployeesAreLookedUpByIds_thenProvidesThoseThatExistInRequestedOrder() {
+        // given
+        List<UUID> ids = List.of(
+            financeManagerEntity.getUuid(),
+            UUID.randomUUID(),
+            workerEntity.getUuid(),
+            financeManagerEntity.getUuid()
+        );
+
+        // when / then
+        StepVerifier.create(employeeService.findEmployeesByIds(ids))
+            .expectNextMatches(employee ->
+                employee.getUuid().equals(financeManagerEntity.getUuid())
+            )
+            .expectNextMatches(employee ->
+                employee.getUuid().equals(workerEntity.getUuid())
+            )
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNoIds_whenEmployeesAreLookedUpByIds_thenPageRequestIsInvalid() {
+        // when / then
+        StepVerifier.create(employeeService.findEmployeesByIds(List.of()))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    @Test
+    void givenMoreIdsThanTheMaximum_whenEmployeesAreLookedUpByIds_thenPageRequestIsInvalid() {
+        // given
+        List<UUID> ids = Flux.range(0, EmployeeServiceImpl.MAX_PAGE_SIZE + 1)
+            .map(i -> UUID.randomUUID())
+            .collectList()
+            .block();
+
+        // when / then
+        StepVerifier.create(employeeService.findEmployeesByIds(ids))
+            .expectError(InvalidPageRequestException.class)
+            .verify();
+    }
+
+    private static Employee newEmployee(String firstName) {
+        return Employee.builder()
+            .firstName(firstName)
+            .lastName("dela Cruz")
+            .employeeType(EmployeeType.WORKER)
+            .build();
+    }
+
+    private static Flux<Employee> employees(int count) {
+        return Flux.range(0, count).map(i -> newEmployee("Pedro"));
+    }
 }
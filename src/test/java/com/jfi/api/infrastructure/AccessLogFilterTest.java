@@ -1,11 +1,15 @@
 package com.jfi.api.infrastructure;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LogEvent;
@@ -14,17 +18,20 @@ import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.config.Property;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import reactor.util.context.Context;
 
-class RequestLoggingFilterTest {
+class AccessLogFilterTest {
 
-    RequestLoggingFilter filter = new RequestLoggingFilter();
+    AccessLogFilter filter = new AccessLogFilter(
+        new TimeOrderedRequestIdGenerator()
+    );
 
     @Test
     void givenSuccessfulRequest_thenLogsAtInfo() throws InterruptedException {
@@ -35,7 +42,7 @@ class RequestLoggingFilterTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         exchange.getResponse().setStatusCode(HttpStatus.OK);
         CapturingAppender appender = CapturingAppender.attach(
-            RequestLoggingFilter.class
+            AccessLogFilter.class
         );
 
         // when
@@ -70,7 +77,7 @@ class RequestLoggingFilterTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
         CapturingAppender appender = CapturingAppender.attach(
-            RequestLoggingFilter.class
+            AccessLogFilter.class
         );
 
         // when
@@ -109,7 +116,7 @@ class RequestLoggingFilterTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
         CapturingAppender appender = CapturingAppender.attach(
-            RequestLoggingFilter.class
+            AccessLogFilter.class
         );
 
         // when
@@ -140,29 +147,21 @@ class RequestLoggingFilterTest {
     }
 
     @Test
-    void givenRequestWithContextId_thenMdcContainsRequestId() throws InterruptedException {
+    void givenRequestWithIncomingId_thenMdcContainsRequestId()
+        throws InterruptedException {
         // given
-        MockServerHttpRequest request = MockServerHttpRequest.get(
-            "/employees"
-        ).build();
+        MockServerHttpRequest request = MockServerHttpRequest.get("/employees")
+            .header(AccessLogFilter.REQUEST_ID_HEADER, "test-request-id")
+            .build();
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
         exchange.getResponse().setStatusCode(HttpStatus.OK);
         CapturingAppender appender = CapturingAppender.attach(
-            RequestLoggingFilter.class
+            AccessLogFilter.class
         );
 
         // when
         WebFilterChain chain = e -> Mono.empty();
-        StepVerifier.create(
-            filter
-                .filter(exchange, chain)
-                .contextWrite(
-                    Context.of(
-                        RequestIdFilter.REQUEST_ID_KEY,
-                        "test-request-id"
-                    )
-                )
-        )
+        StepVerifier.create(filter.filter(exchange, chain))
             .expectComplete()
             .verify();
 
@@ -173,8 +172,166 @@ class RequestLoggingFilterTest {
         assertEquals(1, mdcSnapshots.size());
         assertEquals(
             "test-request-id",
-            mdcSnapshots.getFirst().get(RequestIdFilter.REQUEST_ID_KEY)
+            mdcSnapshots.getFirst().get(AccessLogFilter.REQUEST_ID_KEY)
+        );
+    }
+
+    @Test
+    void givenRequest_whenFiltered_thenRequestIdAddedToContext() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get(
+            "/employees"
+        ).build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when
+        Mono<Void> result = filter.filter(
+            exchange,
+            filterChainCapturingContext(exchange)
         );
+
+        // then
+        StepVerifier.create(result).expectComplete().verify();
+    }
+
+    @Test
+    void givenRequest_whenFiltered_thenRequestIdIsValidUuid() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get(
+            "/employees"
+        ).build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when / then
+        WebFilterChain chain = e ->
+            Mono.deferContextual(ctx -> {
+                String requestId = ctx.get(AccessLogFilter.REQUEST_ID_KEY);
+                assertDoesNotThrow(() -> UUID.fromString(requestId));
+                return Mono.empty();
+            });
+
+        StepVerifier.create(filter.filter(exchange, chain))
+            .expectComplete()
+            .verify();
+    }
+
+    @Test
+    void givenRequest_whenFiltered_thenContextContainsRequestIdKey() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get(
+            "/employees/123"
+        ).build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when / then
+        WebFilterChain chain = e ->
+            Mono.deferContextual(ctx -> {
+                assertNotNull(
+                    ctx.getOrDefault(AccessLogFilter.REQUEST_ID_KEY, null)
+                );
+                return Mono.empty();
+            });
+
+        StepVerifier.create(filter.filter(exchange, chain))
+            .expectComplete()
+            .verify();
+    }
+
+    @Test
+    void givenRequest_whenFiltered_thenResponseContainsRequestIdHeader() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get(
+            "/employees"
+        ).build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when
+        WebFilterChain chain = e -> Mono.empty();
+        StepVerifier.create(filter.filter(exchange, chain))
+            .expectComplete()
+            .verify();
+
+        // then
+        String header = exchange
+            .getResponse()
+            .getHeaders()
+            .getFirst(AccessLogFilter.REQUEST_ID_HEADER);
+        assertDoesNotThrow(() -> UUID.fromString(header));
+    }
+
+    @Test
+    void givenIncomingRequestId_whenFiltered_thenRequestIdIsKept() {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get("/employees")
+            .header(AccessLogFilter.REQUEST_ID_HEADER, "gateway-42.a_b")
+            .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when
+        WebFilterChain chain = e ->
+            Mono.deferContextual(ctx -> {
+                assertEquals(
+                    "gateway-42.a_b",
+                    ctx.get(AccessLogFilter.REQUEST_ID_KEY)
+                );
+                return Mono.empty();
+            });
+        StepVerifier.create(filter.filter(exchange, chain))
+            .expectComplete()
+            .verify();
+
+        // then
+        assertEquals(
+            "gateway-42.a_b",
+            exchange
+                .getResponse()
+                .getHeaders()
+                .getFirst(AccessLogFilter.REQUEST_ID_HEADER)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "abc\r\nforged: log", "id with spaces" })
+    void givenUnsafeIncomingRequestId_whenFiltered_thenNewRequestIdIsGenerated(
+        String incoming
+    ) {
+        // given
+        MockServerHttpRequest request = MockServerHttpRequest.get("/employees")
+            .header(AccessLogFilter.REQUEST_ID_HEADER, incoming)
+            .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // when
+        WebFilterChain chain = e -> Mono.empty();
+        StepVerifier.create(filter.filter(exchange, chain))
+            .expectComplete()
+            .verify();
+
+        // then
+        String header = exchange
+            .getResponse()
+            .getHeaders()
+            .getFirst(AccessLogFilter.REQUEST_ID_HEADER);
+        assertDoesNotThrow(() -> UUID.fromString(header));
+    }
+
+    @Test
+    void givenOverlongIncomingRequestId_whenValidated_thenIsRejected() {
+        String overlong = "a".repeat(AccessLogFilter.MAX_REQUEST_ID_LENGTH + 1);
+
+        assertFalse(AccessLogFilter.isValidRequestId(overlong));
+    }
+
+    private WebFilterChain filterChainCapturingContext(
+        MockServerWebExchange exchange
+    ) {
+        return e ->
+            Mono.deferContextual(ctx -> {
+                assertNotNull(
+                    ctx.getOrDefault(AccessLogFilter.REQUEST_ID_KEY, null)
+                );
+                return Mono.empty();
+            });
     }
 
     static class CapturingAppender extends AbstractAppender {
@@ -204,7 +204,7 @@ class ActuatorEndpointsIT {
     @Test
     void givenRequestIsHandled_whenResponseIsLogged_thenTraceIdIsPresent() {
         CapturingAppender appender = CapturingAppender.attach(
-            RequestLoggingFilter.class
+            AccessLogFilter.class
         );
 
         webTestClient.get().uri("/employees").exchange();
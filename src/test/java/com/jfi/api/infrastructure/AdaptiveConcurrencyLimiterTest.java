@@ -0,0 +1,176 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    static final long FAST = Duration.ofMillis(10).toNanos();
+    static final long SLOW = Duration.ofMillis(500).toNanos();
+    static final Duration BACKOFF_INTERVAL = Duration.ofSeconds(1);
+
+    AtomicLong now;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong();
+    }
+
+    @Test
+    void givenLimitReached_whenAcquiring_thenRejectsUntilOneIsReleased() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(false, 2);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+
+        // when
+        boolean admitted = limiter.tryAcquire();
+
+        // then
+        assertFalse(admitted);
+        limiter.onSuccess(FAST);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+    }
+
+    @Test
+    void givenAdaptive_whenResponseIsSlow_thenLimitBacksOff() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 20);
+        limiter.tryAcquire();
+
+        // when
+        limiter.onSuccess(SLOW);
+
+        // then
+        assertEquals(18, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void givenAdaptive_whenRequestFails_thenLimitBacksOff() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 20);
+        limiter.tryAcquire();
+
+        // when
+        limiter.onFailure();
+
+        // then
+        assertEquals(18, limiter.limit());
+    }
+
+    @Test
+    void givenAdaptive_whenManyResponsesAreSlow_thenLimitStopsAtMinimum() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 20);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(SLOW);
+            now.addAndGet(BACKOFF_INTERVAL.toNanos());
+        }
+
+        // then
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    void givenAdaptive_whenManyResponsesAreSlowWithinOneInterval_thenLimitBacksOffOnce() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 20);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(SLOW);
+            limiter.tryAcquire();
+            limiter.onFailure();
+        }
+
+        // then
+        assertEquals(18, limiter.limit());
+        now.addAndGet(BACKOFF_INTERVAL.toNanos());
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        assertEquals(16, limiter.limit());
+    }
+
+    @Test
+    void givenAdaptiveAndBusy_whenResponsesAreFast_thenLimitGrowsToMaximum() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 4);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int busy = limiter.limit();
+            for (int j = 0; j < busy; j++) {
+                limiter.tryAcquire();
+            }
+            for (int j = 0; j < busy; j++) {
+                limiter.onSuccess(FAST);
+            }
+        }
+
+        // then
+        assertEquals(40, limiter.limit());
+    }
+
+    @Test
+    void givenAdaptiveAndIdle_whenResponsesAreFast_thenLimitStays() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 20);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+        }
+
+        // then
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void givenNotAdaptive_whenResponsesAreSlow_thenLimitStays() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(false, 20);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        limiter.tryAcquire();
+        limiter.onFailure();
+
+        // then
+        assertEquals(20, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(
+        boolean adaptive,
+        int initialLimit
+    ) {
+        return new AdaptiveConcurrencyLimiter(
+            new AdmissionControlProperties.Concurrency(
+                List.of("/employees"),
+                adaptive,
+                initialLimit,
+                4,
+                40,
+                Duration.ofMillis(250),
+                0.9,
+                BACKOFF_INTERVAL
+            ),
+            now::get
+        );
+    }
+}
@@ -0,0 +1,280 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdmissionControlFilterTest {
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    AtomicLong now;
+    AtomicInteger handled;
+    SimpleMeterRegistry meterRegistry;
+    AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+        handled = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+        // 1 per second with a burst of 2; 1 in flight on /employees
+        AdmissionControlProperties properties = new AdmissionControlProperties(
+            true,
+            List.of("/employees/**"),
+            "X-API-Key",
+            new AdmissionControlProperties.RateLimit(true, 1, 2, 100),
+            new AdmissionControlProperties.Concurrency(
+                List.of("/employees"),
+                false,
+                1,
+                1,
+                1,
+                Duration.ofMillis(250),
+                0.9,
+                Duration.ofSeconds(1)
+            )
+        );
+        filter = new AdmissionControlFilter(
+            properties,
+            new ClientRateLimiter(properties.rateLimit(), now::get),
+            new AdaptiveConcurrencyLimiter(properties.concurrency()),
+            objectMapper,
+            meterRegistry
+        );
+    }
+
+    @Test
+    void givenClientSpentItsBurst_whenItAsksAgain_thenRejectsWithRetryAfter()
+        throws Exception {
+        // given
+        filter(exchange("/employees/1", "10.0.0.1", null));
+        filter(exchange("/employees/1", "10.0.0.1", null));
+
+        // when
+        MockServerWebExchange exchange = exchange(
+            "/employees/1",
+            "10.0.0.1",
+            null
+        );
+        filter(exchange);
+
+        // then
+        assertEquals(2, handled.get());
+        assertEquals(
+            HttpStatus.TOO_MANY_REQUESTS,
+            exchange.getResponse().getStatusCode()
+        );
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("1", headers.getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(
+            MediaType.APPLICATION_PROBLEM_JSON,
+            headers.getContentType()
+        );
+        JsonNode problem = objectMapper.readTree(
+            exchange.getResponse().getBodyAsString().block()
+        );
+        assertEquals(429, problem.get("status").asInt());
+        assertEquals(
+            AdmissionControlFilter.TOO_MANY_REQUESTS_TITLE,
+            problem.get("title").asText()
+        );
+        assertEquals(
+            AdmissionControlFilter.RATE_LIMITED_DETAIL,
+            problem.get("detail").asText()
+        );
+        assertEquals(1, rejected("rate_limit"));
+    }
+
+    @Test
+    void givenClientKeys_whenOneKeySpentItsBurst_thenAnotherKeyIsAdmitted() {
+        // given
+        filter(exchange("/employees/1", "10.0.0.1", "key-a"));
+        filter(exchange("/employees/1", "10.0.0.1", "key-a"));
+
+        // when
+        MockServerWebExchange exchange = exchange(
+            "/employees/1",
+            "10.0.0.1",
+            "key-b"
+        );
+        filter(exchange);
+
+        // then
+        assertEquals(3, handled.get());
+        assertEquals(0, rejected("rate_limit"));
+    }
+
+    @Test
+    void givenRateLimitOff_whenClientIsOverItsRate_thenAdmitted() {
+        // given
+        AdmissionControlProperties properties = new AdmissionControlProperties(
+            true,
+            List.of("/employees/**"),
+            null,
+            new AdmissionControlProperties.RateLimit(false, 1, 2, 100),
+            new AdmissionControlProperties.Concurrency(
+                List.of(),
+                false,
+                1,
+                1,
+                1,
+                Duration.ofMillis(250),
+                0.9,
+                Duration.ofSeconds(1)
+            )
+        );
+        filter = new AdmissionControlFilter(
+            properties,
+            new ClientRateLimiter(properties.rateLimit(), now::get),
+            new AdaptiveConcurrencyLimiter(properties.concurrency()),
+            objectMapper,
+            new SimpleMeterRegistry()
+        );
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            filter(exchange("/employees/1", "10.0.0.1", null));
+        }
+
+        // then
+        assertEquals(5, handled.get());
+    }
+
+    @Test
+    void givenPathOutsideAdmissionControl_whenHammered_thenAlwaysAdmitted() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            filter(exchange("/actuator/health", "10.0.0.1", null));
+        }
+
+        // then
+        assertEquals(5, handled.get());
+    }
+
+    @Test
+    void givenLimitedRouteInFlight_whenAnotherArrives_thenRejectsUntilItEnds() {
+        // given
+        Sinks.Empty<Void> first = Sinks.empty();
+        MockServerWebExchange inFlight = exchange(
+            "/employees",
+            "10.0.0.1",
+            null
+        );
+        StepVerifier.create(filter.filter(inFlight, e -> first.asMono()))
+            .expectSubscription()
+            .then(() -> {
+                // when
+                MockServerWebExchange second = exchange(
+                    "/employees",
+                    "10.0.0.2",
+                    null
+                );
+                filter(second);
+
+                // then
+                assertEquals(
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    second.getResponse().getStatusCode()
+                );
+                assertEquals(
+                    Long.toString(
+                        AdmissionControlFilter.OVERLOADED_RETRY_AFTER_SECONDS
+                    ),
+                    second
+                        .getResponse()
+                        .getHeaders()
+                        .getFirst(HttpHeaders.RETRY_AFTER)
+                );
+                assertEquals(1, rejected("concurrency"));
+            })
+            .then(first::tryEmitEmpty)
+            .verifyComplete();
+
+        // when
+        MockServerWebExchange third = exchange("/employees", "10.0.0.3", null);
+        filter(third);
+
+        // then
+        assertEquals(1, handled.get());
+        assertNull(third.getResponse().getStatusCode());
+        assertEquals(
+            0,
+            meterRegistry
+                .get(AdmissionControlFilter.IN_FLIGHT_METRIC)
+                .gauge()
+                .value()
+        );
+    }
+
+    @Test
+    void givenLimitedRouteFails_whenAnotherArrives_thenItsSlotWasReleased() {
+        // given
+        MockServerWebExchange failing = exchange(
+            "/employees",
+            "10.0.0.1",
+            null
+        );
+        StepVerifier.create(
+            filter.filter(failing, e -> Mono.error(new IllegalStateException()))
+        )
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        // when
+        filter(exchange("/employees", "10.0.0.2", null));
+
+        // then
+        assertEquals(1, handled.get());
+    }
+
+    private void filter(MockServerWebExchange exchange) {
+        WebFilterChain chain = e -> {
+            handled.incrementAndGet();
+            return Mono.empty();
+        };
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+            .get(AdmissionControlFilter.REJECTED_METRIC)
+            .tag("reason", reason)
+            .counter()
+            .count();
+    }
+
+    private static MockServerWebExchange exchange(
+        String path,
+        String address,
+        String apiKey
+    ) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest
+            .get(path)
+            .remoteAddress(new InetSocketAddress(address, 40000));
+        if (apiKey != null) {
+            request.header("X-API-Key", apiKey);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+}
@@ -0,0 +1,204 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControlGrpcInterceptorTest {
+
+    static final MethodDescriptor<String, String> ECHO =
+        MethodDescriptor.<String, String>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test.Echo/Echo")
+            .setRequestMarshaller(new StringMarshaller())
+            .setResponseMarshaller(new StringMarshaller())
+            .build();
+
+    // Calls left for the test to answer; "now" is answered right away
+    List<StreamObserver<String>> pending = new CopyOnWriteArrayList<>();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+    Server server;
+    ManagedChannel channel;
+
+    @AfterEach
+    void teardown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void givenUnaryCallInFlightAtTheLimit_whenAnotherArrives_thenFailsWithResourceExhausted()
+        throws IOException {
+        // given
+        start(false);
+        ClientCalls.futureUnaryCall(
+            channel.newCall(ECHO, CallOptions.DEFAULT),
+            "wait"
+        );
+
+        // when
+        StatusRuntimeException error = assertThrows(
+            StatusRuntimeException.class,
+            () -> echo("now")
+        );
+
+        // then
+        assertEquals(
+            Status.Code.RESOURCE_EXHAUSTED,
+            error.getStatus().getCode()
+        );
+        assertEquals(
+            "1000",
+            error
+                .getTrailers()
+                .get(AdmissionControlGrpcInterceptor.RETRY_PUSHBACK_KEY)
+        );
+        assertEquals(1, rejected("concurrency"));
+        pending.getFirst().onNext("done");
+        pending.getFirst().onCompleted();
+        assertEquals("now", echo("now"));
+    }
+
+    @Test
+    void givenRateLimitOn_whenClientSpentItsBurst_thenFailsWithResourceExhausted()
+        throws IOException {
+        // given
+        start(true);
+        echo("now");
+
+        // when
+        StatusRuntimeException error = assertThrows(
+            StatusRuntimeException.class,
+            () -> echo("now")
+        );
+
+        // then
+        assertEquals(
+            Status.Code.RESOURCE_EXHAUSTED,
+            error.getStatus().getCode()
+        );
+        assertEquals(
+            AdmissionControlFilter.RATE_LIMITED_DETAIL,
+            error.getStatus().getDescription()
+        );
+        assertEquals(1, rejected("rate_limit"));
+    }
+
+    // Direct executors on both ends make every call run to completion before
+    // the stub returns; one slot, and one token per second without burst
+    private void start(boolean rateLimited) throws IOException {
+        AdmissionControlProperties properties = new AdmissionControlProperties(
+            true,
+            List.of("/employees/**"),
+            null,
+            new AdmissionControlProperties.RateLimit(rateLimited, 1, 1, 100),
+            new AdmissionControlProperties.Concurrency(
+                List.of("/employees"),
+                false,
+                1,
+                1,
+                1,
+                Duration.ofMillis(250),
+                0.9,
+                Duration.ofSeconds(1)
+            )
+        );
+        AdmissionControlGrpcInterceptor interceptor =
+            new AdmissionControlGrpcInterceptor(
+                properties,
+                new ClientRateLimiter(properties.rateLimit(), now::get),
+                new AdaptiveConcurrencyLimiter(properties.concurrency()),
+                meterRegistry
+            );
+        ServerServiceDefinition echo = ServerServiceDefinition.builder(
+            "test.Echo"
+        )
+            .addMethod(
+                ECHO,
+                ServerCalls.asyncUnaryCall((request, observer) -> {
+                    if ("now".equals(request)) {
+                        observer.onNext(request);
+                        observer.onCompleted();
+                    } else {
+                        pending.add(observer);
+                    }
+                })
+            )
+            .build();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(echo, interceptor))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    private String echo(String request) {
+        return ClientCalls.blockingUnaryCall(
+            channel,
+            ECHO,
+            CallOptions.DEFAULT,
+            request
+        );
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+            .get(AdmissionControlFilter.REJECTED_METRIC)
+            .tag("reason", reason)
+            .tag("transport", "grpc")
+            .counter()
+            .count();
+    }
+
+    private static final class StringMarshaller
+        implements MethodDescriptor.Marshaller<String> {
+
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(
+                value.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            try {
+                return new String(
+                    stream.readAllBytes(),
+                    StandardCharsets.UTF_8
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
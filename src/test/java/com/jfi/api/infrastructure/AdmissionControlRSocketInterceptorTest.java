@@ -0,0 +1,107 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.util.DefaultPayload;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdmissionControlRSocketInterceptorTest {
+
+    SimpleMeterRegistry meterRegistry;
+    AdaptiveConcurrencyLimiter concurrencyLimiter;
+    Sinks.One<Payload> answer;
+    RSocket rsocket;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One slot
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+            new AdmissionControlProperties.Concurrency(
+                List.of("/employees"),
+                false,
+                1,
+                1,
+                1,
+                Duration.ofMillis(250),
+                0.9,
+                Duration.ofSeconds(1)
+            )
+        );
+        answer = Sinks.one();
+        RSocket handler = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                payload.release();
+                return answer.asMono();
+            }
+
+            @Override
+            public Flux<Payload> requestStream(Payload payload) {
+                payload.release();
+                return Flux.just(DefaultPayload.create("employee"));
+            }
+        };
+        rsocket = new AdmissionControlRSocketInterceptor(
+            concurrencyLimiter,
+            meterRegistry
+        ).apply(handler);
+    }
+
+    @Test
+    void givenRequestInFlightAtTheLimit_whenAnotherArrives_thenRejectsUntilItEnds() {
+        // given
+        StepVerifier.create(rsocket.requestResponse(DefaultPayload.create("a")))
+            .then(() -> {
+                // when / then
+                StepVerifier.create(
+                    rsocket.requestResponse(DefaultPayload.create("b"))
+                )
+                    .expectError(RejectedException.class)
+                    .verify();
+                answer.tryEmitValue(DefaultPayload.create("done"));
+            })
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // then
+        assertEquals(0, concurrencyLimiter.inFlight());
+        assertEquals(
+            1,
+            meterRegistry
+                .get(AdmissionControlFilter.REJECTED_METRIC)
+                .tag("reason", "concurrency")
+                .tag("transport", "rsocket")
+                .counter()
+                .count()
+        );
+    }
+
+    @Test
+    void givenRequestInFlightAtTheLimit_whenStreamIsRequested_thenItIsNotLimited() {
+        // given
+        StepVerifier.create(rsocket.requestResponse(DefaultPayload.create("a")))
+            .then(() ->
+                // when / then
+                StepVerifier.create(
+                    rsocket.requestStream(DefaultPayload.create("b"))
+                )
+                    .expectNextCount(1)
+                    .verifyComplete()
+            )
+            .thenCancel()
+            .verify();
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+}
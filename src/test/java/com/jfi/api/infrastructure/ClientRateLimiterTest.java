@@ -0,0 +1,85 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClientRateLimiterTest {
+
+    static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    AtomicLong now;
+    ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+        // 10 per second, 3 at once
+        limiter = new ClientRateLimiter(
+            new AdmissionControlProperties.RateLimit(true, 10, 3, 100),
+            now::get
+        );
+    }
+
+    @Test
+    void givenFullBucket_whenBurstIsSpent_thenNextWaitsOneInterval() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a"));
+        }
+
+        // when
+        long wait = limiter.tryAcquire("a");
+
+        // then
+        assertEquals(INTERVAL, wait);
+    }
+
+    @Test
+    void givenEmptyBucket_whenOneIntervalPasses_thenOneMoreIsAdmitted() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        // when
+        now.addAndGet(INTERVAL);
+
+        // then
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(INTERVAL, limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void givenOneClientSpentItsBurst_whenAnotherAsks_thenItIsAdmitted() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        // when
+        long wait = limiter.tryAcquire("b");
+
+        // then
+        assertEquals(0, wait);
+    }
+
+    @Test
+    void givenRejectedRequests_whenClientKeepsAsking_thenWaitDoesNotGrow() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        // then
+        assertEquals(INTERVAL, limiter.tryAcquire("a"));
+    }
+}
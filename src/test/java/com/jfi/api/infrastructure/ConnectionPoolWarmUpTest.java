@@ -0,0 +1,70 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+class ConnectionPoolWarmUpTest {
+
+    FakeConnectionFactory connectionFactory;
+    ConnectionPool pool;
+    ConnectionPoolWarmUp warmUp;
+
+    @BeforeEach
+    void setup() {
+        connectionFactory = new FakeConnectionFactory();
+        pool = new ConnectionPool(
+            ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(3)
+                .maxSize(5)
+                .acquireRetry(0)
+                .build()
+        );
+        warmUp = new ConnectionPoolWarmUp(
+            new ReadReplicaConnectionFactory(
+                pool,
+                List.of(),
+                new ReadReplicaProperties(
+                    List.of(),
+                    ReadReplicaProperties.Balancing.ROUND_ROBIN,
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(1)
+                ),
+                Clock.systemUTC()
+            )
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.dispose();
+    }
+
+    @Test
+    void givenApplicationStarts_whenPoolIsWarmedUp_thenOpensTheInitialConnections() {
+        // when
+        warmUp.run(new DefaultApplicationArguments());
+
+        // then
+        assertEquals(3, connectionFactory.created());
+        assertEquals(3, pool.getMetrics().orElseThrow().idleSize());
+    }
+
+    @Test
+    void givenDatabaseIsDown_whenPoolIsWarmedUp_thenApplicationStillStarts() {
+        // given
+        connectionFactory.setAvailable(false);
+
+        // when / then
+        assertDoesNotThrow(() -> warmUp.run(new DefaultApplicationArguments()));
+    }
+}
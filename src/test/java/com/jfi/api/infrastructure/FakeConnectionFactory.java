@@ -0,0 +1,60 @@
+package com.jfi.api.infrastructure;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+public class FakeConnectionFactory implements ConnectionFactory {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private volatile boolean available = true;
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public int created() {
+        return created.get();
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            if (!available) {
+                return Mono.error(new IllegalStateException("database down"));
+            }
+            created.incrementAndGet();
+            return Mono.just(connection());
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return () -> "fake";
+    }
+
+    // Only validate and close matter to the pool: every other publisher completes
+    // empty and every other call is a no-op.
+    private static Connection connection() {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("validate")) {
+                    return Mono.just(true);
+                }
+                if (Publisher.class.isAssignableFrom(method.getReturnType())) {
+                    return Mono.empty();
+                }
+                if (method.getReturnType() == boolean.class) {
+                    return true;
+                }
+                return null;
+            }
+        );
+    }
+}
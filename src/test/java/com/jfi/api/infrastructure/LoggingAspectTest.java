@@ -2,12 +2,19 @@ package com.jfi.api.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.jfi.api.employee.adapter.out.persistence.EmployeeCacheProperties;
+import com.jfi.api.employee.adapter.out.persistence.EmployeeExportProperties;
+import com.jfi.api.employee.adapter.out.persistence.EmployeePersistenceAdapter;
 import com.jfi.api.employee.domain.EmployeeNotFoundException;
+import com.jfi.api.infrastructure.LoggingAspectProperties.Layer;
+import com.jfi.api.infrastructure.LoggingAspectProperties.Mode;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -20,6 +27,9 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.ReflectiveAspectJAdvisorFactory;
+import org.springframework.aop.aspectj.annotation.SingletonMetadataAwareAspectInstanceFactory;
+import org.springframework.aop.support.AopUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -31,7 +41,92 @@ class LoggingAspectTest {
 
     @BeforeEach
     void setup() {
-        loggingAspect = new LoggingAspect();
+        loggingAspect = new LoggingAspect(
+            properties(new Layer(Mode.FULL, 0.0))
+        );
+    }
+
+    @Test
+    void givenLayerIsOff_whenIntercepted_thenReturnsPublisherUntouched()
+        throws Throwable {
+        // given
+        loggingAspect = new LoggingAspect(
+            properties(new Layer(Mode.OFF, 0.0))
+        );
+        Mono<String> employee = Mono.just("employee");
+        ProceedingJoinPoint joinPoint = new FakeJoinPoint(
+            "getEmployeeById",
+            "EmployeeRESTController",
+            new Object[] { UUID.randomUUID() },
+            employee
+        );
+
+        // when
+        Object result = loggingAspect.logRestLayer(joinPoint);
+
+        // then
+        assertSame(employee, result);
+    }
+
+    @Test
+    void givenSampleRateIsZero_whenIntercepted_thenReturnsPublisherUntouched()
+        throws Throwable {
+        // given
+        loggingAspect = new LoggingAspect(
+            properties(new Layer(Mode.SAMPLED, 0.0))
+        );
+        Flux<String> employees = Flux.just("a", "b");
+        ProceedingJoinPoint joinPoint = new FakeJoinPoint(
+            "getEmployees",
+            "EmployeePersistenceAdapter",
+            new Object[] {},
+            employees
+        );
+
+        // when
+        Object result = loggingAspect.logPersistenceLayer(joinPoint);
+
+        // then
+        assertSame(employees, result);
+    }
+
+    @Test
+    void givenDebugIsDisabled_whenIntercepted_thenArgsAreNotFormatted()
+        throws Throwable {
+        // given
+        CapturingAppender appender = CapturingAppender.attach(Level.INFO);
+        AtomicInteger formatted = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "arg";
+            }
+        };
+        ProceedingJoinPoint joinPoint = new FakeJoinPoint(
+            "getEmployeeById",
+            "EmployeeServiceImpl",
+            new Object[] { arg },
+            Mono.just("employee")
+        );
+
+        // when
+        @SuppressWarnings("unchecked")
+        Mono<String> mono = (Mono<String>) loggingAspect.logUseCaseLayer(
+            joinPoint
+        );
+        StepVerifier.create(mono).expectNext("employee").verifyComplete();
+
+        // then
+        appender.detach();
+        assertEquals(0, formatted.get());
+    }
+
+    @Test
+    void givenConfigurationPropertiesRecord_whenAspectIsApplied_thenRecordIsNotAdvised() {
+        assertThat(isAdvised(EmployeeExportProperties.class)).isFalse();
+        assertThat(isAdvised(EmployeeCacheProperties.class)).isFalse();
+        assertThat(isAdvised(EmployeePersistenceAdapter.class)).isTrue();
     }
 
     @Test
@@ -46,14 +141,14 @@ class LoggingAspectTest {
         );
 
         // when
-        Object result = loggingAspect.logAround(joinPoint);
+        Object result = loggingAspect.logRestLayer(joinPoint);
 
         // then
         @SuppressWarnings("unchecked")
         Flux<String> flux = (Flux<String>) result;
         StepVerifier.create(
             flux.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectNext("a", "b", "c")
@@ -73,14 +168,14 @@ class LoggingAspectTest {
         );
 
         // when
-        Object result = loggingAspect.logAround(joinPoint);
+        Object result = loggingAspect.logRestLayer(joinPoint);
 
         // then
         @SuppressWarnings("unchecked")
         Mono<String> mono = (Mono<String>) result;
         StepVerifier.create(
             mono.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectNext("employee")
@@ -99,14 +194,14 @@ class LoggingAspectTest {
         );
 
         // when
-        Object result = loggingAspect.logAround(joinPoint);
+        Object result = loggingAspect.logRestLayer(joinPoint);
 
         // then
         @SuppressWarnings("unchecked")
         Mono<String> mono = (Mono<String>) result;
         StepVerifier.create(
             mono.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectErrorMatches(e -> e.getMessage().equals("not found"))
@@ -125,7 +220,7 @@ class LoggingAspectTest {
         );
 
         // when
-        Object result = loggingAspect.logAround(joinPoint);
+        Object result = loggingAspect.logUseCaseLayer(joinPoint);
 
         // then
         assertEquals("plain result", result);
@@ -144,10 +239,12 @@ class LoggingAspectTest {
 
         // when
         @SuppressWarnings("unchecked")
-        Mono<String> mono = (Mono<String>) loggingAspect.logAround(joinPoint);
+        Mono<String> mono = (Mono<String>) loggingAspect.logUseCaseLayer(
+            joinPoint
+        );
         StepVerifier.create(
             mono.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectNext("created")
@@ -175,10 +272,12 @@ class LoggingAspectTest {
 
         // when
         @SuppressWarnings("unchecked")
-        Flux<String> flux = (Flux<String>) loggingAspect.logAround(joinPoint);
+        Flux<String> flux = (Flux<String>) loggingAspect.logRestLayer(
+            joinPoint
+        );
         StepVerifier.create(
             flux.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectNext("a", "b")
@@ -206,7 +305,7 @@ class LoggingAspectTest {
         );
 
         // when
-        loggingAspect.logAround(joinPoint);
+        loggingAspect.logUseCaseLayer(joinPoint);
 
         // then
         Predicate<LogEvent> executed = e ->
@@ -232,10 +331,12 @@ class LoggingAspectTest {
 
         // when
         @SuppressWarnings("unchecked")
-        Mono<Void> mono = (Mono<Void>) loggingAspect.logAround(joinPoint);
+        Mono<Void> mono = (Mono<Void>) loggingAspect.logUseCaseLayer(
+            joinPoint
+        );
         StepVerifier.create(
             mono.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectError(EmployeeNotFoundException.class)
@@ -264,10 +365,12 @@ class LoggingAspectTest {
 
         // when
         @SuppressWarnings("unchecked")
-        Mono<Void> mono = (Mono<Void>) loggingAspect.logAround(joinPoint);
+        Mono<Void> mono = (Mono<Void>) loggingAspect.logPersistenceLayer(
+            joinPoint
+        );
         StepVerifier.create(
             mono.contextWrite(
-                Context.of(RequestIdFilter.REQUEST_ID_KEY, "test-id")
+                Context.of(AccessLogFilter.REQUEST_ID_KEY, "test-id")
             )
         )
             .expectError(RuntimeException.class)
@@ -282,6 +385,10 @@ class LoggingAspectTest {
         assertThat(appender.getEvents()).anyMatch(failed);
     }
 
+    private static LoggingAspectProperties properties(Layer layer) {
+        return new LoggingAspectProperties(layer, layer, layer);
+    }
+
     static class CapturingAppender extends AbstractAppender {
 
         private final List<LogEvent> events = new ArrayList<>();
@@ -292,12 +399,16 @@ class LoggingAspectTest {
         }
 
         static CapturingAppender attach() {
+            return attach(Level.DEBUG);
+        }
+
+        static CapturingAppender attach(Level level) {
             CapturingAppender appender = new CapturingAppender();
             appender.start();
             Logger logger = (Logger) LogManager.getLogger(LoggingAspect.class);
             appender.loggerConfig = logger.get();
-            appender.loggerConfig.setLevel(Level.DEBUG);
-            appender.loggerConfig.addAppender(appender, Level.DEBUG, null);
+            appender.loggerConfig.setLevel(level);
+            appender.loggerConfig.addAppender(appender, level, null);
             logger.getContext().updateLoggers();
             return appender;
         }
@@ -327,6 +438,18 @@ class LoggingAspectTest {
         }
     }
 
+    private boolean isAdvised(Class<?> type) {
+        return new ReflectiveAspectJAdvisorFactory()
+            .getAdvisors(
+                new SingletonMetadataAwareAspectInstanceFactory(
+                    loggingAspect,
+                    "loggingAspect"
+                )
+            )
+            .stream()
+            .anyMatch(advisor -> AopUtils.canApply(advisor, type));
+    }
+
     static class FakeJoinPoint implements ProceedingJoinPoint {
 
         private final String methodName;
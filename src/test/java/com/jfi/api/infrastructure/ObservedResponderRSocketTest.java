@@ -0,0 +1,156 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.CompositeMetadataCodec;
+import io.rsocket.metadata.TaggingMetadataCodec;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.DefaultPayload;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ObservedResponderRSocketTest {
+
+    SimpleMeterRegistry meterRegistry;
+    ObservedResponderRSocket rsocket;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry
+            .observationConfig()
+            .observationHandler(
+                new DefaultMeterObservationHandler(meterRegistry)
+            );
+        RSocket handler = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                String data = payload.getDataUtf8();
+                payload.release();
+                return data.isEmpty()
+                    ? Mono.error(new IllegalArgumentException("Empty"))
+                    : Mono.just(DefaultPayload.create(data));
+            }
+
+            @Override
+            public Flux<Payload> requestStream(Payload payload) {
+                payload.release();
+                return Flux.range(1, 100).map(i ->
+                    DefaultPayload.create(String.valueOf(i))
+                );
+            }
+        };
+        rsocket = new ObservedResponderRSocket(
+            handler,
+            Set.of("employees.get", "employees.stream")::contains,
+            observationRegistry
+        );
+    }
+
+    @Test
+    void givenKnownRoute_whenRequestIsAnswered_thenTimesItByRoute() {
+        // when
+        StepVerifier.create(
+            rsocket.requestResponse(payload("employees.get", "hello"))
+        )
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // then
+        assertEquals(1, timer("employees.get", "request_response").count());
+    }
+
+    @Test
+    void givenUnknownRoute_whenRequestIsAnswered_thenTagsItUnknown() {
+        // when
+        StepVerifier.create(
+            rsocket.requestResponse(payload("employees.1234", "hello"))
+        )
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // then
+        assertEquals(
+            1,
+            timer(ObservedResponderRSocket.UNKNOWN_ROUTE, "request_response")
+                .count()
+        );
+    }
+
+    @Test
+    void givenFailingHandler_whenRequestFails_thenTimesItWithTheError() {
+        // when
+        StepVerifier.create(rsocket.requestResponse(payload("employees.get", "")))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        // then
+        assertEquals(
+            1,
+            meterRegistry
+                .get(ObservedResponderRSocket.OBSERVATION_NAME)
+                .tag(ObservedResponderRSocket.ROUTE_KEY, "employees.get")
+                .tag("error", "IllegalArgumentException")
+                .timer()
+                .count()
+        );
+    }
+
+    @Test
+    void givenRequesterCancels_whenStreaming_thenTimesTheStream() {
+        // when
+        StepVerifier.create(
+            rsocket.requestStream(payload("employees.stream", "")),
+            1
+        )
+            .expectNextCount(1)
+            .thenCancel()
+            .verify();
+
+        // then
+        assertEquals(1, timer("employees.stream", "request_stream").count());
+    }
+
+    private Timer timer(String route, String interaction) {
+        return meterRegistry
+            .get(ObservedResponderRSocket.OBSERVATION_NAME)
+            .tag(ObservedResponderRSocket.ROUTE_KEY, route)
+            .tag(ObservedResponderRSocket.INTERACTION_KEY, interaction)
+            .timer();
+    }
+
+    // Routing metadata as RSocketRequester sends it
+    private static Payload payload(String route, String data) {
+        ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+        CompositeByteBuf metadata = allocator.compositeBuffer();
+        CompositeMetadataCodec.encodeAndAddMetadata(
+            metadata,
+            allocator,
+            WellKnownMimeType.MESSAGE_RSOCKET_ROUTING,
+            TaggingMetadataCodec.createRoutingMetadata(
+                allocator,
+                List.of(route)
+            ).getContent()
+        );
+        return DefaultPayload.create(
+            Unpooled.copiedBuffer(data, StandardCharsets.UTF_8),
+            metadata
+        );
+    }
+}
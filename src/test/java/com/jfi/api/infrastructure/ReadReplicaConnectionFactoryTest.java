@@ -0,0 +1,368 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class ReadReplicaConnectionFactoryTest {
+
+    FakeConnectionFactory primaryDatabase;
+    FakeConnectionFactory firstReplicaDatabase;
+    FakeConnectionFactory secondReplicaDatabase;
+    ConnectionPool primary;
+    ConnectionPool firstReplica;
+    ConnectionPool secondReplica;
+    MutableClock clock;
+
+    @BeforeEach
+    void setup() {
+        primaryDatabase = new FakeConnectionFactory();
+        firstReplicaDatabase = new FakeConnectionFactory();
+        secondReplicaDatabase = new FakeConnectionFactory();
+        primary = pool(primaryDatabase);
+        firstReplica = pool(firstReplicaDatabase);
+        secondReplica = pool(secondReplicaDatabase);
+        clock = new MutableClock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.dispose();
+        firstReplica.dispose();
+        secondReplica.dispose();
+    }
+
+    @Test
+    void givenUnmarkedWork_whenConnectionIsCreated_thenPrimaryIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+
+        // when
+        StepVerifier.create(connectionFactory.create())
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(0, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenReadOnlyWork_whenConnectionsAreCreated_thenReplicasTakeTurns() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+
+        // when
+        read(connectionFactory);
+        read(connectionFactory);
+        read(connectionFactory);
+
+        // then
+        assertEquals(0, primaryDatabase.created());
+        assertEquals(2, firstReplicaDatabase.created());
+        assertEquals(1, secondReplicaDatabase.created());
+    }
+
+    @Test
+    void givenLeastPendingBalancing_whenOneReplicaIsBusy_thenTheOtherIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.LEAST_PENDING,
+            Duration.ZERO
+        );
+        firstReplica.create().block();
+
+        // when
+        read(connectionFactory);
+
+        // then
+        assertEquals(1, firstReplicaDatabase.created());
+        assertEquals(1, secondReplicaDatabase.created());
+    }
+
+    @Test
+    void givenReplicaIsDown_whenReadIsMade_thenPrimaryServesItUntilEjectionEnds() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = new ReadReplicaConnectionFactory(
+            primary,
+            List.of(firstReplica),
+            properties(ReadReplicaProperties.Balancing.ROUND_ROBIN, Duration.ZERO),
+            clock
+        );
+        firstReplicaDatabase.setAvailable(false);
+
+        // when
+        read(connectionFactory);
+        firstReplicaDatabase.setAvailable(true);
+        read(connectionFactory);
+        clock.advance(Duration.ofSeconds(30));
+        read(connectionFactory);
+
+        // then
+        assertEquals(2, primaryDatabase.created());
+        assertEquals(1, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenAnotherRequestHasWritten_whenReadIsMade_thenReplicaIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ofSeconds(1)
+        );
+        connectionFactory.create().contextWrite(request()).block();
+
+        // when
+        read(connectionFactory, request());
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(1, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenRequestStartsOnPrimary_whenItReads_thenPrimaryIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+        Context request = Context.of(
+            ReadReplicaConnectionFactory.REQUEST_ROUTING_KEY,
+            new ReadReplicaConnectionFactory.RequestRouting(true)
+        );
+
+        // when
+        read(connectionFactory, request);
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(0, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenPrimaryOnlyWork_whenReadIsMadeRightAfter_thenReplicaIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ofSeconds(1)
+        );
+        ReadReplicaConnectionFactory.onPrimary(
+            connectionFactory.create()
+        ).block();
+
+        // when
+        read(connectionFactory);
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(1, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenRequestHasWritten_whenItReads_thenPrimaryIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+        ReadReplicaConnectionFactory.RequestRouting routing =
+            new ReadReplicaConnectionFactory.RequestRouting();
+        Context request = Context.of(
+            ReadReplicaConnectionFactory.REQUEST_ROUTING_KEY,
+            routing
+        );
+        connectionFactory.create().contextWrite(request).block();
+
+        // when
+        read(connectionFactory, request);
+
+        // then
+        assertTrue(routing.wrote());
+        assertEquals(2, primaryDatabase.created());
+        assertEquals(0, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenRequestHasReadFromReplica_whenItReadsAgain_thenSameReplicaIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+        Context request = request();
+        read(connectionFactory, request);
+
+        // when
+        read(connectionFactory, request);
+
+        // then
+        assertEquals(2, firstReplicaDatabase.created());
+        assertEquals(0, secondReplicaDatabase.created());
+    }
+
+    @Test
+    void givenRequestPinnedToReplica_whenReadRunsInItsRoute_thenSameReplicaIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+        Context request = request();
+        read(connectionFactory, request);
+
+        // when
+        read(
+            connectionFactory,
+            ReadReplicaConnectionFactory.readRoute(request).context()
+        );
+
+        // then
+        assertEquals(2, firstReplicaDatabase.created());
+        assertEquals(0, secondReplicaDatabase.created());
+    }
+
+    @Test
+    void givenRequestOnPrimary_whenReadRunsInItsRoute_thenPrimaryIsUsed() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+        Context request = Context.of(
+            ReadReplicaConnectionFactory.REQUEST_ROUTING_KEY,
+            new ReadReplicaConnectionFactory.RequestRouting(true)
+        );
+
+        // when
+        read(
+            connectionFactory,
+            ReadReplicaConnectionFactory.readRoute(request).context()
+        );
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(0, firstReplicaDatabase.created());
+    }
+
+    @Test
+    void givenReplicas_whenPoolsAreWarmedUp_thenEveryPoolOpensItsConnections() {
+        // given
+        ReadReplicaConnectionFactory connectionFactory = router(
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ZERO
+        );
+
+        // when
+        StepVerifier.create(connectionFactory.warmup())
+            .expectNext(3)
+            .verifyComplete();
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(1, firstReplicaDatabase.created());
+        assertEquals(1, secondReplicaDatabase.created());
+    }
+
+    private ReadReplicaConnectionFactory router(
+        ReadReplicaProperties.Balancing balancing,
+        Duration readYourWritesWindow
+    ) {
+        return new ReadReplicaConnectionFactory(
+            primary,
+            List.of(firstReplica, secondReplica),
+            properties(balancing, readYourWritesWindow),
+            clock
+        );
+    }
+
+    private static ReadReplicaProperties properties(
+        ReadReplicaProperties.Balancing balancing,
+        Duration readYourWritesWindow
+    ) {
+        return new ReadReplicaProperties(
+            List.of(),
+            balancing,
+            Duration.ofSeconds(30),
+            readYourWritesWindow
+        );
+    }
+
+    private static Context request() {
+        return Context.of(
+            ReadReplicaConnectionFactory.REQUEST_ROUTING_KEY,
+            new ReadReplicaConnectionFactory.RequestRouting()
+        );
+    }
+
+    private static void read(ReadReplicaConnectionFactory connectionFactory) {
+        read(connectionFactory, Context.empty());
+    }
+
+    private static void read(
+        ReadReplicaConnectionFactory connectionFactory,
+        Context request
+    ) {
+        Mono<Connection> read = ReadReplicaConnectionFactory.readOnly(
+            connectionFactory.create()
+        );
+        StepVerifier.create(read.contextWrite(request))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    private static ConnectionPool pool(FakeConnectionFactory database) {
+        return new ConnectionPool(
+            ConnectionPoolConfiguration.builder(database)
+                .initialSize(1)
+                .maxSize(5)
+                .acquireRetry(0)
+                .build()
+        );
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-10-18T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
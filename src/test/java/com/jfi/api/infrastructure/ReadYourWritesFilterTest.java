@@ -0,0 +1,203 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.test.StepVerifier;
+
+class ReadYourWritesFilterTest {
+
+    static final Instant NOW = Instant.parse("2026-10-18T09:00:00Z");
+    static final Duration WINDOW = Duration.ofSeconds(1);
+
+    FakeConnectionFactory primaryDatabase;
+    FakeConnectionFactory replicaDatabase;
+    ConnectionPool primary;
+    ConnectionPool replica;
+    ReadReplicaConnectionFactory connectionFactory;
+    ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setup() {
+        primaryDatabase = new FakeConnectionFactory();
+        replicaDatabase = new FakeConnectionFactory();
+        primary = pool(primaryDatabase);
+        replica = pool(replicaDatabase);
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        ReadReplicaProperties properties = properties(List.of("replica"));
+        connectionFactory = new ReadReplicaConnectionFactory(
+            primary,
+            List.of(replica),
+            properties,
+            clock
+        );
+        filter = new ReadYourWritesFilter(properties, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.dispose();
+        replica.dispose();
+    }
+
+    @Test
+    void givenRequestWrites_whenResponseIsCommitted_thenSetsWindowCookie() {
+        // given
+        MockServerWebExchange exchange = exchange(null);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, writes())).verifyComplete();
+
+        // then
+        ResponseCookie cookie = exchange
+            .getResponse()
+            .getCookies()
+            .getFirst(ReadYourWritesFilter.COOKIE_NAME);
+        assertEquals(
+            Long.toString(NOW.plus(WINDOW).toEpochMilli()),
+            cookie.getValue()
+        );
+        assertEquals(WINDOW, cookie.getMaxAge());
+    }
+
+    @Test
+    void givenRequestOnlyReads_whenResponseIsCommitted_thenSetsNoCookie() {
+        // given
+        MockServerWebExchange exchange = exchange(null);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, reads())).verifyComplete();
+
+        // then
+        assertNull(
+            exchange
+                .getResponse()
+                .getCookies()
+                .getFirst(ReadYourWritesFilter.COOKIE_NAME)
+        );
+        assertEquals(1, replicaDatabase.created());
+    }
+
+    @Test
+    void givenCookieInsideWindow_whenRequestReads_thenPrimaryServesIt() {
+        // given
+        MockServerWebExchange exchange = exchange(NOW.plusMillis(500));
+
+        // when
+        StepVerifier.create(filter.filter(exchange, reads())).verifyComplete();
+
+        // then
+        assertEquals(1, primaryDatabase.created());
+        assertEquals(0, replicaDatabase.created());
+    }
+
+    @Test
+    void givenExpiredCookie_whenRequestReads_thenReplicaServesIt() {
+        // given
+        MockServerWebExchange exchange = exchange(NOW);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, reads())).verifyComplete();
+
+        // then
+        assertEquals(0, primaryDatabase.created());
+        assertEquals(1, replicaDatabase.created());
+    }
+
+    @Test
+    void givenCookieBeyondOneWindow_whenRequestReads_thenReplicaServesIt() {
+        // given
+        MockServerWebExchange exchange = exchange(NOW.plus(Duration.ofDays(1)));
+
+        // when
+        StepVerifier.create(filter.filter(exchange, reads())).verifyComplete();
+
+        // then
+        assertEquals(0, primaryDatabase.created());
+        assertEquals(1, replicaDatabase.created());
+    }
+
+    @Test
+    void givenNoReplicas_whenRequestWrites_thenSetsNoCookie() {
+        // given
+        filter = new ReadYourWritesFilter(
+            properties(List.of()),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        MockServerWebExchange exchange = exchange(null);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, writes())).verifyComplete();
+
+        // then
+        assertNull(
+            exchange
+                .getResponse()
+                .getCookies()
+                .getFirst(ReadYourWritesFilter.COOKIE_NAME)
+        );
+    }
+
+    private WebFilterChain writes() {
+        return exchange ->
+            connectionFactory
+                .create()
+                .then(exchange.getResponse().setComplete());
+    }
+
+    private WebFilterChain reads() {
+        return exchange ->
+            ReadReplicaConnectionFactory.readOnly(connectionFactory.create()).then(
+                exchange.getResponse().setComplete()
+            );
+    }
+
+    private static MockServerWebExchange exchange(Instant windowEnd) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(
+            "/employees"
+        );
+        if (windowEnd != null) {
+            request.cookie(
+                new HttpCookie(
+                    ReadYourWritesFilter.COOKIE_NAME,
+                    Long.toString(windowEnd.toEpochMilli())
+                )
+            );
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+
+    private static ReadReplicaProperties properties(List<String> urls) {
+        return new ReadReplicaProperties(
+            urls,
+            ReadReplicaProperties.Balancing.ROUND_ROBIN,
+            Duration.ofSeconds(30),
+            WINDOW
+        );
+    }
+
+    private static ConnectionPool pool(FakeConnectionFactory database) {
+        return new ConnectionPool(
+            ConnectionPoolConfiguration.builder(database)
+                .initialSize(0)
+                .maxSize(5)
+                .acquireRetry(0)
+                .build()
+        );
+    }
+}
@@ -0,0 +1,315 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.luben.zstd.ZstdInputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class ResponseCompressorTest {
+
+    static final String LINE =
+        "{\"firstName\":\"Juan\",\"lastName\":\"dela Cruz\",\"employeeType\":\"WORKER\"}\n";
+
+    SimpleMeterRegistry meterRegistry;
+    EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        channel = new EmbeddedChannel(
+            new ResponseCompressor(
+                new ResponseCompressionProperties(
+                    true,
+                    DataSize.ofBytes(256),
+                    List.of("application/json", "application/x-ndjson"),
+                    6,
+                    3
+                ),
+                new ResponseCompressor.Metrics(meterRegistry)
+            )
+        );
+    }
+
+    @Test
+    void givenClientAcceptsGzip_whenBodyIsStreamed_thenEveryChunkIsCompressed()
+        throws IOException {
+        // given
+        request("gzip");
+
+        // when
+        channel.writeOutbound(response("application/x-ndjson"));
+        channel.writeOutbound(Unpooled.copiedBuffer(LINE.repeat(50), StandardCharsets.UTF_8));
+        byte[] firstChunk = body();
+        channel.writeOutbound(Unpooled.copiedBuffer(LINE.repeat(50), StandardCharsets.UTF_8));
+        channel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT);
+        byte[] rest = body();
+
+        // then
+        assertTrue(firstChunk.length > 0);
+        assertEquals(
+            LINE.repeat(100),
+            decompress(new GZIPInputStream(concat(firstChunk, rest)))
+        );
+    }
+
+    @Test
+    void givenChunksWrittenBetweenFlushes_whenFlushed_thenTheyAreEncodedTogether()
+        throws IOException {
+        // given
+        request("gzip");
+        channel.writeOutbound(response("application/x-ndjson"));
+        for (int i = 0; i < 50; i++) {
+            channel.writeOutbound(Unpooled.copiedBuffer(LINE, StandardCharsets.UTF_8));
+        }
+        int flushedPerChunk = body().length;
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            channel.write(Unpooled.copiedBuffer(LINE, StandardCharsets.UTF_8));
+        }
+        channel.flush();
+        int flushedOnce = body().length;
+
+        // then
+        assertTrue(flushedOnce * 4 < flushedPerChunk);
+    }
+
+    @Test
+    void givenClientPrefersZstd_whenBodyIsWritten_thenCompressesWithZstd()
+        throws IOException {
+        // given
+        request("gzip;q=0.5, zstd");
+
+        // when
+        HttpResponse response = response("application/json");
+        channel.writeOutbound(response);
+        channel.writeOutbound(Unpooled.copiedBuffer(LINE.repeat(50), StandardCharsets.UTF_8));
+        channel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT);
+
+        // then
+        assertEquals("zstd", response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+        assertEquals(
+            LINE.repeat(50),
+            decompress(new ZstdInputStream(new ByteArrayInputStream(body())))
+        );
+    }
+
+    @Test
+    void givenContentTypeIsNotListed_whenBodyIsWritten_thenLeavesItUncompressed() {
+        // given
+        request("gzip");
+
+        // when
+        HttpResponse response = response("text/html");
+        channel.writeOutbound(response);
+
+        // then
+        assertNull(response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+    }
+
+    @Test
+    void givenDeclaredLengthBelowThreshold_whenBodyIsWritten_thenLeavesItUncompressed() {
+        // given
+        request("gzip");
+
+        // when
+        HttpResponse response = response("application/json");
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 100);
+        channel.writeOutbound(response);
+
+        // then
+        assertNull(response.headers().get(HttpHeaderNames.CONTENT_ENCODING));
+    }
+
+    @Test
+    void givenCompressedResponse_whenHeadersAreWritten_thenVariesAndTagsTheCoding() {
+        // given
+        request("gzip");
+        HttpResponse response = response("application/json");
+        response.headers().set(HttpHeaderNames.ETAG, "\"42\"");
+
+        // when
+        channel.writeOutbound(response);
+
+        // then
+        assertEquals(
+            "Accept-Encoding",
+            response.headers().get(HttpHeaderNames.VARY)
+        );
+        assertEquals("\"42-gzip\"", response.headers().get(HttpHeaderNames.ETAG));
+    }
+
+    @Test
+    void givenCompressibleResponseBelowThreshold_whenHeadersAreWritten_thenVariesAndKeepsTheETag() {
+        // given
+        request("gzip");
+        HttpResponse response = response("application/json");
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 100);
+        response.headers().set(HttpHeaderNames.ETAG, "\"42\"");
+
+        // when
+        channel.writeOutbound(response);
+
+        // then
+        assertEquals(
+            "Accept-Encoding",
+            response.headers().get(HttpHeaderNames.VARY)
+        );
+        assertEquals("\"42\"", response.headers().get(HttpHeaderNames.ETAG));
+    }
+
+    @Test
+    void givenValidatorOfCompressedBody_whenNotModified_thenApplicationSeesTheTagAndClientGetsItBack() {
+        // given
+        HttpRequest request = request("gzip", "\"41-gzip\", \"42-gzip\"");
+        HttpResponse response = new DefaultHttpResponse(
+            HttpVersion.HTTP_1_1,
+            HttpResponseStatus.NOT_MODIFIED
+        );
+        response.headers().set(HttpHeaderNames.ETAG, "\"42\"");
+
+        // when
+        channel.writeOutbound(response);
+
+        // then
+        assertEquals(
+            "\"41\", \"42\"",
+            request.headers().get(HttpHeaderNames.IF_NONE_MATCH)
+        );
+        assertEquals("\"42-gzip\"", response.headers().get(HttpHeaderNames.ETAG));
+        assertEquals(
+            "Accept-Encoding",
+            response.headers().get(HttpHeaderNames.VARY)
+        );
+    }
+
+    @Test
+    void givenCompressedResponse_whenItCompletes_thenRecordsSizesRatioAndTime() {
+        // given
+        request("gzip");
+
+        // when
+        channel.writeOutbound(response("application/json"));
+        channel.writeOutbound(Unpooled.copiedBuffer(LINE.repeat(50), StandardCharsets.UTF_8));
+        channel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT);
+        int compressed = body().length;
+
+        // then
+        assertEquals(
+            LINE.length() * 50.0,
+            bytes("gzip", "uncompressed")
+        );
+        assertEquals(compressed, bytes("gzip", "compressed"));
+        assertEquals(
+            LINE.length() * 50.0 / compressed,
+            meterRegistry
+                .get(ResponseCompressor.RATIO_METRIC)
+                .tag("encoding", "gzip")
+                .summary()
+                .mean()
+        );
+        assertEquals(
+            1,
+            meterRegistry
+                .get(ResponseCompressor.TIME_METRIC)
+                .tag("encoding", "gzip")
+                .timer()
+                .count()
+        );
+    }
+
+    private void request(String acceptEncoding) {
+        request(acceptEncoding, null);
+    }
+
+    // The request as the next handler sees it
+    private HttpRequest request(String acceptEncoding, String ifNoneMatch) {
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1,
+            HttpMethod.GET,
+            "/employees"
+        );
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        if (ifNoneMatch != null) {
+            request.headers().set(HttpHeaderNames.IF_NONE_MATCH, ifNoneMatch);
+        }
+        channel.writeInbound(request);
+        HttpRequest received = channel.readInbound();
+        ReferenceCountUtil.release(received);
+        return received;
+    }
+
+    private static HttpResponse response(String contentType) {
+        HttpResponse response = new DefaultHttpResponse(
+            HttpVersion.HTTP_1_1,
+            HttpResponseStatus.OK
+        );
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        response.headers().set(HttpHeaderNames.TRANSFER_ENCODING, "chunked");
+        return response;
+    }
+
+    // Body bytes written to the wire since the last call
+    private byte[] body() {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            if (msg instanceof HttpContent content) {
+                ByteBuf buffer = content.content();
+                byte[] bytes = new byte[buffer.readableBytes()];
+                buffer.readBytes(bytes);
+                body.writeBytes(bytes);
+                content.release();
+            }
+        }
+        return body.toByteArray();
+    }
+
+    private double bytes(String encoding, String type) {
+        return meterRegistry
+            .get(ResponseCompressor.BYTES_METRIC)
+            .tag("encoding", encoding)
+            .tag("type", type)
+            .counter()
+            .count();
+    }
+
+    private static InputStream concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.writeBytes(first);
+        bytes.writeBytes(second);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static String decompress(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
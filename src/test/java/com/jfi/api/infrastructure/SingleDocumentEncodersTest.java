@@ -0,0 +1,93 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class SingleDocumentEncodersTest {
+
+    ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    record Item(String name) {}
+
+    @Test
+    void givenFlux_whenEncodedAsCbor_thenWritesOneArrayDocument()
+        throws IOException {
+        // when
+        byte[] body = encode(
+            new SingleDocumentEncoders.Cbor(cborMapper),
+            Flux.just(new Item("a"), new Item("b")),
+            MediaType.APPLICATION_CBOR
+        );
+
+        // then
+        JsonNode items = cborMapper.readTree(body);
+        assertEquals(2, items.size());
+        assertEquals("b", items.get(1).get("name").asText());
+    }
+
+    @Test
+    void givenMono_whenEncodedAsSmile_thenWritesTheValue() throws IOException {
+        // when
+        byte[] body = encode(
+            new SingleDocumentEncoders.Smile(smileMapper),
+            Mono.just(new Item("a")),
+            BinaryCodecConfiguration.APPLICATION_SMILE
+        );
+
+        // then
+        assertEquals("a", smileMapper.readTree(body).get("name").asText());
+    }
+
+    @Test
+    void givenJsonMapperCopy_whenEncodabilityIsChecked_thenDoesNotClaimJson() {
+        // given
+        SingleDocumentEncoders.Cbor encoder = new SingleDocumentEncoders.Cbor(
+            new ObjectMapper().copyWith(new CBORFactory())
+        );
+
+        // when / then
+        assertFalse(
+            encoder.canEncode(
+                ResolvableType.forClass(Item.class),
+                MediaType.APPLICATION_JSON
+            )
+        );
+    }
+
+    private static byte[] encode(
+        Encoder<Object> encoder,
+        Publisher<?> input,
+        MediaType mediaType
+    ) {
+        DataBuffer buffer = DataBufferUtils.join(
+            encoder.encode(
+                input,
+                DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(Item.class),
+                mediaType,
+                null
+            )
+        ).block();
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+}
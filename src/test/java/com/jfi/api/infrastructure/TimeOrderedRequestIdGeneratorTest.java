@@ -0,0 +1,59 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedRequestIdGeneratorTest {
+
+    @Test
+    void givenGenerator_whenIdIsGenerated_thenIsVersion7Uuid() {
+        // given
+        TimeOrderedRequestIdGenerator generator =
+            new TimeOrderedRequestIdGenerator(() -> 1_700_000_000_000L);
+
+        // when
+        UUID id = UUID.fromString(generator.generate());
+
+        // then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(1_700_000_000_000L, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void givenSameMillisecond_whenIdsAreGenerated_thenIdsIncrease() {
+        // given
+        TimeOrderedRequestIdGenerator generator =
+            new TimeOrderedRequestIdGenerator(() -> 1_700_000_000_000L);
+        String previous = generator.generate();
+
+        // when / then
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.generate();
+            assertTrue(
+                next.compareTo(previous) > 0,
+                next + " should sort after " + previous
+            );
+            previous = next;
+        }
+    }
+
+    @Test
+    void givenClockGoesBackwards_whenIdIsGenerated_thenIdStillIncreases() {
+        // given
+        long[] now = { 1_700_000_000_000L };
+        TimeOrderedRequestIdGenerator generator =
+            new TimeOrderedRequestIdGenerator(() -> now[0]);
+        String before = generator.generate();
+
+        // when
+        now[0] -= 1_000;
+        String after = generator.generate();
+
+        // then
+        assertTrue(after.compareTo(before) > 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.jfi.api.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class TimedConnectionPoolTest {
+
+    FakeConnectionFactory connectionFactory;
+    SimpleMeterRegistry meterRegistry;
+    TimedConnectionPool pool;
+
+    @BeforeEach
+    void setup() {
+        connectionFactory = new FakeConnectionFactory();
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new TimedConnectionPool(
+            "test",
+            ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(0)
+                .maxSize(2)
+                .acquireRetry(0)
+                .build(),
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.dispose();
+    }
+
+    @Test
+    void givenDatabaseIsUp_whenConnectionIsAcquired_thenAcquireIsTimed() {
+        // when
+        StepVerifier.create(pool.create()).expectNextCount(1).verifyComplete();
+
+        // then
+        assertEquals(1, timer("success").count());
+        assertEquals(0, timer("failure").count());
+    }
+
+    @Test
+    void givenDatabaseIsDown_whenConnectionIsAcquired_thenFailedAcquireIsTimed() {
+        // given
+        connectionFactory.setAvailable(false);
+
+        // when
+        StepVerifier.create(pool.create()).expectError().verify();
+
+        // then
+        assertEquals(0, timer("success").count());
+        assertEquals(1, timer("failure").count());
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry
+            .get(TimedConnectionPool.ACQUIRE_METRIC)
+            .tag("name", "test")
+            .tag("outcome", outcome)
+            .timer();
+    }
+}